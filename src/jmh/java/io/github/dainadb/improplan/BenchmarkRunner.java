@@ -0,0 +1,36 @@
+package io.github.dainadb.improplan;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de los benchmarks JMH del perfil "benchmark" de Maven.
+ * <p>
+ * Los resultados se escriben en JSON e incluyen el perfilador de GC, de modo que cada ejecución
+ * deja las operaciones por segundo y los bytes asignados por operación (gc.alloc.rate.norm)
+ * para poder compararlos entre versiones.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * @param args [0] expresión regular de los benchmarks a ejecutar (por defecto todos),
+     *             [1] fichero de resultados (por defecto jmh-result.json).
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        String resultFile = args.length > 1 ? args[1] : "jmh-result.json";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+
+        new Runner(options).run();
+    }
+}
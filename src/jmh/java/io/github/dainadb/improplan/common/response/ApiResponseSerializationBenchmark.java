@@ -0,0 +1,97 @@
+package io.github.dainadb.improplan.common.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.dainadb.improplan.domain.event.dto.EventResponseDto;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Mide la serialización a JSON de ApiResponse con la misma librería (Jackson) que usa Spring MVC:
+ * un evento suelto, una página de 20 eventos completos y la misma página con el DTO reducido de los listados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private JsonMapper jsonMapper;
+    private ApiResponse<EventResponseDto> single;
+    private ApiResponse<List<EventResponseDto>> list;
+    private ApiResponse<List<EventSummaryDto>> summaryList;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        single = new ApiResponse<>(buildEvent(1L), "Evento encontrado.");
+        List<EventResponseDto> events = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            events.add(buildEvent(id));
+        }
+        list = new ApiResponse<>(events, "Eventos encontrados.");
+        summaryList = new ApiResponse<>(events.stream().map(this::toSummary).toList(), "Eventos encontrados.");
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() {
+        return jsonMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryList() {
+        return jsonMapper.writeValueAsBytes(summaryList);
+    }
+
+    private EventResponseDto buildEvent(Long id) {
+        EventResponseDto dto = new EventResponseDto();
+        dto.setId(id);
+        dto.setName("Concierto " + id);
+        dto.setSummary("Resumen del evento");
+        dto.setDescription("Descripción larga del evento ".repeat(20));
+        dto.setPlaceName("Plaza Mayor");
+        dto.setAddress("Calle Falsa 123");
+        dto.setLatitude(new BigDecimal("40.41677500"));
+        dto.setLongitude(new BigDecimal("-3.70379000"));
+        dto.setImage("https://img.example.com/a.png");
+        dto.setInfoUrl("https://example.com");
+        dto.setIsFree(false);
+        dto.setPrice(new BigDecimal("12.50"));
+        dto.setInTime(true);
+        dto.setStatus(StatusType.PUBLISHED);
+        dto.setMunicipalityName("Madrid");
+        dto.setThemeName("Música");
+        dto.setEventDates(Set.of(LocalDate.of(2030, 5, 1), LocalDate.of(2030, 5, 2)));
+        return dto;
+    }
+
+    private EventSummaryDto toSummary(EventResponseDto event) {
+        return new EventSummaryDto(event.getId(), event.getName(), event.getSummary(), event.getImage(),
+                event.getIsFree(), event.getPrice(), event.getMunicipalityName(), event.getThemeName(),
+                event.getEventDates());
+    }
+}
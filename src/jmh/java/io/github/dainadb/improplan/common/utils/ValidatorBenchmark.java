@@ -0,0 +1,66 @@
+package io.github.dainadb.improplan.common.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide Validator.isValidEmail e isValidUrl con entradas válidas, inválidas y patológicas para el backtracking,
+ * junto a la implementación anterior (Pattern.matches, que compila la expresión en cada llamada) como referencia.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private static final String LEGACY_EMAIL_REGEX =
+            "^([0-9a-zA-Z]([-.\\w]*[0-9a-zA-Z])*@([0-9a-zA-Z][-\\w]*[0-9a-zA-Z]\\.)+[a-zA-Z]{2,9})$";
+    private static final String LEGACY_URL_REGEX = "^(https?|ftp)://[^\\s/$.?#].[^\\s]*$";
+
+    @State(Scope.Benchmark)
+    public static class EmailInput {
+        @Param({ "ana.garcia@example.com", "usuario@dominio", "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!",
+                "a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a-a!" })
+        public String email;
+    }
+
+    @State(Scope.Benchmark)
+    public static class UrlInput {
+        @Param({ "https://www.example.com/eventos?id=42", "htp:/mal", "https://example.com." })
+        public String url;
+    }
+
+    @Benchmark
+    public boolean isValidEmail(EmailInput input) {
+        return Validator.isValidEmail(input.email);
+    }
+
+    @Benchmark
+    public boolean isValidUrl(UrlInput input) {
+        return Validator.isValidUrl(input.url);
+    }
+
+    @Benchmark
+    public boolean isValidEmailLegacy(EmailInput input) {
+        String trimmed = input.email.trim();
+        return !trimmed.endsWith(".") && Pattern.matches(LEGACY_EMAIL_REGEX, trimmed);
+    }
+
+    @Benchmark
+    public boolean isValidUrlLegacy(UrlInput input) {
+        String trimmed = input.url.trim();
+        return !trimmed.endsWith(".") && Pattern.matches(LEGACY_URL_REGEX, trimmed);
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.dainadb.improplan.config;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+
+/**
+ * Compara la inserción de filas con IDs IDENTITY (un INSERT por fila, Hibernate no puede agruparlos)
+ * con IDs de un @TableGenerator pooled-lo y los lotes JDBC del perfil prod.
+ * <p>
+ * Se usa H2 en modo MySQL como sustituto local de la BBDD, accedido por TCP para que cada sentencia tenga
+ * su viaje de ida y vuelta como con un servidor real. Cada operación inserta 500 filas y deshace la transacción,
+ * de modo que las tablas no crecen entre operaciones. Además del rendimiento se informa del número de sentencias
+ * preparadas (statements) frente al de filas insertadas (rows).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBatchingBenchmark {
+
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    @Entity
+    @Table(name = "identity_rows")
+    public static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        String name;
+    }
+
+    @Entity
+    @Table(name = "pooled_rows")
+    public static class PooledRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_row_id")
+        @TableGenerator(name = "pooled_row_id", table = "id_generators", pkColumnName = "entity_name",
+                valueColumnName = "last_id", pkColumnValue = "pooled_rows", allocationSize = 50)
+        Long id;
+        String name;
+    }
+
+    /**
+     * Contadores secundarios que JMH añade a los resultados.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounters {
+        public long statements;
+        public long rows;
+    }
+
+    private Connection database;
+    private Server server;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() throws SQLException {
+        //La BBDD en memoria se crea en este proceso (el servidor TCP no permite crearla en remoto)
+        database = DriverManager.getConnection("jdbc:h2:mem:insert_batching;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        server = Server.createTcpServer("-tcpPort", "0").start();
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class)
+                .setProperty("hibernate.connection.url",
+                        "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:insert_batching;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.generate_statistics", "true")
+                .setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+                //Mismos valores que application-prod.properties
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        sessionFactory.close();
+        server.stop();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void identityInserts(StatementCounters counters) {
+        insertAndRollback(counters, i -> {
+            IdentityRow row = new IdentityRow();
+            row.name = "fila " + i;
+            return row;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void pooledBatchedInserts(StatementCounters counters) {
+        insertAndRollback(counters, i -> {
+            PooledRow row = new PooledRow();
+            row.name = "fila " + i;
+            return row;
+        });
+    }
+
+    private void insertAndRollback(StatementCounters counters, IntFunction<Object> rowFactory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                session.persist(rowFactory.apply(i));
+            }
+            session.flush();
+            transaction.rollback();
+        }
+        counters.statements += statistics.getPrepareStatementCount() - before;
+        counters.rows += ROWS_PER_TRANSACTION;
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.dainadb.improplan.config;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.dainadb.improplan.domain.event.dto.EventResponseDto;
+import io.github.dainadb.improplan.domain.event.entity.Event;
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.event.mapper.EventMapper;
+import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
+import io.github.dainadb.improplan.domain.favorite.dto.FavoriteResponseDto;
+import io.github.dainadb.improplan.domain.favorite.entity.Favorite;
+import io.github.dainadb.improplan.domain.favorite.mapper.FavoriteMapper;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.role.entity.Role;
+import io.github.dainadb.improplan.domain.role.entity.Role.RoleType;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
+import io.github.dainadb.improplan.domain.user.entity.User;
+import io.github.dainadb.improplan.domain.user.mapper.UserMapper;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Compara los mapeos de ModelMapperConfig (reflexión) con los conversores escritos a mano
+ * para Event, Favorite y User.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private FavoriteMapper favoriteMapper;
+    private UserMapper userMapper;
+
+    private Event event;
+    private Favorite favorite;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        //Un CompositeMeterRegistry sin registros da temporizadores que no miden nada: queda solo el coste de ModelMapper
+        modelMapper = new ModelMapperConfig().modelMapper(new CompositeMeterRegistry());
+        eventMapper = new EventMapper();
+        favoriteMapper = new FavoriteMapper();
+        userMapper = new UserMapper();
+
+        user = User.builder()
+                .id(21L)
+                .email("luis@example.com")
+                .name("Luis")
+                .surnames("García López")
+                .password("$2a$10$hash")
+                .registrationDate(LocalDateTime.of(2024, 3, 4, 5, 6))
+                .enabled(true)
+                .roles(new HashSet<>(Set.of(
+                        Role.builder().id(1).name(RoleType.ROLE_USER).description("Usuario").build(),
+                        Role.builder().id(2).name(RoleType.ROLE_ADMIN).description("Administrador").build())))
+                .build();
+
+        event = Event.builder()
+                .id(7L)
+                .name("Concierto")
+                .summary("Resumen")
+                .description("Descripción larga del evento")
+                .placeName("Plaza Mayor")
+                .address("Calle Falsa 123")
+                .latitude(new BigDecimal("40.41677500"))
+                .longitude(new BigDecimal("-3.70379000"))
+                .image("https://img.example.com/a.png")
+                .infoUrl("https://example.com")
+                .isFree(false)
+                .price(new BigDecimal("12.50"))
+                .inTime(true)
+                .status(StatusType.PUBLISHED)
+                .municipality(Municipality.builder().id(1).name("Madrid").build())
+                .theme(Theme.builder().id(2).name("Música").build())
+                .user(user)
+                .dates(new HashSet<>(Set.of(
+                        EventDate.builder().id(1L).fullDate(LocalDate.of(2030, 5, 1)).build(),
+                        EventDate.builder().id(2L).fullDate(LocalDate.of(2030, 5, 2)).build(),
+                        EventDate.builder().id(3L).fullDate(LocalDate.of(2030, 5, 3)).build())))
+                .build();
+
+        favorite = Favorite.builder()
+                .id(11L)
+                .favoriteDate(LocalDateTime.of(2030, 1, 2, 10, 30))
+                .user(user)
+                .event(event)
+                .build();
+    }
+
+    @Benchmark
+    public EventResponseDto eventModelMapper() {
+        return modelMapper.map(event, EventResponseDto.class);
+    }
+
+    @Benchmark
+    public EventResponseDto eventHandWritten() {
+        return eventMapper.toResponseDto(event);
+    }
+
+    @Benchmark
+    public FavoriteResponseDto favoriteModelMapper() {
+        return modelMapper.map(favorite, FavoriteResponseDto.class);
+    }
+
+    @Benchmark
+    public FavoriteResponseDto favoriteHandWritten() {
+        return favoriteMapper.toResponseDto(favorite);
+    }
+
+    @Benchmark
+    public UserResponseDto userModelMapper() {
+        return modelMapper.map(user, UserResponseDto.class);
+    }
+
+    @Benchmark
+    public UserResponseDto userHandWritten() {
+        return userMapper.toResponseDto(user);
+    }
+}
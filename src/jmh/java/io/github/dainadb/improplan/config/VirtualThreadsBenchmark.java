@@ -0,0 +1,202 @@
+package io.github.dainadb.improplan.config;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.github.dainadb.improplan.common.concurrent.ConnectionAdmissionDataSource;
+import io.github.dainadb.improplan.common.concurrent.OffloadedPasswordEncoder;
+import io.github.dainadb.improplan.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Prueba de carga de los dos modos de atender peticiones: el pool de Tomcat (200 hilos, su máximo por defecto)
+ * y un hilo virtual por petición, cada uno con y sin {@link ConnectionAdmissionDataSource} delante del pool.
+ * <p>
+ * Las piezas son las de producción: un pool Hikari con el tamaño y el connection-timeout de application-prod
+ * (envuelto con {@link VirtualThreadsConfig#admit(HikariDataSource)} cuando el límite está activo), H2 en modo MySQL
+ * por TCP para que cada consulta tenga su viaje de ida y vuelta, y BCrypt en el {@link OffloadedPasswordEncoder}.
+ * Cada operación lanza una ráfaga de peticiones: una de cada quinientas es un inicio de sesión (busca el usuario y
+ * comprueba la contraseña), una de cada diez busca eventos y el resto solo espera E/S (10 ms, como enviar la respuesta
+ * a un cliente lento, lo único que no se puede reproducir en local). El resultado son peticiones por segundo; además se
+ * cuentan las que fallan por agotar la espera de conexión (timeouts) o por la cola de BCrypt llena (rejected).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadsBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int EVENTS = 20_000;
+    private static final int USERS = 5000;
+    private static final long IO_MILLIS = 10;
+
+    //Mismos valores que application-prod.properties y application.properties
+    private static final int POOL_SIZE = 20;
+    private static final long CONNECTION_TIMEOUT_MILLIS = 5000;
+    private static final int HASHING_QUEUE = 32;
+
+    private static final String LOGIN_QUERY = "SELECT password FROM users WHERE email = ?";
+    private static final String EVENTS_QUERY =
+            "SELECT id, name FROM events WHERE status = 'PUBLISHED' AND municipality_id = ? ORDER BY id DESC LIMIT 20";
+
+    @Param({ "platform", "virtual" })
+    public String threads;
+
+    @Param({ "on", "off" })
+    public String admission;
+
+    /**
+     * Contadores secundarios que JMH añade a los resultados.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FailureCounters {
+        public long timeouts;
+        public long rejected;
+    }
+
+    private Connection database;
+    private Server server;
+    private HikariDataSource hikari;
+    private DataSource dataSource;
+    private OffloadedPasswordEncoder passwordEncoder;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws SQLException {
+        //La BBDD en memoria se crea en este proceso (el servidor TCP no permite crearla en remoto)
+        database = DriverManager.getConnection("jdbc:h2:mem:virtual_threads;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        String hash = new BCryptPasswordEncoder().encode("x");
+        try (Statement statement = database.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS events (id BIGINT PRIMARY KEY, name VARCHAR(100), "
+                    + "status VARCHAR(20), municipality_id BIGINT)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_events_municipality ON events (municipality_id, status)");
+            statement.execute("MERGE INTO events SELECT X, CONCAT('Evento ', X), "
+                    + "CASE WHEN MOD(X, 10) = 0 THEN 'PENDING' ELSE 'PUBLISHED' END, MOD(X, 100) + 1 "
+                    + "FROM SYSTEM_RANGE(1, " + EVENTS + ")");
+            statement.execute("CREATE TABLE IF NOT EXISTS users (id BIGINT PRIMARY KEY, "
+                    + "email VARCHAR(100) UNIQUE, password VARCHAR(100))");
+            statement.execute("MERGE INTO users SELECT X, CONCAT('usuario', X, '@improplan.es'), '" + hash + "' "
+                    + "FROM SYSTEM_RANGE(1, " + USERS + ")");
+        }
+        server = Server.createTcpServer("-tcpPort", "0").start();
+
+        hikari = new HikariDataSource();
+        hikari.setJdbcUrl("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:virtual_threads;MODE=MySQL");
+        hikari.setMaximumPoolSize(POOL_SIZE);
+        hikari.setMinimumIdle(POOL_SIZE);
+        hikari.setConnectionTimeout(CONNECTION_TIMEOUT_MILLIS);
+        dataSource = admission.equals("on") ? VirtualThreadsConfig.admit(hikari) : hikari;
+
+        passwordEncoder = new OffloadedPasswordEncoder(new BCryptPasswordEncoder(),
+                Runtime.getRuntime().availableProcessors(), HASHING_QUEUE, Duration.ofSeconds(2),
+                new SimpleMeterRegistry());
+        executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        executor.shutdownNow();
+        passwordEncoder.close();
+        hikari.close();
+        server.stop();
+        database.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void burst(FailureCounters counters) throws Exception {
+        List<Future<?>> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            int request = i;
+            requests.add(executor.submit(() -> {
+                if (request % 500 == 0) {
+                    login("usuario" + (request % USERS + 1) + "@improplan.es");
+                } else if (request % 10 == 0) {
+                    searchEvents(request / 10 % 100 + 1);
+                } else {
+                    Thread.sleep(IO_MILLIS);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> request : requests) {
+            try {
+                request.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SQLTransientConnectionException) {
+                    counters.timeouts++;
+                } else if (e.getCause() instanceof ServiceUnavailableException) {
+                    counters.rejected++;
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    //Como el inicio de sesión: la conexión se devuelve antes de comprobar la contraseña
+    private void login(String email) throws SQLException {
+        String hash;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(LOGIN_QUERY)) {
+            statement.setString(1, email);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                hash = resultSet.getString(1);
+            }
+        }
+        passwordEncoder.matches("x", hash);
+    }
+
+    private void searchEvents(long municipalityId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(EVENTS_QUERY)) {
+            statement.setLong(1, municipalityId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getString(2);
+                }
+            }
+        }
+    }
+}
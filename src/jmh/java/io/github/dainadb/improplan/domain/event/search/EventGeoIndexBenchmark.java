@@ -0,0 +1,104 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+
+/**
+ * Mide una búsqueda de eventos cercanos con un número grande de eventos sintéticos repartidos por Andalucía
+ * (la mitad concentrados alrededor de las capitales de provincia).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class EventGeoIndexBenchmark {
+
+    private static final double[][] CITIES = {
+            { 36.7213, -4.4214 }, { 37.3891, -5.9845 }, { 37.8882, -4.7794 }, { 37.1773, -3.5986 },
+            { 36.5271, -6.2886 }, { 36.8340, -2.4637 }, { 37.2614, -6.9447 }, { 37.7796, -3.7849 } };
+    private static final String[] THEMES = { "Música", "Teatro", "Gastronomía", "Deporte", "Cine" };
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 6, 1);
+
+    @Param({ "300000" })
+    public int events;
+
+    @Param({ "5", "25" })
+    public double radiusKm;
+
+    private EventGeoIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<EventGeoDocument> documents = new ArrayList<>(events);
+        List<EventDateLink> links = new ArrayList<>();
+        for (long id = 1; id <= events; id++) {
+            double lat;
+            double lon;
+            if (random.nextBoolean()) {
+                double[] city = CITIES[random.nextInt(CITIES.length)];
+                lat = city[0] + random.nextGaussian() * 0.05;
+                lon = city[1] + random.nextGaussian() * 0.05;
+            } else {
+                lat = 36.0 + random.nextDouble() * 2.5;
+                lon = -7.5 + random.nextDouble() * 5.7;
+            }
+            documents.add(new EventGeoDocument(id, BigDecimal.valueOf(lat), BigDecimal.valueOf(lon),
+                    THEMES[random.nextInt(THEMES.length)], BigDecimal.valueOf(random.nextInt(60))));
+            links.add(new EventDateLink(id, FIRST_DAY.plusDays(random.nextInt(90))));
+        }
+
+        IEventRepository repository = (IEventRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IEventRepository.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "findGeoDocumentsAfter" -> {
+                        int from = (int) (long) (Long) args[0];
+                        int size = ((Pageable) args[1]).getPageSize();
+                        yield documents.subList(Math.min(from, documents.size()), Math.min(from + size, documents.size()));
+                    }
+                    case "findDateLinksByEventIdIn" -> {
+                        Set<?> ids = new HashSet<>((Collection<?>) args[0]);
+                        yield links.stream().filter(link -> ids.contains(link.eventId())).toList();
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        index = new EventGeoIndex();
+        ReflectionTestUtils.setField(index, "eventRepository", repository);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<Long> nearby() {
+        return index.findNearby(36.7213, -4.4214, radiusKm, null, null, null, 20);
+    }
+
+    @Benchmark
+    public List<Long> nearbyWithFilters() {
+        return index.findNearby(36.7213, -4.4214, radiusKm, "musica", new BigDecimal("30"), FIRST_DAY.plusDays(10), 20);
+    }
+}
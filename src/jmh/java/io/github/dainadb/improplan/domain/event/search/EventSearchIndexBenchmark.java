@@ -0,0 +1,86 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+
+/**
+ * Mide el tiempo de una búsqueda en el índice invertido con un número grande de eventos sintéticos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class EventSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "concierto", "feria", "ruta", "teatro", "jazz", "flamenco", "mercado", "exposición", "taller", "festival",
+            "cine", "danza", "museo", "noche", "verano", "infantil", "gastronomía", "vino", "rock", "poesía" };
+    private static final String[] PLACES = {
+            "Málaga", "Sevilla", "Córdoba", "Granada", "Cádiz", "Almería", "Huelva", "Jaén", "Madrid", "Valencia" };
+
+    @Param({ "200000" })
+    public int events;
+
+    @Param({ "concierto", "conci mal", "festival jazz sevilla" })
+    public String query;
+
+    private EventSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        List<EventSearchDocument> documents = generate(events);
+        IEventRepository repository = (IEventRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { IEventRepository.class }, (proxy, method, args) -> {
+                    if (!method.getName().equals("findSearchDocumentsAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    long lastId = (Long) args[0];
+                    int size = ((Pageable) args[1]).getPageSize();
+                    int from = (int) lastId;
+                    return documents.subList(Math.min(from, documents.size()), Math.min(from + size, documents.size()));
+                });
+        index = new EventSearchIndex();
+        ReflectionTestUtils.setField(index, "eventRepository", repository);
+        index.rebuild();
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 20, true);
+    }
+
+    private static List<EventSearchDocument> generate(int count) {
+        Random random = new Random(42);
+        List<EventSearchDocument> documents = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+            String summary = WORDS[random.nextInt(WORDS.length)] + " en " + PLACES[random.nextInt(PLACES.length)];
+            String place = "Plaza " + PLACES[random.nextInt(PLACES.length)];
+            StatusType status = random.nextInt(10) < 8 ? StatusType.PUBLISHED : StatusType.PENDING;
+            documents.add(new EventSearchDocument(id, name, summary, place, status, true));
+        }
+        return documents;
+    }
+}
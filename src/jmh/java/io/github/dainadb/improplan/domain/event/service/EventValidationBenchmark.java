@@ -0,0 +1,59 @@
+package io.github.dainadb.improplan.domain.event.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
+
+/**
+ * Mide la validación de la solicitud de evento que se ejecuta en cada alta y modificación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventValidationBenchmark {
+
+    private EventRequestValidator validator;
+    private EventRequestDto request;
+
+    @Setup
+    public void setUp() {
+        validator = new EventRequestValidator();
+        LocalDate base = LocalDate.now().plusDays(10);
+        request = EventRequestDto.builder()
+                .name("Concierto")
+                .summary("Resumen")
+                .description("Descripción larga del evento")
+                .placeName("Plaza Mayor")
+                .address("Calle Falsa 123")
+                .infoUrl("https://www.example.com/eventos/concierto")
+                .isFree(false)
+                .price(new BigDecimal("12.50"))
+                .municipalityName("Madrid")
+                .themeName("Música")
+                .eventDates(Set.of(base, base.plusDays(1), base.plusDays(2)))
+                .build();
+    }
+
+    @Benchmark
+    public EventRequestDto validateEventRequest() {
+        validator.validate(request);
+        return request;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.dainadb.improplan.common.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evento de aplicación que se publica cuando se crean, modifican, publican, descartan, caducan o eliminan eventos.
+ * Los índices en memoria de eventos lo escuchan para volver a leer de la BBDD solo los eventos afectados.
+ *
+ * @param eventIds IDs de los eventos modificados.
+ */
+public record EventChangedEvent(Collection<Long> eventIds) {
+
+    /**
+     * @param eventId ID del evento modificado.
+     * @return el evento de aplicación para un solo evento.
+     */
+    public static EventChangedEvent of(Long eventId) {
+        return new EventChangedEvent(List.of(eventId));
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.dainadb.improplan.common.cache;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
+import io.github.dainadb.improplan.domain.eventdate.repository.IEventDateRepository;
+
+/**
+ * Diccionario en memoria de día (epoch-day) → id_date de la tabla event_dates.
+ * <p>
+ * Cada día del calendario existe una sola vez en event_dates y su ID no cambia nunca, así que se puede
+ * guardar en memoria sin invalidación. Se usa un array de longs indexado por día dentro de una ventana fija
+ * (desde {@code past-days} días antes del arranque, {@code days} días en total): la memoria está acotada,
+ * no hay objetos por entrada y las lecturas y escrituras no usan bloqueos.
+ * Los días fuera de la ventana no se guardan y se resuelven consultando la BBDD.
+ */
+@Component
+public class EventDateDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDateDictionary.class);
+
+    /** Valor que indica que el día no está en el diccionario (los IDs autoincrementales empiezan en 1). */
+    public static final long UNKNOWN = 0L;
+
+    @Autowired
+    private IEventDateRepository eventDateRepository;
+
+    @Value("${improplan.cache.warm-up:true}")
+    private boolean warmUp;
+
+    private final long firstEpochDay;
+    private final AtomicLongArray ids;
+
+    public EventDateDictionary(@Value("${improplan.cache.event-dates.past-days:365}") int pastDays,
+                               @Value("${improplan.cache.event-dates.days:4096}") int days) {
+        this.firstEpochDay = LocalDate.now().toEpochDay() - pastDays;
+        this.ids = new AtomicLongArray(days);
+    }
+
+    /**
+     * Precarga los días de la ventana al arrancar la aplicación. Si la BBDD no está disponible se irá llenando con el uso.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            LocalDate from = LocalDate.ofEpochDay(firstEpochDay);
+            LocalDate to = LocalDate.ofEpochDay(firstEpochDay + ids.length() - 1);
+            int loaded = 0;
+            for (EventDate eventDate : eventDateRepository.findByFullDateBetween(from, to)) {
+                put(eventDate.getFullDate(), eventDate.getId());
+                loaded++;
+            }
+            log.info("Diccionario de fechas cargado: {} días en {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("No se ha podido precargar el diccionario de fechas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param date Día a buscar.
+     * @return el id_date del día, o {@link #UNKNOWN} si no está en el diccionario.
+     */
+    public long find(LocalDate date) {
+        int index = indexOf(date);
+        return index < 0 ? UNKNOWN : ids.get(index);
+    }
+
+    /**
+     * Guarda el id_date de un día. Los días fuera de la ventana se ignoran.
+     * @param date Día.
+     * @param id id_date del día en event_dates.
+     */
+    public void put(LocalDate date, Long id) {
+        int index = indexOf(date);
+        if (index >= 0 && id != null) {
+            ids.set(index, id);
+        }
+    }
+
+    private int indexOf(LocalDate date) {
+        if (date == null) {
+            return -1;
+        }
+        long offset = date.toEpochDay() - firstEpochDay;
+        return offset >= 0 && offset < ids.length() ? (int) offset : -1;
+    }
+}
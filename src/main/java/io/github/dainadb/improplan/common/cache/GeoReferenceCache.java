@@ -0,0 +1,357 @@
+package io.github.dainadb.improplan.common.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
+import io.github.dainadb.improplan.domain.autonomouscommunity.entity.AutonomousCommunity;
+import io.github.dainadb.improplan.domain.autonomouscommunity.repository.IAutonomousCommunityRepository;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.municipality.repository.IMunicipalityRepository;
+import io.github.dainadb.improplan.domain.province.entity.Province;
+import io.github.dainadb.improplan.domain.province.repository.IProvinceRepository;
+
+/**
+ * Caché en memoria de la jerarquía geográfica (comunidades autónomas, provincias y municipios).
+ * <p>
+ * Estos datos se cargan en la BBDD de forma previa y apenas cambian, así que se mantiene en memoria una
+ * instantánea inmutable indexada por ID, por nombre normalizado y por padre (comunidad → provincias, provincia → municipios).
+ * Las consultas no acceden a la BBDD. Cuando el CRUD genérico modifica alguna de estas entidades se construye
+ * una instantánea nueva y se sustituye de forma atómica; los lectores nunca ven un índice a medio construir.
+ */
+@Component
+public class GeoReferenceCache {
+
+    private static final Logger log = LoggerFactory.getLogger(GeoReferenceCache.class);
+
+    /**
+     * Datos de una comunidad autónoma guardados en la caché.
+     */
+    public record CommunityRef(Integer id, String name) {
+    }
+
+    /**
+     * Datos de una provincia guardados en la caché.
+     */
+    public record ProvinceRef(Integer id, String name, BigDecimal latitude, BigDecimal longitude,
+                              Integer communityId, String communityName) {
+    }
+
+    /**
+     * Datos de un municipio guardados en la caché.
+     */
+    public record MunicipalityRef(Integer id, String name, BigDecimal latitude, BigDecimal longitude,
+                                  Integer provinceId, String provinceName) {
+    }
+
+    //Instantánea inmutable de todos los índices. Se reemplaza entera en cada recarga.
+    private record Snapshot(
+            List<CommunityRef> communities,
+            List<ProvinceRef> provinces,
+            List<MunicipalityRef> municipalities,
+            List<String> communityKeys,
+            List<String> municipalityKeys,
+            Map<Integer, CommunityRef> communitiesById,
+            Map<Integer, ProvinceRef> provincesById,
+            Map<Integer, MunicipalityRef> municipalitiesById,
+            Map<String, CommunityRef> communitiesByName,
+            Map<String, ProvinceRef> provincesByName,
+            Map<String, MunicipalityRef> municipalitiesByName,
+            Map<Integer, List<ProvinceRef>> provincesByCommunity,
+            Map<Integer, List<MunicipalityRef>> municipalitiesByProvince) {
+    }
+
+    @Autowired
+    private IAutonomousCommunityRepository autCommunityRepository;
+
+    @Autowired
+    private IProvinceRepository provinceRepository;
+
+    @Autowired
+    private IMunicipalityRepository municipalityRepository;
+
+    @Value("${improplan.cache.warm-up:true}")
+    private boolean warmUp;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    //CARGA Y RECARGA
+
+    /**
+     * Precarga la caché al arrancar la aplicación. Si la BBDD no está disponible se deja para la primera consulta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("No se ha podido precargar la caché geográfica, se cargará en la primera consulta: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recarga la caché cuando el CRUD genérico modifica una comunidad, provincia o municipio.
+     * Si la modificación va dentro de una transacción se espera a que se confirme.
+     * Se ejecuta antes que {@link ReferenceDataVersion}, que cambia el ETag de los endpoints públicos.
+     * @param event Evento con la clase de la entidad modificada.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        Class<?> type = event.entityType();
+        if (type == AutonomousCommunity.class || type == Province.class || type == Municipality.class) {
+            refresh();
+        }
+    }
+
+    /**
+     * Vuelve a leer la jerarquía de la BBDD y sustituye la instantánea actual.
+     */
+    public void refresh() {
+        long start = System.nanoTime();
+        Snapshot snapshot = load();
+        current.set(snapshot);
+        log.info("Caché geográfica cargada: {} comunidades, {} provincias y {} municipios en {} ms",
+                snapshot.communities().size(), snapshot.provinces().size(), snapshot.municipalities().size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            synchronized (this) { //Solo un hilo hace la carga perezosa; el resto espera y reutiliza el resultado
+                snapshot = current.get();
+                if (snapshot == null) {
+                    refresh();
+                    snapshot = current.get();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private Snapshot load() {
+        List<CommunityRef> communities = autCommunityRepository.findAll().stream()
+                .map(c -> new CommunityRef(c.getId(), c.getName()))
+                .sorted(Comparator.comparing(CommunityRef::id))
+                .toList();
+
+        List<ProvinceRef> provinces = provinceRepository.findAllWithAutonomousCommunity().stream()
+                .map(p -> {
+                    AutonomousCommunity community = p.getAutonomousCommunity();
+                    return new ProvinceRef(p.getId(), p.getName(), p.getLatitude(), p.getLongitude(),
+                            community != null ? community.getId() : null,
+                            community != null ? community.getName() : null);
+                })
+                .sorted(Comparator.comparing(ProvinceRef::id))
+                .toList();
+
+        List<MunicipalityRef> municipalities = municipalityRepository.findAllWithProvince().stream()
+                .map(m -> {
+                    Province province = m.getProvince();
+                    return new MunicipalityRef(m.getId(), m.getName(), m.getLatitude(), m.getLongitude(),
+                            province != null ? province.getId() : null,
+                            province != null ? province.getName() : null);
+                })
+                .sorted(Comparator.comparing(MunicipalityRef::id))
+                .toList();
+
+        Map<Integer, CommunityRef> communitiesById = new HashMap<>();
+        Map<String, CommunityRef> communitiesByName = new HashMap<>();
+        for (CommunityRef community : communities) {
+            communitiesById.put(community.id(), community);
+            communitiesByName.putIfAbsent(TextNormalizer.normalize(community.name()), community);
+        }
+
+        Map<Integer, ProvinceRef> provincesById = new HashMap<>();
+        Map<String, ProvinceRef> provincesByName = new HashMap<>();
+        Map<Integer, List<ProvinceRef>> provincesByCommunity = new HashMap<>();
+        for (ProvinceRef province : provinces) {
+            provincesById.put(province.id(), province);
+            provincesByName.putIfAbsent(TextNormalizer.normalize(province.name()), province);
+            if (province.communityId() != null) {
+                provincesByCommunity.computeIfAbsent(province.communityId(), k -> new ArrayList<>()).add(province);
+            }
+        }
+
+        //Si hay municipios con el mismo nombre, el índice por nombre se queda con el de menor ID
+        Map<Integer, MunicipalityRef> municipalitiesById = new HashMap<>();
+        Map<String, MunicipalityRef> municipalitiesByName = new HashMap<>();
+        Map<Integer, List<MunicipalityRef>> municipalitiesByProvince = new HashMap<>();
+        for (MunicipalityRef municipality : municipalities) {
+            municipalitiesById.put(municipality.id(), municipality);
+            municipalitiesByName.putIfAbsent(TextNormalizer.normalize(municipality.name()), municipality);
+            if (municipality.provinceId() != null) {
+                municipalitiesByProvince.computeIfAbsent(municipality.provinceId(), k -> new ArrayList<>()).add(municipality);
+            }
+        }
+
+        //Nombres normalizados en el mismo orden que las listas, para las búsquedas por "contiene"
+        List<String> communityKeys = communities.stream().map(c -> TextNormalizer.normalize(c.name())).toList();
+        List<String> municipalityKeys = municipalities.stream().map(m -> TextNormalizer.normalize(m.name())).toList();
+
+        return new Snapshot(communities, provinces, municipalities, communityKeys, municipalityKeys,
+                Map.copyOf(communitiesById), Map.copyOf(provincesById), Map.copyOf(municipalitiesById),
+                Map.copyOf(communitiesByName), Map.copyOf(provincesByName), Map.copyOf(municipalitiesByName),
+                copyOfLists(provincesByCommunity), copyOfLists(municipalitiesByProvince));
+    }
+
+    private static <T> Map<Integer, List<T>> copyOfLists(Map<Integer, List<T>> source) {
+        Map<Integer, List<T>> copy = new HashMap<>();
+        source.forEach((key, list) -> copy.put(key, List.copyOf(list)));
+        return Map.copyOf(copy);
+    }
+
+    //CONSULTAS: COMUNIDADES AUTÓNOMAS
+
+    /**
+     * @return todas las comunidades autónomas ordenadas por ID.
+     */
+    public List<CommunityRef> findAllCommunities() {
+        return snapshot().communities();
+    }
+
+    /**
+     * @param id ID de la comunidad autónoma.
+     * @return la comunidad autónoma con ese ID, si existe.
+     */
+    public Optional<CommunityRef> findCommunityById(Integer id) {
+        return Optional.ofNullable(id == null ? null : snapshot().communitiesById().get(id));
+    }
+
+    /**
+     * Busca la primera comunidad autónoma (por ID) cuyo nombre contiene el texto dado, sin distinguir mayúsculas ni tildes.
+     * @param name Texto a buscar.
+     * @return la comunidad autónoma encontrada, si existe.
+     */
+    public Optional<CommunityRef> findCommunityByNameContaining(String name) {
+        String key = TextNormalizer.normalize(name);
+        if (key == null) return Optional.empty();
+
+        Snapshot snapshot = snapshot();
+        CommunityRef exact = snapshot.communitiesByName().get(key);
+        if (exact != null) return Optional.of(exact);
+
+        List<String> keys = snapshot.communityKeys();
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i) != null && keys.get(i).contains(key)) {
+                return Optional.of(snapshot.communities().get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    //CONSULTAS: PROVINCIAS
+
+    /**
+     * @return todas las provincias ordenadas por ID.
+     */
+    public List<ProvinceRef> findAllProvinces() {
+        return snapshot().provinces();
+    }
+
+    /**
+     * @param id ID de la provincia.
+     * @return la provincia con ese ID, si existe.
+     */
+    public Optional<ProvinceRef> findProvinceById(Integer id) {
+        return Optional.ofNullable(id == null ? null : snapshot().provincesById().get(id));
+    }
+
+    /**
+     * @param name Nombre de la provincia (sin distinguir mayúsculas ni tildes).
+     * @return la provincia con ese nombre, si existe.
+     */
+    public Optional<ProvinceRef> findProvinceByName(String name) {
+        String key = TextNormalizer.normalize(name);
+        return Optional.ofNullable(key == null ? null : snapshot().provincesByName().get(key));
+    }
+
+    /**
+     * @param communityName Nombre de la comunidad autónoma (sin distinguir mayúsculas ni tildes).
+     * @return las provincias de esa comunidad ordenadas por ID, o una lista vacía si no existe.
+     */
+    public List<ProvinceRef> findProvincesByCommunityName(String communityName) {
+        String key = TextNormalizer.normalize(communityName);
+        Snapshot snapshot = snapshot();
+        CommunityRef community = key == null ? null : snapshot.communitiesByName().get(key);
+        if (community == null) return List.of();
+        return snapshot.provincesByCommunity().getOrDefault(community.id(), List.of());
+    }
+
+    //CONSULTAS: MUNICIPIOS
+
+    /**
+     * @return todos los municipios ordenados por ID.
+     */
+    public List<MunicipalityRef> findAllMunicipalities() {
+        return snapshot().municipalities();
+    }
+
+    /**
+     * @param id ID del municipio.
+     * @return el municipio con ese ID, si existe.
+     */
+    public Optional<MunicipalityRef> findMunicipalityById(Integer id) {
+        return Optional.ofNullable(id == null ? null : snapshot().municipalitiesById().get(id));
+    }
+
+    /**
+     * @param name Nombre del municipio (sin distinguir mayúsculas ni tildes).
+     * @return el municipio con ese nombre, si existe.
+     */
+    public Optional<MunicipalityRef> findMunicipalityByName(String name) {
+        String key = TextNormalizer.normalize(name);
+        return Optional.ofNullable(key == null ? null : snapshot().municipalitiesByName().get(key));
+    }
+
+    /**
+     * @param provinceName Nombre de la provincia (sin distinguir mayúsculas ni tildes).
+     * @return los municipios de esa provincia ordenados por ID, o una lista vacía si no existe.
+     */
+    public List<MunicipalityRef> findMunicipalitiesByProvinceName(String provinceName) {
+        String key = TextNormalizer.normalize(provinceName);
+        Snapshot snapshot = snapshot();
+        ProvinceRef province = key == null ? null : snapshot.provincesByName().get(key);
+        if (province == null) return List.of();
+        return snapshot.municipalitiesByProvince().getOrDefault(province.id(), List.of());
+    }
+
+    /**
+     * @param name Texto a buscar en el nombre de los municipios (sin distinguir mayúsculas ni tildes).
+     * @return los municipios cuyo nombre contiene el texto, ordenados por ID.
+     */
+    public List<MunicipalityRef> findMunicipalitiesByNameContaining(String name) {
+        String key = TextNormalizer.normalize(name);
+        if (key == null) return List.of();
+        Snapshot snapshot = snapshot();
+        List<String> keys = snapshot.municipalityKeys();
+        List<MunicipalityRef> result = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i) != null && keys.get(i).contains(key)) {
+                result.add(snapshot.municipalities().get(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.dainadb.improplan.common.cache;
+
+/**
+ * Evento de aplicación que se publica cuando se crea, modifica o elimina una entidad desde el CRUD genérico.
+ * Permite a las cachés de datos de referencia refrescarse sin que los servicios las conozcan.
+ *
+ * @param entityType Clase de la entidad modificada.
+ */
+public record ReferenceDataChangedEvent(Class<?> entityType) {
+}
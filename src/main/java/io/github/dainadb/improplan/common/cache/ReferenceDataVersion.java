@@ -0,0 +1,76 @@
+package io.github.dainadb.improplan.common.cache;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Versión de los datos de referencia (comunidades, provincias, municipios, temáticas y roles) para la caché HTTP.
+ * <p>
+ * Todos estos datos se modifican solo a través del CRUD genérico, que publica un {@link ReferenceDataChangedEvent}
+ * en cada escritura. Cada evento incrementa la versión, y con ella cambian el ETag y la fecha Last-Modified que
+ * devuelven los endpoints públicos: un cliente que ya tiene la versión actual recibe un 304 sin cuerpo.
+ * <p>
+ * La versión empieza en el instante de arranque, así que tras reiniciar la aplicación los clientes vuelven a descargar
+ * los datos una vez (y dos instancias distintas no comparten ETag, lo que solo provoca descargas de más).
+ */
+@Component
+public class ReferenceDataVersion {
+
+    /**
+     * Versión actual y momento en que se generó (redondeado a segundos, la precisión de la cabecera Last-Modified).
+     * Cada versión tiene un Last-Modified posterior al de la anterior, aunque se generen en el mismo segundo.
+     */
+    public record Stamp(long version, Instant lastModified) {
+
+        /**
+         * @return el ETag débil de esta versión (débil porque el cuerpo puede llegar comprimido o no).
+         */
+        public String etag() {
+            return "W/\"ref-" + version + "\"";
+        }
+    }
+
+    private final AtomicReference<Stamp> current =
+            new AtomicReference<>(new Stamp(Instant.now().toEpochMilli(), now()));
+
+    /**
+     * @return la versión actual. Se debe leer antes de consultar los datos, nunca después:
+     * así una respuesta puede llevar datos nuevos con un ETag antiguo (el cliente volverá a pedirlos),
+     * pero nunca datos antiguos con el ETag nuevo.
+     */
+    public Stamp current() {
+        return current.get();
+    }
+
+    /**
+     * Incrementa la versión cuando el CRUD genérico modifica un dato de referencia, una vez confirmada la transacción.
+     * Se ejecuta después del resto de listeners (p. ej. {@link GeoReferenceCache}) para que la versión nueva
+     * no se publique antes de que las cachés en memoria tengan los datos nuevos.
+     * @param event Evento con la clase de la entidad modificada.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        current.updateAndGet(ReferenceDataVersion::next);
+    }
+
+    /**
+     * Siguiente versión. Si la anterior se generó en este mismo segundo, su Last-Modified se adelanta un segundo:
+     * con la misma fecha, un cliente que solo envía If-Modified-Since recibiría un 304 con los datos ya cambiados.
+     */
+    static Stamp next(Stamp previous) {
+        Instant now = now();
+        Instant afterPrevious = previous.lastModified().plusSeconds(1);
+        return new Stamp(previous.version() + 1, now.isAfter(afterPrevious) ? now : afterPrevious);
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.dainadb.improplan.common.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Caché de respuestas ya serializadas a JSON y comprimidas con gzip.
+ * <p>
+ * Se usa para las respuestas que se repiten mucho y cambian poco: los datos de referencia (la clave incluye la
+ * versión de {@link ReferenceDataVersion}, así que un cambio deja de usar las entradas antiguas) y el detalle de los
+ * eventos publicados (la entrada se elimina cuando llega un {@link EventChangedEvent} del evento, y todas
+ * cuando llega un {@link ReferenceDataChangedEvent}).
+ * Una petición repetida copia los bytes guardados a la respuesta sin volver a pasar por Jackson ni por gzip.
+ * <p>
+ * Es un LRU acotado por número de entradas. Cada eliminación por cambio incrementa una generación: una respuesta
+ * que se empezó a construir antes del cambio no se guarda, porque podría contener los datos anteriores.
+ */
+@Component
+public class SerializedResponseCache {
+
+    //Por debajo de este tamaño gzip apenas reduce el cuerpo y no compensa (igual que server.compression.min-response-size)
+    static final int MIN_GZIP_BYTES = 1024;
+
+    /**
+     * Cuerpo de una respuesta serializada.
+     * @param json JSON sin comprimir.
+     * @param gzip El mismo JSON comprimido con gzip, o null si es demasiado pequeño para comprimirlo.
+     */
+    public record Entry(byte[] json, byte[] gzip) {
+    }
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private long generation; //Protegida por el monitor de this, igual que entries
+
+    public SerializedResponseCache(@Value("${improplan.cache.serialized-responses.max-entries:2000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SerializedResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param key Clave de la respuesta.
+     * @return la respuesta guardada con esa clave, si existe.
+     */
+    public synchronized Optional<Entry> find(String key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * @return la generación actual. Se debe leer antes de consultar los datos que se van a pasar a {@link #put}.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Serializa una respuesta y la guarda, salvo que algún evento haya cambiado desde {@code generation}.
+     * @param key Clave de la respuesta.
+     * @param generation Generación leída con {@link #generation()} antes de consultar los datos.
+     * @param body Respuesta a serializar.
+     * @return la respuesta serializada (se haya guardado o no).
+     */
+    public Entry put(String key, long generation, Object body) {
+        Entry entry = serialize(body); //Fuera del bloqueo: es la parte cara
+        synchronized (this) {
+            if (this.generation == generation) {
+                entries.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Elimina el detalle de los eventos modificados, una vez confirmada la transacción.
+     * Se ejecuta después de que el catálogo de eventos publicados se haya actualizado.
+     * @param event Evento de aplicación con los IDs de los eventos modificados.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEventChanged(EventChangedEvent event) {
+        generation++;
+        for (Long id : event.eventIds()) {
+            entries.remove(eventKey(id));
+        }
+    }
+
+    /**
+     * Vacía la caché cuando el CRUD genérico modifica un dato de referencia, una vez confirmada la transacción.
+     * El detalle de un evento incluye los nombres de su municipio y su temática, así que cualquier entrada
+     * puede haber quedado antigua; las de datos de referencia ya no se usarían, porque cambia la versión.
+     * @param event Evento con la clase de la entidad modificada.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * @param eventId ID del evento.
+     * @return la clave del detalle de un evento publicado.
+     */
+    public static String eventKey(Long eventId) {
+        return "event:" + eventId;
+    }
+
+    /**
+     * @param version Versión de los datos de referencia.
+     * @param endpoint Nombre del endpoint.
+     * @param parameter Parámetro de la consulta ya normalizado, o null si no tiene.
+     * @return la clave de una respuesta de datos de referencia.
+     */
+    public static String referenceKey(long version, String endpoint, Object parameter) {
+        return "ref:" + version + ":" + endpoint + (parameter == null ? "" : ":" + parameter);
+    }
+
+    /**
+     * @param acceptEncoding Cabecera Accept-Encoding de la petición (puede ser null).
+     * @return true si el cliente acepta gzip.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                //"gzip;q=0" significa que el cliente no lo acepta
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serializa una respuesta sin guardarla, para las que no conviene tener en la caché.
+     * @param body Respuesta a serializar.
+     * @return la respuesta serializada.
+     */
+    public Entry serialize(Object body) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        if (json.length < MIN_GZIP_BYTES) {
+            return new Entry(json, null);
+        }
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); //No ocurre: se escribe en memoria
+        }
+        return new Entry(json, gzip.toByteArray());
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.dainadb.improplan.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.github.dainadb.improplan.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * PasswordEncoder que ejecuta el hash de las contraseñas en un pool de hilos propio, con una cola limitada.
+ * <p>
+ * BCrypt ocupa la CPU unos 100 ms por operación. Hecho en el hilo de la petición, con hilos virtuales retiene uno de
+ * los pocos hilos portadores (uno por núcleo) y el resto de peticiones no avanza; con hilos normales, una ráfaga de
+ * registros o inicios de sesión ocupa los hilos de Tomcat. Aquí el hilo de la petición solo espera el resultado
+ * (un hilo virtual que espera libera su portador) y el número de hashes simultáneos lo fija el tamaño del pool.
+ * <p>
+ * Si la cola está llena no se espera: se lanza {@link ServiceUnavailableException} (503 con Retry-After), de modo
+ * que una ráfaga de inicios de sesión no retiene hilos que necesitan las consultas de eventos. Además de las métricas
+ * del pool (executor.*, con name=password-hashing) se registran las peticiones rechazadas y el tiempo en cola.
+ * Los hilos del pool son normales y se paran al cerrar el contexto de Spring ({@link #close()}).
+ */
+public class OffloadedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    static final String POOL_NAME = "password-hashing";
+    static final String REJECTED_METRIC = "improplan.password.hashing.rejected";
+    static final String QUEUE_WAIT_METRIC = "improplan.password.hashing.queue.wait";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final Counter rejected;
+    private final Timer queueWait;
+
+    /**
+     * @param delegate Codificador que calcula los hashes.
+     * @param threads Hilos del pool.
+     * @param queueCapacity Hashes que pueden esperar en cola; los siguientes se rechazan.
+     * @param retryAfter Tiempo que se indica al cliente para reintentar tras un rechazo.
+     * @param meterRegistry Registro de métricas.
+     */
+    public OffloadedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration retryAfter,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 1).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, POOL_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Hashes de contraseña rechazados por tener la cola llena")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder(QUEUE_WAIT_METRIC)
+                .description("Tiempo que espera un hash de contraseña hasta que lo coge un hilo del pool")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); //Solo lee el prefijo del hash: no hace falta otro hilo
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T await(Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            }).get();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException(
+                    "Hay demasiadas operaciones con contraseñas en curso. Inténtalo de nuevo en unos segundos.", retryAfter);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando el hash de la contraseña", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JdbcTemplate que suma al {@link SqlStatementCounter} cada sentencia que envía.
+ * <p>
+ * Las consultas con JdbcTemplate (los upserts de fechas y el volcado de contadores de favoritos) no pasan por
+ * Hibernate, así que su inspector no las ve. JdbcTemplate aplica sus ajustes a cada sentencia que crea, y ahí se
+ * cuenta: una por sentencia, igual que Hibernate, aunque un batchUpdate lleve varias filas.
+ */
+public class CountingJdbcTemplate extends JdbcTemplate {
+
+    /**
+     * @param dataSource Origen de las conexiones.
+     */
+    public CountingJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        SqlStatementCounter.increment();
+        super.applyStatementSettings(stmt);
+    }
+}
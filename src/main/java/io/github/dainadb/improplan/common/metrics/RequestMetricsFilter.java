@@ -0,0 +1,62 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Registra cuántas sentencias SQL ha necesitado cada petición, por endpoint, y las compara con
+ * el límite de {@link SqlStatementBudget}.
+ * <p>
+ * Va delante de la cadena de seguridad para contar también las consultas del filtro de autenticación.
+ * El endpoint se identifica por su patrón (/api/events/{id}) y no por la URL real, para que el número de series
+ * no crezca con cada ID. El tiempo de cada endpoint ya lo mide Spring (http.server.requests).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "improplan.http.jdbc.statements";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SqlStatementBudget sqlStatementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Sentencias SQL enviadas a la BBDD por petición")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .register(meterRegistry)
+                    .record(SqlStatementCounter.current());
+        }
+        //Fuera del finally: si la petición ha fallado, su excepción es la que importa
+        sqlStatementBudget.checkRequest(request.getMethod(), uri(request), SqlStatementCounter.current());
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Límite de sentencias SQL por petición HTTP y por transacción, para detectar consultas N+1.
+ * <p>
+ * Una relación LAZY recorrida en un bucle (por ejemplo desde un mapeo nuevo) multiplica las consultas por el número
+ * de elementos de la lista sin que falle nada. Con el contador de {@link SqlStatementCounter} se comprueba al terminar
+ * cada petición (desde {@link RequestMetricsFilter}) y cada transacción confirmada (Spring Boot registra este bean como
+ * listener del gestor de transacciones; el nombre de la transacción es el método @Transactional que la abrió).
+ * <p>
+ * Por defecto solo se escribe un aviso en el log; con {@code improplan.sql-budget.fail=true} se lanza una excepción,
+ * pensado para desarrollo y pruebas. Un límite 0 desactiva la comprobación.
+ */
+@Component
+public class SqlStatementBudget implements TransactionExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudget.class);
+
+    //Transacciones abiertas en el hilo actual, con el valor del contador al empezar cada una
+    private static final ThreadLocal<Deque<OpenTransaction>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private record OpenTransaction(String name, int startCount) {
+    }
+
+    private final int requestBudget;
+    private final int transactionBudget;
+    private final boolean fail;
+
+    public SqlStatementBudget(@Value("${improplan.sql-budget.per-request:20}") int requestBudget,
+                              @Value("${improplan.sql-budget.per-transaction:10}") int transactionBudget,
+                              @Value("${improplan.sql-budget.fail:false}") boolean fail) {
+        this.requestBudget = requestBudget;
+        this.transactionBudget = transactionBudget;
+        this.fail = fail;
+    }
+
+    /**
+     * Comprueba las sentencias de una petición terminada.
+     * @param method Método HTTP.
+     * @param uri Patrón del endpoint.
+     * @param statements Sentencias SQL enviadas durante la petición.
+     * @throws IllegalStateException si se supera el límite y está activado {@code improplan.sql-budget.fail}.
+     */
+    public void checkRequest(String method, String uri, int statements) {
+        check("La petición " + method + " " + uri, statements, requestBudget);
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && transaction.isNewTransaction()) {
+            OPEN.get().push(new OpenTransaction(transaction.getTransactionName(), SqlStatementCounter.current()));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (!transaction.isNewTransaction()) {
+            return; //Se ha unido a otra transacción: cuenta en la exterior
+        }
+        OpenTransaction open = OPEN.get().poll();
+        if (open != null && commitFailure == null) {
+            check("La transacción " + open.name(), SqlStatementCounter.current() - open.startCount(), transactionBudget);
+        }
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        //No se comprueba el límite: una excepción aquí ocultaría la que provocó el rollback
+        if (transaction.isNewTransaction()) {
+            OPEN.get().poll();
+        }
+    }
+
+    private void check(String source, int statements, int budget) {
+        if (budget <= 0 || statements <= budget) {
+            return;
+        }
+        String message = source + " ha enviado " + statements + " sentencias SQL (límite " + budget
+                + "). Posible consulta N+1.";
+        if (fail) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
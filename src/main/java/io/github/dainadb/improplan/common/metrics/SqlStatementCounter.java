@@ -0,0 +1,43 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL que se envían a la BBDD desde el hilo actual.
+ * <p>
+ * Hibernate llama a {@link #inspect(String)} una vez por cada sentencia que prepara, y {@link CountingJdbcTemplate}
+ * hace lo mismo con las de JdbcTemplate, así que el contador equivale a las idas y vueltas a la BBDD de la petición
+ * en curso. {@link RequestMetricsFilter} lo pone a cero al empezar
+ * cada petición y registra el total al terminar. No modifica ni guarda el SQL: solo suma uno.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        increment();
+        return sql;
+    }
+
+    /**
+     * Suma una sentencia al contador del hilo actual.
+     */
+    public static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    /**
+     * Pone a cero el contador del hilo actual.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * @return las sentencias enviadas desde el hilo actual desde el último {@link #reset()}.
+     */
+    public static int current() {
+        return COUNT.get()[0];
+    }
+}
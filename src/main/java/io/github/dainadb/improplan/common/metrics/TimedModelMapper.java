@@ -0,0 +1,50 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.modelmapper.ModelMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * ModelMapper que mide el tiempo de cada conversión, por tipo de origen y de destino.
+ * <p>
+ * Solo se sobrescriben las dos variantes de {@code map} que usa la aplicación; ModelMapper no llama a una desde
+ * la otra, así que ninguna conversión se cuenta dos veces.
+ */
+public class TimedModelMapper extends ModelMapper {
+
+    static final String METRIC_NAME = "improplan.modelmapper.map";
+
+    private record TimerKey(Class<?> source, Class<?> destination) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    //Las conversiones son muchas y los pares de tipos pocos: se evita construir y buscar el Timer en cada llamada
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedModelMapper(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <D> D map(Object source, Class<D> destinationType) {
+        return timer(source, destinationType).record(() -> super.map(source, destinationType));
+    }
+
+    @Override
+    public void map(Object source, Object destination) {
+        timer(source, destination != null ? destination.getClass() : Void.class).record(() -> super.map(source, destination));
+    }
+
+    private Timer timer(Object source, Class<?> destinationType) {
+        TimerKey key = new TimerKey(source != null ? source.getClass() : Void.class, destinationType);
+        return timers.computeIfAbsent(key, k -> Timer.builder(METRIC_NAME)
+                .description("Tiempo de las conversiones de ModelMapper")
+                .tag("source", k.source().getSimpleName())
+                .tag("destination", k.destination().getSimpleName())
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Decorador de {@link PasswordEncoder} que mide cuánto tarda cada cifrado y cada comprobación de contraseña.
+ * <p>
+ * Con BCrypt cada operación cuesta decenas de milisegundos de CPU a propósito, así que es lo más caro del login,
+ * del registro y de las peticiones con httpBasic. Se mide en el codificador y no en cada servicio para cubrirlos todos.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    static final String METRIC_NAME = "improplan.password.encoder";
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(METRIC_NAME)
+                .description("Tiempo de cifrado y comprobación de contraseñas")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
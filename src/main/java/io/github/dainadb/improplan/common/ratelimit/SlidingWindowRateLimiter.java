@@ -0,0 +1,153 @@
+package io.github.dainadb.improplan.common.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de intentos por clave (IP, email...) con ventana deslizante, en memoria y sin bloqueos.
+ * <p>
+ * Se usa la aproximación de dos ventanas fijas: los intentos de la ventana anterior cuentan en proporción a la parte
+ * de ella que aún cae dentro de la ventana deslizante. Así basta con dos contadores por clave en lugar de guardar la
+ * hora de cada intento, y no se permite el doble de intentos justo en el cambio de ventana.
+ * <p>
+ * El estado de cada clave (número de ventana, intentos de la anterior y de la actual) va empaquetado en un solo
+ * {@link AtomicLong} y se actualiza con compareAndSet: un intento solo lee el mapa y hace un CAS, sin locks.
+ * La memoria está acotada: {@link #purgeIdle()} elimina las claves sin intentos en las dos últimas ventanas y,
+ * si aun así se llega al máximo de claves, los intentos de claves nuevas se permiten sin registrarlos hasta que haya
+ * sitio. Rechazarlos dejaría fuera a todos los clientes nuevos en cuanto alguien llenase el mapa con claves inventadas;
+ * las claves que ya están en memoria siguen limitadas. Esos intentos se cuentan en {@link #untrackedAttempts()}.
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final int limit;
+    private final long windowMillis;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final Map<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final AtomicLong lastFullPurgeWindow = new AtomicLong(-1);
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * @param limit Intentos permitidos por clave en cada ventana.
+     * @param windowMillis Duración de la ventana en milisegundos.
+     * @param maxKeys Número máximo de claves en memoria.
+     * @param clock Hora actual en milisegundos (System::currentTimeMillis salvo en las pruebas).
+     */
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int maxKeys, LongSupplier clock) {
+        this.limit = Math.min(limit, MAX_COUNT);
+        this.windowMillis = windowMillis;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * Registra un intento de la clave si no supera el límite.
+     * @param key Clave del intento.
+     * @return 0 si se permite; si no, los milisegundos que conviene esperar (el resto de la ventana actual).
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        long window = now / windowMillis;
+        long untilNextWindow = windowMillis - now % windowMillis;
+
+        AtomicLong state = windows.get(key);
+        if (state == null) {
+            if (windows.size() >= maxKeys) {
+                //Como mucho una limpieza por ventana: con el mapa lleno de claves activas, limpiar en cada intento
+                //recorrería todas las claves por cada petición
+                long lastPurge = lastFullPurgeWindow.get();
+                if (lastPurge < window && lastFullPurgeWindow.compareAndSet(lastPurge, window)) {
+                    purgeIdle();
+                }
+                if (windows.size() >= maxKeys) {
+                    untracked.increment();
+                    return 0;
+                }
+            }
+            state = windows.computeIfAbsent(key, k -> new AtomicLong(pack(window, 0, 0)));
+        }
+
+        while (true) {
+            long current = state.get();
+            long storedWindow = current >>> 32;
+            int previous = (int) (current >>> 16 & MAX_COUNT);
+            int count = (int) (current & MAX_COUNT);
+            if (storedWindow != window) {
+                previous = storedWindow == window - 1 ? count : 0;
+                count = 0;
+            }
+            if (exhausted(previous, count, untilNextWindow)) {
+                return untilNextWindow;
+            }
+            if (state.compareAndSet(current, pack(window, previous, count + 1))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Comprueba si la clave ya ha agotado su límite, sin registrar ningún intento.
+     * @param key Clave a comprobar.
+     * @return 0 si le quedan intentos; si no, los milisegundos que conviene esperar (el resto de la ventana actual).
+     */
+    public long check(String key) {
+        AtomicLong state = windows.get(key);
+        if (state == null) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        long window = now / windowMillis;
+        long untilNextWindow = windowMillis - now % windowMillis;
+        long current = state.get();
+        long storedWindow = current >>> 32;
+        int count = (int) (current & MAX_COUNT);
+        int previous;
+        if (storedWindow == window) {
+            previous = (int) (current >>> 16 & MAX_COUNT);
+        } else {
+            previous = storedWindow == window - 1 ? count : 0;
+            count = 0;
+        }
+        return exhausted(previous, count, untilNextWindow) ? untilNextWindow : 0;
+    }
+
+    /**
+     * Elimina las claves que no tienen intentos en la ventana actual ni en la anterior (no influyen en el límite).
+     * @return Número de claves eliminadas.
+     */
+    public int purgeIdle() {
+        long window = clock.getAsLong() / windowMillis;
+        int before = windows.size();
+        windows.values().removeIf(state -> (state.get() >>> 32) < window - 1);
+        return Math.max(0, before - windows.size());
+    }
+
+    /**
+     * @return Intentos de claves nuevas que se han permitido sin registrar porque el mapa estaba lleno.
+     */
+    public long untrackedAttempts() {
+        return untracked.sum();
+    }
+
+    /**
+     * @return Número de claves en memoria.
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    //Los intentos de la ventana anterior pesan la fracción de ella que aún cae dentro de la ventana deslizante
+    private boolean exhausted(int previous, int count, long untilNextWindow) {
+        double previousWeight = (double) untilNextWindow / windowMillis;
+        return previous * previousWeight + count >= limit;
+    }
+
+    private static long pack(long window, int previous, int count) {
+        return window << 32 | (long) previous << 16 | count;
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.dainadb.improplan.common.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de resultados obtenida mediante paginación por cursor (keyset).
+ * <p>
+ * En lugar de un número de página, el cliente recibe un cursor opaco que debe
+ * reenviar para obtener la siguiente página. Así la base de datos no tiene que
+ * recorrer las filas de las páginas anteriores (a diferencia de OFFSET).
+ *
+ * @param <T> Tipo de los elementos de la página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+
+    private int size; // Número de elementos devueltos en esta página
+
+    private boolean hasNext;
+
+    private String nextCursor; // null si no hay más páginas
+}
@@ -0,0 +1,13 @@
+package io.github.dainadb.improplan.common.response;
+
+/**
+ * Cuerpo de respuesta que ya está serializado a JSON (y posiblemente comprimido con gzip).
+ * <p>
+ * Lo usan los controladores que sirven respuestas de {@link io.github.dainadb.improplan.common.cache.SerializedResponseCache}:
+ * siguen declarando {@code ResponseEntity<ApiResponse<T>>}, para que la documentación OpenAPI muestre el tipo real,
+ * y {@link SerializedJsonConverter} escribe los bytes tal cual, sin pasar por Jackson.
+ *
+ * @param bytes Cuerpo de la respuesta tal y como se envía. No se copia: no se debe modificar.
+ */
+public record SerializedJson(byte[] bytes) {
+}
@@ -0,0 +1,45 @@
+package io.github.dainadb.improplan.common.response;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Escribe un {@link SerializedJson} copiando sus bytes al cuerpo de la respuesta.
+ * Se registra delante del conversor de Jackson (ver WebMvcConfig) y solo se usa para escribir.
+ */
+public class SerializedJsonConverter extends AbstractHttpMessageConverter<SerializedJson> {
+
+    public SerializedJsonConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SerializedJson.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SerializedJson readInternal(Class<? extends SerializedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Las respuestas serializadas solo se escriben", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(SerializedJson body, MediaType contentType) {
+        return (long) body.bytes().length;
+    }
+
+    @Override
+    protected void writeInternal(SerializedJson body, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(body.bytes());
+    }
+}
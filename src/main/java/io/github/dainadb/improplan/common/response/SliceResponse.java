@@ -0,0 +1,45 @@
+package io.github.dainadb.improplan.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de resultados obtenida mediante paginación por número de página (Slice).
+ * <p>
+ * A diferencia de Page, no incluye el total de elementos: así la base de datos no tiene que
+ * contar toda la tabla en cada petición. El cliente solo sabe si existe una página siguiente.
+ *
+ * @param <T> Tipo de los elementos de la página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> items;
+
+    private int page; // Número de página solicitado (empieza en 0)
+
+    private int size; // Número de elementos devueltos en esta página
+
+    private boolean hasNext;
+
+    /**
+     * Construye la respuesta a partir de un Slice de entidades, convirtiendo cada elemento.
+     * @param slice Slice devuelto por el repositorio.
+     * @param converter Conversor de entidad a DTO.
+     * @return la respuesta con los elementos convertidos.
+     */
+    public static <S, T> SliceResponse<T> of(Slice<S> slice, Function<S, T> converter) {
+        List<T> items = slice.getContent().stream()
+                .map(converter)
+                .toList();
+        return new SliceResponse<>(items, slice.getNumber(), items.size(), slice.hasNext());
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.dainadb.improplan.common.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import io.github.dainadb.improplan.exception.BadRequestException;
+
+/**
+ * Clase utilitaria para validar los parámetros de paginación que llegan del cliente.
+ * 
+ */
+public final class Pagination {
+
+    /** Tamaño de página por defecto cuando el cliente no indica ninguno. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** Tamaño de página máximo permitido, para que una sola petición no cargue miles de filas. */
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private Pagination() {
+        // Constructor privado para evitar instanciar la clase
+    }
+
+    /**
+     * Obtiene el tamaño de página a usar, aplicando el valor por defecto y el máximo permitido.
+     * @param size Tamaño solicitado por el cliente (puede ser null).
+     * @return Tamaño de página efectivo.
+     * @throws BadRequestException si el tamaño es menor que 1.
+     */
+    public static int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new BadRequestException("El tamaño de página debe ser mayor que cero.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Crea la petición de página ordenada por ID ascendente (orden estable entre páginas).
+     * @param page Número de página solicitado (puede ser null, empieza en 0).
+     * @param size Tamaño solicitado (puede ser null).
+     * @return la petición de página.
+     * @throws BadRequestException si la página es negativa o el tamaño menor que 1.
+     */
+    public static PageRequest byId(Integer page, Integer size) {
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new BadRequestException("El número de página no puede ser negativo.");
+        }
+        return PageRequest.of(pageNumber, resolvePageSize(size), Sort.by("id"));
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.dainadb.improplan.common.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Clase utilitaria para normalizar textos usados como clave de búsqueda.
+ * 
+ */
+public final class TextNormalizer {
+
+    //Marcas diacríticas que quedan separadas de la letra base tras la descomposición NFD (tildes, diéresis, etc.)
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private TextNormalizer() {
+        // Constructor privado para evitar instanciar la clase
+    }
+
+    /**
+     * Normaliza un texto para compararlo sin distinguir mayúsculas, tildes ni espacios en los extremos
+     * (mismo criterio que la collation utf8mb4_0900_ai_ci de la base de datos).
+     * Ejemplo: " Málaga " y "malaga" producen la misma clave.
+     * @param text Texto a normalizar
+     * @return el texto normalizado, o null si el texto es null
+     */
+    public static String normalize(String text) {
+        if (text == null) return null;
+
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.dainadb.improplan.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilidades para ejecutar código cuando termina la transacción actual.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+        // Constructor privado para evitar instanciar la clase
+    }
+
+    /**
+     * Ejecuta la acción cuando se confirme la transacción activa; si se deshace, no se ejecuta.
+     * Sin transacción activa se ejecuta en el momento.
+     * <p>
+     * Para actualizar estado en memoria (cachés, contadores) que debe reflejar solo lo que ya está en la BBDD.
+     * @param action Acción a ejecutar.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -4,42 +4,115 @@ import java.util.regex.Pattern;
 
 /**
  * Clase utilitaria para validaciones comunes en el sistema.
- * 
+ *
  */
 public final class Validator {
+
+    /** Longitud máxima de un email (límite práctico de RFC 5321). */
+    public static final int MAX_EMAIL_LENGTH = 254;
+
+    /** Longitud máxima de una URL aceptada. */
+    public static final int MAX_URL_LENGTH = 2048;
+
+    //Se compila una sola vez. No tiene cuantificadores anidados, así que su coste es lineal con la longitud
+    private static final Pattern URL_PATTERN = Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$");
+
+    private static final int MIN_TLD_LENGTH = 2;
+    private static final int MAX_TLD_LENGTH = 9;
+
     private Validator() {
         // Constructor privado para evitar instanciar la clase
     }
 
     /**
      * Valida si el email proporcionado tiene un formato correcto.
+     * <p>
+     * Acepta lo mismo que la expresión regular
+     * {@code ^([0-9a-zA-Z]([-.\w]*[0-9a-zA-Z])*@([0-9a-zA-Z][-\w]*[0-9a-zA-Z]\.)+[a-zA-Z]{2,9})$}
+     * (tras quitar los espacios de los extremos), pero la comprueba recorriendo el texto una sola vez,
+     * sin crear objetos y sin el retroceso exponencial de sus cuantificadores anidados.
+     * Los emails de más de {@link #MAX_EMAIL_LENGTH} caracteres se rechazan sin recorrerlos.
      * @param email Email a validar
      * @return  true si el email es válido, false en caso contrario
      */
     public static boolean isValidEmail(String email) {
-        if (email == null) return false;
+        if (email == null || email.length() > MAX_EMAIL_LENGTH) return false;
 
-        // Eliminar espacios en blanco al inicio y al final
-        String trimmedEmail = email.trim();
-        // No permitir que termine con un punto
-        if (trimmedEmail.endsWith(".")) return false;
+        // Límites del texto sin los espacios en blanco del inicio y del final (mismo criterio que String.trim)
+        int start = 0;
+        int end = email.length();
+        while (start < end && email.charAt(start) <= ' ') start++;
+        while (end > start && email.charAt(end - 1) <= ' ') end--;
 
-        // Expresión regular para validar el formato del email
-        String emailRegex =
-            "^([0-9a-zA-Z]([-.\\w]*[0-9a-zA-Z])*@([0-9a-zA-Z][-\\w]*[0-9a-zA-Z]\\.)+[a-zA-Z]{2,9})$";
+        // Parte local: letras, dígitos, '-', '.' y '_', empezando y terminando por letra o dígito
+        int at = start;
+        while (at < end && email.charAt(at) != '@') {
+            if (!isLocalChar(email.charAt(at))) return false;
+            at++;
+        }
+        if (at == start || at == end) return false;
+        if (!isAlphanumeric(email.charAt(start)) || !isAlphanumeric(email.charAt(at - 1))) return false;
 
-        return Pattern.matches(emailRegex, trimmedEmail); //emailRegex es la expresión regular con la que se valida el email a través de Pattern.matches
+        // Dominio: una o más etiquetas de al menos 2 caracteres seguidas de '.', y un TLD de 2 a 9 letras
+        int labels = 0;
+        int labelStart = at + 1;
+        for (int i = labelStart; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (!isValidLabel(email, labelStart, i)) return false;
+                labels++;
+                labelStart = i + 1;
+            } else if (!isLabelChar(c)) {
+                return false; // Incluye un segundo '@'
+            }
+        }
+        return labels > 0 && isValidTld(email, labelStart, end); // Un email que termina en '.' no tiene TLD
     }
 
+    /**
+     * Valida si la URL proporcionada tiene un formato correcto (http, https o ftp).
+     * Las URLs de más de {@link #MAX_URL_LENGTH} caracteres se rechazan sin evaluarlas.
+     * @param url URL a validar
+     * @return true si la URL es válida, false en caso contrario
+     */
     public static boolean isValidUrl(String url) {
-        if (url == null) return false;
+        if (url == null || url.length() > MAX_URL_LENGTH) return false;
 
         String trimmedUrl = url.trim();
         if( trimmedUrl.endsWith(".")) return false;
-        
-        // Expresión regular para validar el formato de la URL
-        String urlRegex = "^(https?|ftp)://[^\\s/$.?#].[^\\s]*$";
-        return Pattern.matches(urlRegex, trimmedUrl);
+
+        return URL_PATTERN.matcher(trimmedUrl).matches();
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    private static boolean isValidLabel(String text, int from, int to) {
+        return to - from >= 2 && isAlphanumeric(text.charAt(from)) && isAlphanumeric(text.charAt(to - 1));
+    }
+
+    private static boolean isValidTld(String text, int from, int to) {
+        int length = to - from;
+        if (length < MIN_TLD_LENGTH || length > MAX_TLD_LENGTH) return false;
+        for (int i = from; i < to; i++) {
+            if (!isLetter(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isLabelChar(c) || c == '.';
+    }
+
+    private static boolean isLabelChar(char c) {
+        return isAlphanumeric(c) || c == '-' || c == '_';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 
 }
@@ -0,0 +1,66 @@
+package io.github.dainadb.improplan.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.github.dainadb.improplan.domain.auth.ratelimit.ILoginRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Aplica el límite de intentos de inicio de sesión a las credenciales HTTP Basic, que se pueden enviar a cualquier ruta.
+ * <p>
+ * Se ejecuta delante de BasicAuthenticationFilter: si la IP o el usuario ya han agotado su límite, la petición se
+ * rechaza con 429 sin llegar a BCrypt. Solo cuentan como intento las credenciales rechazadas (respuesta 401), porque
+ * un cliente Basic legítimo las envía en cada petición. {@link RetryLaterFilter} convierte el rechazo en la respuesta.
+ * No se registra como @Component para que no se añada también como filtro de servlet global.
+ */
+public class BasicAuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BASIC_PREFIX = "basic ";
+
+    private final ILoginRateLimiter loginRateLimiter;
+
+    public BasicAuthRateLimitFilter(ILoginRateLimiter loginRateLimiter) {
+        this.loginRateLimiter = loginRateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        //Igual que BasicAuthenticationConverter, el esquema no distingue mayúsculas
+        if (header == null || !header.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String ip = request.getRemoteAddr();
+        String username = username(header.substring(BASIC_PREFIX.length()).trim());
+        loginRateLimiter.checkBasicAuthentication(ip, username);
+
+        filterChain.doFilter(request, response);
+
+        if (response.getStatus() == HttpServletResponse.SC_UNAUTHORIZED) {
+            loginRateLimiter.recordBasicFailure(ip, username);
+        }
+    }
+
+    /**
+     * @return el usuario de unas credenciales Basic ({@code base64(usuario:contraseña)}), o null si no se pueden leer.
+     */
+    private static String username(String credentials) {
+        try {
+            String decoded = new String(Base64.getDecoder().decode(credentials), StandardCharsets.UTF_8);
+            int colon = decoded.indexOf(':');
+            return colon > 0 ? decoded.substring(0, colon) : null;
+        } catch (IllegalArgumentException e) { //Base64 mal formado: BasicAuthenticationFilter responderá 401
+            return null;
+        }
+    }
+}
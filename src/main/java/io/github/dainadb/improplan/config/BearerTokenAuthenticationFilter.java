@@ -0,0 +1,56 @@
+package io.github.dainadb.improplan.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.github.dainadb.improplan.domain.auth.token.IAuthTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que autentica las peticiones con cabecera {@code Authorization: Bearer <token>}.
+ * <p>
+ * Solo verifica la firma HMAC, la caducidad y la revocación del token (en memoria), sin consultar la BBDD ni usar BCrypt.
+ * Si el token no es válido la petición sigue sin autenticar y las reglas de SpringSecurityConfig deciden (401 si es una ruta protegida).
+ * No se registra como @Component para que no se añada también como filtro de servlet global.
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String BEARER_PREFIX = "Bearer ";
+
+    private final IAuthTokenService authTokenService;
+
+    public BearerTokenAuthenticationFilter(IAuthTokenService authTokenService) {
+        this.authTokenService = authTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+            authTokenService.verify(header.substring(BEARER_PREFIX.length()).trim()).ifPresent(token -> {
+                //Se crea la autenticación con el email como principal y los roles del token como authorities
+                var authentication = new UsernamePasswordAuthenticationToken(
+                        token.email(),
+                        null,
+                        token.roles().stream()
+                                .map(SimpleGrantedAuthority::new)
+                                .toList());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.dainadb.improplan.config;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.dainadb.improplan.common.metrics.CountingJdbcTemplate;
+import io.github.dainadb.improplan.common.metrics.SqlStatementCounter;
+
+/**
+ * Configuración de las métricas propias de la aplicación.
+ * Los tiempos por endpoint (http.server.requests) y por método de repositorio (spring.data.repository.invocations)
+ * los registra Spring Boot; los percentiles de todas se configuran en application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Registra en Hibernate el contador de sentencias SQL por petición.
+     * @return personalizador de las propiedades de Hibernate.
+     */
+    @Bean
+    HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * Sustituye el JdbcTemplate de Spring Boot por uno que también suma sus sentencias al contador por petición.
+     * @param dataSource Origen de las conexiones.
+     * @return el JdbcTemplate.
+     */
+    @Bean
+    CountingJdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new CountingJdbcTemplate(dataSource);
+    }
+}
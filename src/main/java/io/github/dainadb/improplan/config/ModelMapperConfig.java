@@ -10,6 +10,7 @@ import org.modelmapper.PropertyMap;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.github.dainadb.improplan.common.metrics.TimedModelMapper;
 import io.github.dainadb.improplan.domain.auth.dto.LoginResponseDto;
 import io.github.dainadb.improplan.domain.auth.dto.RegisterUserDto;
 import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
@@ -25,6 +26,7 @@ import io.github.dainadb.improplan.domain.province.entity.Province;
 import io.github.dainadb.improplan.domain.role.entity.Role;
 import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
 import io.github.dainadb.improplan.domain.user.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Configuración global de ModelMapper para personalizar el mapeo entre
@@ -33,9 +35,13 @@ import io.github.dainadb.improplan.domain.user.entity.User;
 @Configuration
 public class ModelMapperConfig {
 
+ /**
+  * @param meterRegistry Registro de métricas donde se guarda el tiempo de cada conversión.
+  * @return ModelMapper con los mapeos personalizados.
+  */
  @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
+    public ModelMapper modelMapper(MeterRegistry meterRegistry) {
+        ModelMapper modelMapper = new TimedModelMapper(meterRegistry);
        
        //MAPEOS PERSONALIZADOS:
 
@@ -0,0 +1,51 @@
+package io.github.dainadb.improplan.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.exception.ServiceUnavailableException;
+import io.github.dainadb.improplan.exception.generic.RetryLaterException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Convierte en una respuesta con Retry-After (503 o 429) las {@link RetryLaterException} que se lanzan en la cadena
+ * de seguridad, fuera del alcance de GlobalExceptionHandler.
+ * <p>
+ * Los casos habituales son httpBasic, que comprueba la contraseña con BCrypt antes de llegar al controlador
+ * ({@link ServiceUnavailableException} si el pool de hash está lleno), y {@link BasicAuthRateLimitFilter}.
+ * Sin este filtro la excepción saldría de la cadena como un error 500.
+ * No se registra como @Component para que no se añada también como filtro de servlet global.
+ */
+public class RetryLaterFilter extends OncePerRequestFilter {
+
+    private final JsonMapper jsonMapper;
+
+    public RetryLaterFilter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (RetryLaterException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            response.setStatus(e.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, e.retryAfterHeader());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(jsonMapper.writeValueAsBytes(new ApiResponse<>(e.getMessage())));
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package io.github.dainadb.improplan.config;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,10 +17,18 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import io.github.dainadb.improplan.common.concurrent.OffloadedPasswordEncoder;
+import io.github.dainadb.improplan.common.metrics.TimedPasswordEncoder;
+import io.github.dainadb.improplan.domain.auth.ratelimit.ILoginRateLimiter;
+import io.github.dainadb.improplan.domain.auth.token.IAuthTokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
 @Configuration
 @EnableWebSecurity
 public class SpringSecurityConfig {
@@ -27,17 +38,24 @@ public class SpringSecurityConfig {
      * Determina qué endpoints son de acceso libre y cuáles requieren autorización.
      *
      * @param httpSecurity Constructor para las reglas de seguridad web.
+     * @param authTokenService Servicio de tokens de acceso usado por el filtro Bearer.
+     * @param loginRateLimiter Límite de intentos, que también se aplica a las credenciales httpBasic.
+     * @param jsonMapper Serializador de las respuestas 503 y 429 de la cadena de seguridad.
      * @return La cadena de filtros de seguridad ya construida.
      * @throws Exception Si ocurre un fallo durante la configuración.
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity httpSecurity, IAuthTokenService authTokenService,
+                    ILoginRateLimiter loginRateLimiter, JsonMapper jsonMapper) throws Exception {
             httpSecurity
                 .csrf(csrf -> csrf.disable())
                 .cors(Customizer.withDefaults())
 
                 
                 .authorizeHttpRequests(authorize -> authorize
+
+                // Métricas y estado: solo se sirven en el puerto de gestión, escuchando en localhost (management.server.*)
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                 
                 // Endpoints Públicos (permitAll) 
 
@@ -56,6 +74,9 @@ public class SpringSecurityConfig {
                 // Búsqueda de eventos y detalles.
                 .requestMatchers(HttpMethod.GET, 
                     "/api/events/filters", 
+                    "/api/events/filters/page",
+                    "/api/events/search",
+                    "/api/events/nearby",
                     "/api/events/{id}", 
                     "/api/events/{eventId}/dates/**",
                     "/api/favorites/count/{eventId}"
@@ -87,8 +108,11 @@ public class SpringSecurityConfig {
                 .requestMatchers(HttpMethod.PATCH, "/api/events/publish/{id}").hasAuthority("ROLE_ADMIN")
                 .requestMatchers(HttpMethod.GET, 
                     "/api/events/intime/status",
+                    "/api/events/intime/status/page",
                     "/api/events/discarded", 
+                    "/api/events/discarded/page",
                     "/api/events/outtime", 
+                    "/api/events/outtime/page",
                     "/api/events/count/**",
                     "/api/events/user/{email}"
 
@@ -104,6 +128,11 @@ public class SpringSecurityConfig {
 
 
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                //Delante de httpBasic, que puede rechazar la petición si el pool de BCrypt está lleno o por el límite de intentos
+                .addFilterBefore(new RetryLaterFilter(jsonMapper), BasicAuthenticationFilter.class)
+                .addFilterBefore(new BasicAuthRateLimitFilter(loginRateLimiter), BasicAuthenticationFilter.class)
+                //El token Bearer emitido en /login se comprueba antes que httpBasic, que se mantiene para los clientes existentes.
+                .addFilterBefore(new BearerTokenAuthenticationFilter(authTokenService), BasicAuthenticationFilter.class)
                 .httpBasic(Customizer.withDefaults()
 
             );
@@ -128,13 +157,23 @@ public class SpringSecurityConfig {
 
    /**
      * Provee el codificador de contraseñas para la aplicación.
-     * Utiliza el algoritmo BCrypt para un hashing seguro.
+     * Utiliza el algoritmo BCrypt para un hashing seguro, lo calcula en su propio pool de hilos
+     * y registra el tiempo de cada operación.
      *
+     * @param threads Hilos del pool de BCrypt; 0 para usar uno por núcleo (solo usa CPU, más hilos no lo acelerarían).
+     * @param queueCapacity Hashes que pueden esperar turno; con la cola llena se responde 503.
+     * @param retryAfter Tiempo que se indica al cliente (Retry-After) cuando se rechaza un hash.
+     * @param meterRegistry Registro de métricas.
      * @return Una instancia del codificador de contraseñas.
      */
     @Bean
-    PasswordEncoder passwordEncoder() {
-            return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${improplan.security.password-hashing.threads:0}") int threads,
+                    @Value("${improplan.security.password-hashing.queue-capacity:32}") int queueCapacity,
+                    @Value("${improplan.security.password-hashing.retry-after:PT2S}") Duration retryAfter,
+                    MeterRegistry meterRegistry) {
+            int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+            return new OffloadedPasswordEncoder(new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry),
+                    size, queueCapacity, retryAfter, meterRegistry);
     }
 
 
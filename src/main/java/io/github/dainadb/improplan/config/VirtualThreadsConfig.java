@@ -0,0 +1,61 @@
+package io.github.dainadb.improplan.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.github.dainadb.improplan.common.concurrent.ConnectionAdmissionDataSource;
+
+/**
+ * Ajustes para el modo de hilos virtuales ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Spring Boot ya atiende cada petición en un hilo virtual; aquí solo se limita el acceso a la BBDD, que es
+ * el recurso que sigue siendo escaso. Sin este modo no se carga nada: el pool de Tomcat ya limita las peticiones.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    //Parte del tiempo de espera que se deja al pool tras conseguir permiso (Hikari no admite menos de 250 ms)
+    private static final long MIN_POOL_WAIT_MILLIS = 250;
+
+    /**
+     * Envuelve el pool de conexiones en un {@link ConnectionAdmissionDataSource} con tantos permisos como
+     * conexiones tiene el pool (ver {@link #admit(HikariDataSource)}).
+     * @return el post-procesador del DataSource.
+     */
+    @Bean
+    static BeanPostProcessor connectionAdmissionPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return admit(hikari);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Limita el acceso al pool repartiendo su tiempo de espera (spring.datasource.hikari.connection-timeout) entre
+     * el semáforo y el propio pool, de modo que en el peor caso una petición espera ese tiempo una sola vez y no dos.
+     * Con un permiso casi siempre hay una conexión libre: el pool solo hace esperar si tiene que abrir una nueva, así
+     * que se queda con la cuarta parte y el semáforo con el resto.
+     * @param hikari Pool de conexiones, aún sin arrancar.
+     * @return el pool envuelto.
+     */
+    static ConnectionAdmissionDataSource admit(HikariDataSource hikari) {
+        long total = hikari.getConnectionTimeout();
+        long poolWait = Math.min(total, Math.max(MIN_POOL_WAIT_MILLIS, total / 4));
+        hikari.setConnectionTimeout(poolWait);
+        return new ConnectionAdmissionDataSource(hikari, hikari.getMaximumPoolSize(),
+                Duration.ofMillis(total - poolWait));
+    }
+}
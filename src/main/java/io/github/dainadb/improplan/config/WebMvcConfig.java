@@ -0,0 +1,23 @@
+package io.github.dainadb.improplan.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.dainadb.improplan.common.response.SerializedJsonConverter;
+
+/**
+ * Configuración de Spring MVC.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    /**
+     * Añade el conversor de respuestas ya serializadas delante de los de por defecto,
+     * para que Jackson no vuelva a serializar un {@link io.github.dainadb.improplan.common.response.SerializedJson}.
+     */
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.addCustomConverter(new SerializedJsonConverter());
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.dainadb.improplan.domain.auth.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,9 +19,11 @@ import io.github.dainadb.improplan.common.response.ApiResponse;
 import io.github.dainadb.improplan.domain.auth.dto.LoginRequestDto;
 import io.github.dainadb.improplan.domain.auth.dto.LoginResponseDto;
 import io.github.dainadb.improplan.domain.auth.dto.RegisterUserDto;
+import io.github.dainadb.improplan.domain.auth.ratelimit.ILoginRateLimiter;
 import io.github.dainadb.improplan.domain.auth.service.IAuthService;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
 import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
 @RestController
 @CrossOrigin(origins = "*")
 @RequestMapping("/api/auth")
@@ -28,14 +32,20 @@ public class AuthRestController extends GenericRestController {
     @Autowired
     private IAuthService authService;
 
+    @Autowired
+    private ILoginRateLimiter loginRateLimiter;
+
     /**
      * Inicia sesión de un usuario.
+     * Antes de consultar el usuario se comprueba el límite de intentos por IP y por email (429 si se supera).
      * @param loginDto Datos de inicio de sesión (email y contraseña).
-     * @return Respuesta en formto ApiResponse con los detalles del usuario autenticado.
+     * @param request Petición HTTP, para obtener la IP del cliente.
+     * @return Respuesta en formto ApiResponse con los detalles del usuario autenticado y su token de acceso.
      */
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponseDto>> login(@RequestBody LoginRequestDto loginDto) {
+    public ResponseEntity<ApiResponse<LoginResponseDto>> login(@RequestBody LoginRequestDto loginDto, HttpServletRequest request) {
+        loginRateLimiter.checkLogin(request.getRemoteAddr(), loginDto.getEmail());
         LoginResponseDto response = authService.authenticateUser(loginDto);
 
         //Se crea un objeto de autenticación con los 3 parámetros: principal (email), credentials (null porque ya se ha autenticado) y authorities (roles)
@@ -52,22 +62,29 @@ public class AuthRestController extends GenericRestController {
     }
 
     /**
-     * Cierra la sesión del usuario autenticado.
+     * Cierra la sesión del usuario autenticado. Si la petición usa un token Bearer, este queda revocado.
+     * @param authorization Cabecera Authorization de la petición.
      * @return Respuesta en formato ApiResponse indicando el éxito del logout.
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
+    public ResponseEntity<ApiResponse<Void>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            authService.logout(authorization.substring("Bearer ".length()).trim());
+        }
         SecurityContextHolder.clearContext();
         return success(null, "Logout exitoso");
     }
 
     /**
      * Registra un nuevo usuario en el sistema.
+     * Comparte con el inicio de sesión el límite de intentos por IP.
      * @param registerDto Datos del nuevo usuario a registrar.
+     * @param request Petición HTTP, para obtener la IP del cliente.
      * @return Respuesta en formato ApiResponse con los detalles del usuario registrado.
      */
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<UserResponseDto>> register(@RequestBody RegisterUserDto registerDto) {
+    public ResponseEntity<ApiResponse<UserResponseDto>> register(@RequestBody RegisterUserDto registerDto, HttpServletRequest request) {
+        loginRateLimiter.checkRegistration(request.getRemoteAddr());
         UserResponseDto response = authService.registerUser(registerDto);
         return created(response, "Usuario registrado correctamente");
     }
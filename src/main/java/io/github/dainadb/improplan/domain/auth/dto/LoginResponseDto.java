@@ -1,5 +1,6 @@
 package io.github.dainadb.improplan.domain.auth.dto;
 
+import java.time.LocalDateTime;
 import java.util.Set;
 
 import lombok.AllArgsConstructor;
@@ -18,5 +19,7 @@ public class LoginResponseDto {
     private String email;
     private String name;
     private Set<String> roles;
+    private String token; // Token de acceso para la cabecera Authorization: Bearer
+    private LocalDateTime tokenExpiresAt;
 
 }
@@ -0,0 +1,42 @@
+package io.github.dainadb.improplan.domain.auth.ratelimit;
+
+import io.github.dainadb.improplan.exception.TooManyRequestsException;
+
+/**
+ * Límite de intentos de inicio de sesión y de registro, para frenar los ataques de fuerza bruta.
+ * Se comprueba antes de consultar la BBDD o calcular BCrypt, así que un intento rechazado no cuesta nada.
+ */
+public interface ILoginRateLimiter {
+
+    /**
+     * Registra un intento de inicio de sesión.
+     * @param ip IP del cliente.
+     * @param email Email con el que se intenta entrar (puede ser nulo).
+     * @throws TooManyRequestsException si la IP o el email han superado su límite.
+     */
+    void checkLogin(String ip, String email);
+
+    /**
+     * Registra un intento de registro de usuario. Comparte el límite por IP con el inicio de sesión.
+     * @param ip IP del cliente.
+     * @throws TooManyRequestsException si la IP ha superado su límite.
+     */
+    void checkRegistration(String ip);
+
+    /**
+     * Comprueba, sin contarlo como intento, si se pueden verificar las credenciales HTTP Basic de una petición.
+     * Con Basic el cliente envía las credenciales en cada petición, así que solo cuentan los fallos
+     * (ver {@link #recordBasicFailure(String, String)}); comparten los límites del inicio de sesión.
+     * @param ip IP del cliente.
+     * @param email Usuario de las credenciales (puede ser nulo).
+     * @throws TooManyRequestsException si la IP o el email ya han agotado su límite.
+     */
+    void checkBasicAuthentication(String ip, String email);
+
+    /**
+     * Registra unas credenciales HTTP Basic rechazadas como un intento fallido de la IP y del email.
+     * @param ip IP del cliente.
+     * @param email Usuario de las credenciales (puede ser nulo).
+     */
+    void recordBasicFailure(String ip, String email);
+}
@@ -0,0 +1,170 @@
+package io.github.dainadb.improplan.domain.auth.ratelimit;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.github.dainadb.improplan.common.ratelimit.SlidingWindowRateLimiter;
+import io.github.dainadb.improplan.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementación del límite de intentos con dos {@link SlidingWindowRateLimiter}: uno por IP, que frena a un atacante
+ * que prueba muchas cuentas, y otro por email, que protege una cuenta atacada desde muchas IPs.
+ * <p>
+ * La IP es la de la conexión; detrás de un proxy hay que activar server.forward-headers-strategy
+ * para que sea la del cliente. Las direcciones IPv6 se agrupan por su prefijo /64: es lo que suele recibir un
+ * cliente, y contar cada dirección por separado permitiría saltarse el límite cambiando los últimos 64 bits.
+ * <p>
+ * Los rechazos se cuentan en la métrica improplan.auth.rate.limited, y los intentos que no se han podido registrar
+ * porque el limitador estaba lleno, en improplan.auth.rate.untracked.
+ */
+@Service
+public class LoginRateLimiterImpl implements ILoginRateLimiter {
+
+    static final String METRIC_NAME = "improplan.auth.rate.limited";
+    static final String UNTRACKED_METRIC_NAME = "improplan.auth.rate.untracked";
+
+    private final SlidingWindowRateLimiter byIp;
+    private final SlidingWindowRateLimiter byEmail;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    public LoginRateLimiterImpl(@Value("${improplan.security.login-rate.per-ip:20}") int perIp,
+                                @Value("${improplan.security.login-rate.per-email:5}") int perEmail,
+                                @Value("${improplan.security.login-rate.window:PT1M}") Duration window,
+                                @Value("${improplan.security.login-rate.max-keys:100000}") int maxKeys,
+                                MeterRegistry meterRegistry) {
+        this.byIp = new SlidingWindowRateLimiter(perIp, window.toMillis(), maxKeys, System::currentTimeMillis);
+        this.byEmail = new SlidingWindowRateLimiter(perEmail, window.toMillis(), maxKeys, System::currentTimeMillis);
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.emailRejections = rejections(meterRegistry, "email");
+        untracked(meterRegistry, "ip", byIp);
+        untracked(meterRegistry, "email", byEmail);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void checkLogin(String ip, String email) {
+        checkIp(ip);
+        if (hasText(email)) {
+            rejectEmail(byEmail.tryAcquire(emailKey(email)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void checkRegistration(String ip) {
+        checkIp(ip);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void checkBasicAuthentication(String ip, String email) {
+        rejectIp(byIp.check(ipKey(ip)));
+        if (hasText(email)) {
+            rejectEmail(byEmail.check(emailKey(email)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordBasicFailure(String ip, String email) {
+        byIp.tryAcquire(ipKey(ip));
+        if (hasText(email)) {
+            byEmail.tryAcquire(emailKey(email));
+        }
+    }
+
+    /**
+     * Elimina de memoria las IPs y los emails sin intentos recientes.
+     */
+    @Scheduled(fixedDelay = 60_000) // Cada minuto
+    public void purgeIdle() {
+        byIp.purgeIdle();
+        byEmail.purgeIdle();
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    private void checkIp(String ip) {
+        rejectIp(byIp.tryAcquire(ipKey(ip)));
+    }
+
+    private void rejectIp(long waitMillis) {
+        if (waitMillis > 0) {
+            ipRejections.increment();
+            throw new TooManyRequestsException("Demasiados intentos desde esta dirección. Inténtalo más tarde.",
+                    Duration.ofMillis(waitMillis));
+        }
+    }
+
+    private void rejectEmail(long waitMillis) {
+        if (waitMillis > 0) {
+            emailRejections.increment();
+            throw new TooManyRequestsException(
+                    "Demasiados intentos de inicio de sesión para esta cuenta. Inténtalo más tarde.",
+                    Duration.ofMillis(waitMillis));
+        }
+    }
+
+    private static boolean hasText(String email) {
+        return email != null && !email.isBlank();
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Clave del límite por IP: la dirección tal cual si es IPv4 y su prefijo /64 si es IPv6.
+     * @param ip Dirección de la conexión.
+     * @return Clave con la que se cuentan sus intentos.
+     */
+    static String ipKey(String ip) {
+        //Solo se interpreta si es IPv6: con un literal, getByName no hace ninguna consulta DNS
+        if (ip == null || ip.indexOf(':') < 0) {
+            return ip;
+        }
+        try {
+            InetAddress address = InetAddress.getByName(ip);
+            if (address instanceof Inet6Address) {
+                return HexFormat.of().formatHex(address.getAddress(), 0, 8) + "::/64";
+            }
+            return address.getHostAddress(); //IPv4 mapeada en IPv6 (::ffff:a.b.c.d)
+        } catch (UnknownHostException e) {
+            return ip;
+        }
+    }
+
+    private static void untracked(MeterRegistry meterRegistry, String limit, SlidingWindowRateLimiter limiter) {
+        FunctionCounter.builder(UNTRACKED_METRIC_NAME, limiter, SlidingWindowRateLimiter::untrackedAttempts)
+                .description("Intentos permitidos sin registrar porque el limitador tenía el máximo de claves")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String limit) {
+        return Counter.builder(METRIC_NAME)
+                .description("Intentos de inicio de sesión o registro rechazados por superar el límite")
+                .tag("limit", limit)
+                .register(meterRegistry);
+    }
+}
@@ -3,6 +3,7 @@ package io.github.dainadb.improplan.domain.auth.service;
 
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.Set;
 
@@ -16,16 +17,18 @@ import io.github.dainadb.improplan.common.utils.Validator;
 import io.github.dainadb.improplan.domain.auth.dto.LoginRequestDto;
 import io.github.dainadb.improplan.domain.auth.dto.LoginResponseDto;
 import io.github.dainadb.improplan.domain.auth.dto.RegisterUserDto;
+import io.github.dainadb.improplan.domain.auth.token.AuthToken;
+import io.github.dainadb.improplan.domain.auth.token.IAuthTokenService;
 import io.github.dainadb.improplan.domain.role.entity.Role;
 import io.github.dainadb.improplan.domain.role.repository.IRoleRepository;
 import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
 import io.github.dainadb.improplan.domain.user.entity.User;
+import io.github.dainadb.improplan.domain.user.mapper.UserMapper;
 import io.github.dainadb.improplan.domain.user.repository.IUserRepository;
 import io.github.dainadb.improplan.exception.BadRequestException;
 import io.github.dainadb.improplan.exception.ConflictException;
 import io.github.dainadb.improplan.exception.NotFoundException;
 import io.github.dainadb.improplan.exception.UnauthorizedException;
-import jakarta.transaction.Transactional;
 
 /**
  * Implementación del servicio de autenticación y registro de usuarios.
@@ -45,7 +48,13 @@ public class AuthServiceImpl implements IAuthService {
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ModelMapper modelMapper; //Solo para la conversión de entrada (RegisterUserDto -> User)
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private IAuthTokenService authTokenService;
 
    /**
      * {@inheritDoc}
@@ -61,14 +70,30 @@ public class AuthServiceImpl implements IAuthService {
 
         validateUserForLogin(user, loginRequest.getPassword());
 
-        return modelMapper.map(user, LoginResponseDto.class);
+        //Se emite el token de acceso para que las siguientes peticiones no repitan BCrypt ni la consulta del usuario
+        AuthToken token = authTokenService.issueToken(user);
+        LoginResponseDto response = userMapper.toLoginResponseDto(user);
+        response.setToken(token.value());
+        response.setTokenExpiresAt(LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault()));
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void logout(String token) {
+        if (StringUtils.hasText(token)) {
+            authTokenService.revokeToken(token);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
+    //Sin @Transactional: el hash de BCrypt tarda decenas de milisegundos y no debe ocupar una conexión del pool.
+    //La única escritura es el save, que ya guarda el usuario y sus roles en su propia transacción.
     @Override
-    @Transactional
     public UserResponseDto registerUser(RegisterUserDto registerDto) {
         
         validateRegistration(registerDto);
@@ -93,7 +118,7 @@ public class AuthServiceImpl implements IAuthService {
 
         User savedUser = userRepository.save(newUser);
 
-        return modelMapper.map(savedUser, UserResponseDto.class);
+        return userMapper.toResponseDto(savedUser);
     }
 
     /**
@@ -104,7 +129,7 @@ public class AuthServiceImpl implements IAuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("Usuario no encontrado: " + email));
 
-        return modelMapper.map(user, UserResponseDto.class);
+        return userMapper.toResponseDto(user);
     }
 
     // MÉTODOS PRIVADOS AUXILIARES 
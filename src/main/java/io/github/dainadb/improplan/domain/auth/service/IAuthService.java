@@ -14,6 +14,12 @@ public interface IAuthService {
  */
   LoginResponseDto authenticateUser (LoginRequestDto dto);
 
+  /**
+   * Cierra la sesión revocando el token de acceso indicado.
+   * @param token token de acceso (sin el prefijo "Bearer "), puede ser null si la petición usa httpBasic.
+   */
+  void logout(String token);
+
   /**
    * Registra un nuevo usuario en el sistema utilizando los datos proporcionados en el DTO.
    * @param dto contiene los datos del nuevo usuario.
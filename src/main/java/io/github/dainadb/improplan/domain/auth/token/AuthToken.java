@@ -0,0 +1,19 @@
+package io.github.dainadb.improplan.domain.auth.token;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Token de acceso firmado junto con los datos que contiene.
+ *
+ * @param value Token en formato texto (el que se envía en la cabecera Authorization: Bearer).
+ * @param userId ID del usuario.
+ * @param email Email del usuario (nombre de usuario en Spring Security).
+ * @param roles Nombres de los roles del usuario en el momento de emitir el token.
+ * @param tokenId Identificador único del token, usado para revocarlo en el logout.
+ * @param issuedAt Instante de emisión.
+ * @param expiresAt Instante de caducidad.
+ */
+public record AuthToken(String value, Long userId, String email, List<String> roles, String tokenId,
+                        Instant issuedAt, Instant expiresAt) {
+}
@@ -0,0 +1,195 @@
+package io.github.dainadb.improplan.domain.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import io.github.dainadb.improplan.domain.user.entity.User;
+
+/**
+ * Implementación del servicio de tokens de acceso.
+ * <p>
+ * Formato del token: {@code base64url(payload) + "." + base64url(HMAC-SHA256(payload))}, donde el payload es
+ * {@code v1|idUsuario|email|roles|emitidoMs|caducaMs|idToken}.
+ * <p>
+ * La revocación se guarda en memoria: por usuario (todos los tokens emitidos antes de un instante) y por token (logout).
+ * Las entradas se purgan cuando ya no pueden afectar a ningún token vigente.
+ */
+@Service
+public class AuthTokenServiceImpl implements IAuthTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenServiceImpl.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final int FIELDS = 7;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    //ID de usuario -> instante (ms) hasta el que sus tokens quedan revocados
+    private final Map<Long, Long> userRevokedBefore = new ConcurrentHashMap<>();
+
+    //ID de token -> instante (ms) de caducidad del token revocado
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    public AuthTokenServiceImpl(@Value("${improplan.security.token.secret:}") String secret,
+                                @Value("${improplan.security.token.ttl:PT2H}") Duration ttl) {
+        byte[] keyBytes;
+        if (StringUtils.hasText(secret)) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        } else {
+            //Sin secreto configurado se genera uno aleatorio: los tokens dejan de valer al reiniciar la aplicación
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("No se ha configurado improplan.security.token.secret; se usa un secreto aleatorio");
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AuthToken issueToken(User user) {
+        Instant issuedAt = Instant.now();
+        Instant expiresAt = issuedAt.plus(ttl);
+        List<String> roles = user.getRoles().stream()
+                .map(role -> role.getName().name())
+                .sorted()
+                .toList();
+        String tokenId = UUID.randomUUID().toString();
+
+        String payload = String.join(SEPARATOR, VERSION, String.valueOf(user.getId()), user.getEmail(),
+                String.join(",", roles), String.valueOf(issuedAt.toEpochMilli()),
+                String.valueOf(expiresAt.toEpochMilli()), tokenId);
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        String value = encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+
+        return new AuthToken(value, user.getId(), user.getEmail(), roles, tokenId,
+                Instant.ofEpochMilli(issuedAt.toEpochMilli()), Instant.ofEpochMilli(expiresAt.toEpochMilli()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<AuthToken> verify(String token) {
+        Optional<AuthToken> parsed = parse(token);
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+        AuthToken authToken = parsed.get();
+
+        long now = System.currentTimeMillis();
+        if (authToken.expiresAt().toEpochMilli() <= now) {
+            return Optional.empty();
+        }
+        Long revokedBefore = userRevokedBefore.get(authToken.userId());
+        if (revokedBefore != null && authToken.issuedAt().toEpochMilli() <= revokedBefore) {
+            return Optional.empty();
+        }
+        if (revokedTokens.containsKey(authToken.tokenId())) {
+            return Optional.empty();
+        }
+        return parsed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void revokeToken(String token) {
+        verify(token).ifPresent(t -> revokedTokens.put(t.tokenId(), t.expiresAt().toEpochMilli()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void revokeUserTokens(Long userId) {
+        if (userId != null) {
+            userRevokedBefore.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Elimina de las listas de revocación las entradas que ya no pueden afectar a ningún token vigente.
+     */
+    @Scheduled(fixedDelay = 600_000) // Cada 10 minutos
+    public void purgeRevocations() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        //Un token emitido antes de la revocación caduca como mucho 'ttl' después de ella
+        userRevokedBefore.values().removeIf(revokedAt -> revokedAt + ttl.toMillis() <= now);
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    /**
+     * Comprueba la firma y decodifica el payload. No comprueba caducidad ni revocación.
+     * @param token Token en formato texto.
+     * @return los datos del token si la firma y el formato son correctos.
+     */
+    private Optional<AuthToken> parse(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            //Comparación en tiempo constante para no filtrar información de la firma
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return Optional.empty();
+            }
+            String payload = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8);
+            String[] fields = payload.split("\\|", -1);
+            if (fields.length != FIELDS || !VERSION.equals(fields[0])) {
+                return Optional.empty();
+            }
+            List<String> roles = fields[3].isEmpty() ? List.of() : List.of(fields[3].split(","));
+            return Optional.of(new AuthToken(token, Long.valueOf(fields[1]), fields[2], roles, fields[6],
+                    Instant.ofEpochMilli(Long.parseLong(fields[4])), Instant.ofEpochMilli(Long.parseLong(fields[5]))));
+        } catch (IllegalArgumentException e) { //Base64 o números mal formados
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se ha podido firmar el token", e);
+        }
+    }
+}
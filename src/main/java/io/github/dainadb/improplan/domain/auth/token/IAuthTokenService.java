@@ -0,0 +1,41 @@
+package io.github.dainadb.improplan.domain.auth.token;
+
+import java.util.Optional;
+
+import io.github.dainadb.improplan.domain.user.entity.User;
+
+/**
+ * Servicio de emisión y verificación de tokens de acceso firmados (HMAC-SHA256).
+ * <p>
+ * El token contiene todo lo necesario para autenticar la petición (usuario, roles y caducidad),
+ * así que verificarlo no requiere consultar la BBDD ni ejecutar BCrypt.
+ */
+public interface IAuthTokenService {
+
+    /**
+     * Emite un token de acceso para un usuario ya autenticado.
+     * @param user Usuario autenticado (con sus roles cargados).
+     * @return el token emitido.
+     */
+    AuthToken issueToken(User user);
+
+    /**
+     * Verifica la firma, la caducidad y la revocación de un token.
+     * @param token Token en formato texto.
+     * @return los datos del token si es válido, o vacío en caso contrario.
+     */
+    Optional<AuthToken> verify(String token);
+
+    /**
+     * Revoca un token concreto (logout). Si el token no es válido no hace nada.
+     * @param token Token en formato texto.
+     */
+    void revokeToken(String token);
+
+    /**
+     * Revoca todos los tokens emitidos hasta ahora para un usuario
+     * (por ejemplo, al deshabilitarlo o cambiarle el rol).
+     * @param userId ID del usuario.
+     */
+    void revokeUserTokens(Long userId);
+}
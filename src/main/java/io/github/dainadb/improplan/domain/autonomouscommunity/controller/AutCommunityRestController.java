@@ -1,5 +1,6 @@
 package io.github.dainadb.improplan.domain.autonomouscommunity.controller;
 
+
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +11,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
 import io.github.dainadb.improplan.domain.autonomouscommunity.dto.AutCommunityResponseDto;
 import io.github.dainadb.improplan.domain.autonomouscommunity.service.IAutonomousCommunityService;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
@@ -33,26 +36,26 @@ public class AutCommunityRestController extends GenericRestController {
     /**
      * Obtiene una lista de todas las Comunidades Autónomas.
      *
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con la lista de comunidades y un mensaje de éxito.
      */
    
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AutCommunityResponseDto>>> getAllCommunity() {
-        List<AutCommunityResponseDto> communities = autCommunityService.findAll();
-        return success(communities, "Lista de comunidades autónomas obtenida con éxito.");
+    public ResponseEntity<ApiResponse<List<AutCommunityResponseDto>>> getAllCommunity(ServletWebRequest request) {
+        return referenceData(request, "communities", () -> autCommunityService.findAll(), "Lista de comunidades autónomas obtenida con éxito.");
     }
     
     /**
      * Busca una Comunidad Autónoma por su ID.
      *
      * @param id El ID de la comunidad a buscar.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con los datos de la comunidad encontrada.
      */
     
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<AutCommunityResponseDto>> getCommunityById(@PathVariable Integer id) {
-        AutCommunityResponseDto community = autCommunityService.findById(id);
-        return success(community, "Comunidad autónoma encontrada con éxito.");
+    public ResponseEntity<ApiResponse<AutCommunityResponseDto>> getCommunityById(@PathVariable Integer id, ServletWebRequest request) {
+        return referenceData(request, "communities/id", id, () -> autCommunityService.findById(id), "Comunidad autónoma encontrada con éxito.");
     }
 
     /**
@@ -60,12 +63,13 @@ public class AutCommunityRestController extends GenericRestController {
      * La búsqueda no distingue entre mayúsculas y minúsculas.
      *
      * @param name El nombre de la comunidad a buscar.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con los datos de la comunidad encontrada.
      */
    
     @GetMapping("/by-name")
-    public ResponseEntity<ApiResponse<AutCommunityResponseDto>> getCommunityByName(@RequestParam String name) {
-        AutCommunityResponseDto community = autCommunityService.findByName(name);
-        return success(community, "Comunidad autónoma encontrada con éxito.");
+    public ResponseEntity<ApiResponse<AutCommunityResponseDto>> getCommunityByName(@RequestParam String name, ServletWebRequest request) {
+        return referenceData(request, "communities/by-name", TextNormalizer.normalize(name),
+                () -> autCommunityService.findByName(name.trim()), "Comunidad autónoma encontrada con éxito.");
     }
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package io.github.dainadb.improplan.domain.autonomouscommunity.service;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache;
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache.CommunityRef;
 import io.github.dainadb.improplan.domain.autonomouscommunity.dto.AutCommunityRequestDto;
 import io.github.dainadb.improplan.domain.autonomouscommunity.dto.AutCommunityResponseDto;
 import io.github.dainadb.improplan.domain.autonomouscommunity.entity.AutonomousCommunity;
@@ -16,6 +20,9 @@ public class AutonomousCommunityServiceImpl extends GenericCrudDtoServiceImpl<Au
 
     @Autowired
     private IAutonomousCommunityRepository autCommunityRepository;
+
+    @Autowired
+    private GeoReferenceCache geoReferenceCache;
     
 
     //OVERRIDE MÉTODOS GENÉRICOS DE GENERICCRUDDTOSERVICEIMPL
@@ -41,6 +48,33 @@ public class AutonomousCommunityServiceImpl extends GenericCrudDtoServiceImpl<Au
     }
 
 
+    // LECTURAS DESDE LA CACHÉ GEOGRÁFICA (sin acceso a la BBDD)
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<AutCommunityResponseDto> findAll() {
+        return geoReferenceCache.findAllCommunities().stream()
+                .map(this::toResponseDto)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AutCommunityResponseDto findById(Integer id) {
+        return geoReferenceCache.findCommunityById(id)
+                .map(this::toResponseDto)
+                .orElseThrow(() -> new NotFoundException("Entidad no encontrada con el id: " + id));
+    }
+
+    private AutCommunityResponseDto toResponseDto(CommunityRef ref) {
+        return new AutCommunityResponseDto(ref.id(), ref.name());
+    }
+
+
       //OVERRIDE MÉTODOS DE LA INTERFAZ IAUTONOMOUSCOMMUNITYSERVICE
 
       /**
@@ -48,10 +82,9 @@ public class AutonomousCommunityServiceImpl extends GenericCrudDtoServiceImpl<Au
        */
     @Override
     public AutCommunityResponseDto findByName(String name) {
-        AutonomousCommunity autCommunityOpt = autCommunityRepository.findByNameContainingIgnoreCase(name)
+        return geoReferenceCache.findCommunityByNameContaining(name)
+                .map(this::toResponseDto)
                 .orElseThrow(() -> new NotFoundException("Comunidad autónoma no encontrada con el nombre: " + name));
-
-        return convertToResponseDto(autCommunityOpt); // Reutiliza el conversor heredado
     }
 
 
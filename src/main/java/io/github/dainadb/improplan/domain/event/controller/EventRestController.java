@@ -3,6 +3,7 @@ package io.github.dainadb.improplan.domain.event.controller;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -19,11 +20,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import io.github.dainadb.improplan.common.cache.SerializedResponseCache;
 import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.common.response.CursorPage;
+import io.github.dainadb.improplan.common.response.SliceResponse;
 import io.github.dainadb.improplan.domain.auth.service.IAuthService;
 import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
 import io.github.dainadb.improplan.domain.event.dto.EventResponseDto;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
 import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
 import io.github.dainadb.improplan.domain.event.service.IEventService;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
@@ -61,13 +67,29 @@ public class EventRestController extends GenericRestController {
 
     /**
      * Obtiene un evento por su ID.
+     * El detalle de los eventos publicados y vigentes se guarda ya serializado (y comprimido) hasta que el evento cambia;
+     * el resto (pendientes, descartados, caducados) se consulta en cada petición.
      * @param id ID del evento.
+     * @param request Petición HTTP (cabecera Accept-Encoding).
      * @return ResponseEntity con el evento encontrado.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<EventResponseDto>> getEventById(@PathVariable Long id) {
-        EventResponseDto event = eventService.findById(id);
-        return success(event, "Evento encontrado.");
+    public ResponseEntity<ApiResponse<EventResponseDto>> getEventById(@PathVariable Long id, ServletWebRequest request) {
+        String key = SerializedResponseCache.eventKey(id);
+        Optional<SerializedResponseCache.Entry> cached = serializedResponseCache.find(key);
+        if (cached.isPresent()) {
+            return serialized(ResponseEntity.ok(), request, cached.get());
+        }
+
+        long generation = serializedResponseCache.generation(); //Antes de leer el evento
+        Optional<EventResponseDto> published = eventService.findPublishedById(id);
+        if (published.isEmpty()) {
+            return serialized(ResponseEntity.ok(), request,
+                    serializedResponseCache.serialize(new ApiResponse<>(eventService.findById(id), "Evento encontrado.")));
+        }
+        SerializedResponseCache.Entry entry = serializedResponseCache.put(key, generation,
+                new ApiResponse<>(published.get(), "Evento encontrado."));
+        return serialized(ResponseEntity.ok(), request, entry);
     }
 
     /**
@@ -123,8 +145,8 @@ public class EventRestController extends GenericRestController {
      * @return  Lista de eventos vigentes
      */
     @GetMapping("/intime/status")
-    public ResponseEntity<ApiResponse<List<EventResponseDto>>> getEventsStatusInTime(@RequestParam String status) {
-        List<EventResponseDto> events = eventService.findByInTimeAndStatus(true, status);
+    public ResponseEntity<ApiResponse<List<EventSummaryDto>>> getEventsStatusInTime(@RequestParam String status) {
+        List<EventSummaryDto> events = eventService.findByInTimeAndStatus(true, status);
         return success(events, "Eventos vigentes recuperados con estado " + status + ".");
     }
 
@@ -133,8 +155,8 @@ public class EventRestController extends GenericRestController {
      * @return Lista de eventos descartados.
      */
     @GetMapping("/discarded")
-    public ResponseEntity<ApiResponse<List<EventResponseDto>>> getEventDiscarded() {
-        List<EventResponseDto> events = eventService.findByStatus(StatusType.DISCARDED.name());
+    public ResponseEntity<ApiResponse<List<EventSummaryDto>>> getEventDiscarded() {
+        List<EventSummaryDto> events = eventService.findByStatus(StatusType.DISCARDED.name());
         return success(events, "Eventos descartados recuperados.");
     }
 
@@ -144,8 +166,49 @@ public class EventRestController extends GenericRestController {
      * @return Lista de eventos fuera de tiempo.
      */
     @GetMapping("/outtime")
-    public ResponseEntity<ApiResponse<List<EventResponseDto>>> outTimeEventNotDiscarded(){
-        List<EventResponseDto> events = eventService.findOutTimeAndNotDiscarded(false, List.of(StatusType.PUBLISHED.name(), StatusType.PENDING.name()));
+    public ResponseEntity<ApiResponse<List<EventSummaryDto>>> outTimeEventNotDiscarded(){
+        List<EventSummaryDto> events = eventService.findOutTimeAndNotDiscarded(false, List.of(StatusType.PUBLISHED.name(), StatusType.PENDING.name()));
+        return success(events, "Eventos fuera de tiempo recuperados.");
+    }
+
+    /**
+     * Versión paginada de /intime/status, ordenada por ID.
+     * @param status Estado de los eventos a recuperar (PENDING o PUBLISHED).
+     * @param page Número de página (opcional, empieza en 0).
+     * @param size Tamaño de página (opcional, por defecto 20 y máximo 50).
+     * @return Página de eventos vigentes e indicación de si hay más.
+     */
+    @GetMapping("/intime/status/page")
+    public ResponseEntity<ApiResponse<SliceResponse<EventSummaryDto>>> getEventsStatusInTimePage(@RequestParam String status,
+            @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size) {
+        SliceResponse<EventSummaryDto> events = eventService.findByInTimeAndStatus(true, status, page, size);
+        return success(events, "Eventos vigentes recuperados con estado " + status + ".");
+    }
+
+    /**
+     * Versión paginada de /discarded, ordenada por ID.
+     * @param page Número de página (opcional, empieza en 0).
+     * @param size Tamaño de página (opcional, por defecto 20 y máximo 50).
+     * @return Página de eventos descartados e indicación de si hay más.
+     */
+    @GetMapping("/discarded/page")
+    public ResponseEntity<ApiResponse<SliceResponse<EventSummaryDto>>> getEventDiscardedPage(
+            @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size) {
+        SliceResponse<EventSummaryDto> events = eventService.findByStatus(StatusType.DISCARDED.name(), page, size);
+        return success(events, "Eventos descartados recuperados.");
+    }
+
+    /**
+     * Versión paginada de /outtime, ordenada por ID.
+     * @param page Número de página (opcional, empieza en 0).
+     * @param size Tamaño de página (opcional, por defecto 20 y máximo 50).
+     * @return Página de eventos fuera de tiempo e indicación de si hay más.
+     */
+    @GetMapping("/outtime/page")
+    public ResponseEntity<ApiResponse<SliceResponse<EventSummaryDto>>> outTimeEventNotDiscardedPage(
+            @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size) {
+        SliceResponse<EventSummaryDto> events = eventService.findOutTimeAndNotDiscarded(false,
+                List.of(StatusType.PUBLISHED.name(), StatusType.PENDING.name()), page, size);
         return success(events, "Eventos fuera de tiempo recuperados.");
     }
 
@@ -193,17 +256,85 @@ public class EventRestController extends GenericRestController {
      * @return Lista de eventos que cumplen con los criterios de búsqueda.
      */
     @GetMapping("/filters")
-    public ResponseEntity<ApiResponse<List<EventResponseDto>>> searchPublishedEvents(
+    public ResponseEntity<ApiResponse<List<EventSummaryDto>>> searchPublishedEvents(
             @RequestParam String provinceName,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate eventDate,
             @RequestParam(required = false) String themeName,
             @RequestParam(required = false) String municipalityName,
             @RequestParam(required = false) BigDecimal maxPrice) {
         
-        List<EventResponseDto> events = eventService.searchPublishedEvents(provinceName, eventDate, themeName, municipalityName, maxPrice);
+        List<EventSummaryDto> events = eventService.searchPublishedEvents(provinceName, eventDate, themeName, municipalityName, maxPrice);
         return success(events, "Resultados de la búsqueda de eventos.");
     }
 
+    /**
+     * Búsqueda avanzada de eventos publicados y vigentes, paginada por cursor.
+     * Para obtener la siguiente página se reenvían los mismos filtros junto con el cursor recibido.
+     *
+     * @param provinceName     Nombre de la provincia (obligatorio).
+     * @param eventDate        Fecha del evento (obligatorio).
+     * @param themeName        Nombre de la temática (opcional).
+     * @param municipalityName Nombre del municipio (opcional).
+     * @param maxPrice         Precio máximo (opcional).
+     * @param cursor           Cursor de la página anterior (opcional).
+     * @param size             Número de eventos por página (opcional, con un máximo).
+     * @return Página de eventos y cursor de la siguiente página.
+     */
+    @GetMapping("/filters/page")
+    public ResponseEntity<ApiResponse<CursorPage<EventSummaryDto>>> searchPublishedEventsPage(
+            @RequestParam String provinceName,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate eventDate,
+            @RequestParam(required = false) String themeName,
+            @RequestParam(required = false) String municipalityName,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        CursorPage<EventSummaryDto> page = eventService.searchPublishedEvents(provinceName, eventDate, themeName, municipalityName, maxPrice, cursor, size);
+        return success(page, "Resultados de la búsqueda de eventos.");
+    }
+
+    /**
+     * Búsqueda de texto en el nombre, el resumen y el lugar de los eventos publicados y vigentes.
+     * No distingue tildes ni mayúsculas y admite palabras incompletas (ej. "conci mala" encuentra "Concierto en Málaga").
+     *
+     * @param q    Texto de búsqueda.
+     * @param size Número máximo de resultados (opcional, con un máximo).
+     * @return Lista de eventos ordenada por relevancia.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<EventSummaryDto>>> searchEventsByText(@RequestParam String q,
+            @RequestParam(required = false) Integer size) {
+        List<EventSummaryDto> events = eventService.searchByText(q, size);
+        return success(events, "Resultados de la búsqueda de eventos.");
+    }
+
+    /**
+     * Busca los eventos publicados y vigentes cercanos a un punto, del más cercano al más lejano.
+     *
+     * @param lat       Latitud del punto.
+     * @param lon       Longitud del punto.
+     * @param radiusKm  Radio de búsqueda en km (opcional, por defecto 10 y máximo 50).
+     * @param themeName Nombre de la temática (opcional).
+     * @param maxPrice  Precio máximo (opcional).
+     * @param eventDate Día en que se celebra el evento (opcional).
+     * @param size      Número máximo de resultados (opcional, con un máximo).
+     * @return Lista de eventos ordenada por distancia.
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<EventSummaryDto>>> searchNearbyEvents(
+            @RequestParam Double lat,
+            @RequestParam Double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) String themeName,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate eventDate,
+            @RequestParam(required = false) Integer size) {
+
+        List<EventSummaryDto> events = eventService.searchNearby(lat, lon, radiusKm, themeName, maxPrice, eventDate, size);
+        return success(events, "Eventos cercanos encontrados.");
+    }
+
 
 
 
@@ -236,8 +367,8 @@ public class EventRestController extends GenericRestController {
      * @return Lista de eventos creados por ese usuario.
      */
     @GetMapping("/user/{email}")
-    public ResponseEntity<ApiResponse<List<EventResponseDto>>> getEventsByUserEmail(@PathVariable String email ) {
-        List<EventResponseDto> events = eventService.findByUserEmail(email);
+    public ResponseEntity<ApiResponse<List<EventSummaryDto>>> getEventsByUserEmail(@PathVariable String email ) {
+        List<EventSummaryDto> events = eventService.findByUserEmail(email);
         return success(events, "Eventos encontrados para el usuario " + email);
     }
 
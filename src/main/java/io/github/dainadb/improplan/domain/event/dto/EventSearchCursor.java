@@ -0,0 +1,50 @@
+package io.github.dainadb.improplan.domain.event.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import io.github.dainadb.improplan.exception.BadRequestException;
+
+/**
+ * Cursor de la búsqueda paginada de eventos publicados.
+ * <p>
+ * Guarda la posición (fecha buscada + id del último evento devuelto) a partir de la cual
+ * continuar. Se envía al cliente codificado en Base64 para que sea opaco.
+ *
+ * @param eventDate Fecha de la búsqueda a la que pertenece el cursor.
+ * @param lastId    ID del último evento de la página anterior.
+ */
+public record EventSearchCursor(LocalDate eventDate, long lastId) {
+
+    private static final String VERSION = "v1";
+
+    /**
+     * Codifica el cursor como un token opaco apto para URLs.
+     * @return Token en Base64 URL sin relleno.
+     */
+    public String encode() {
+        String raw = VERSION + ":" + eventDate.toEpochDay() + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodifica un token generado por {@link #encode()}.
+     * @param token Token recibido del cliente.
+     * @return El cursor decodificado.
+     * @throws BadRequestException si el token está mal formado.
+     */
+    public static EventSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("El cursor de paginación no es válido.");
+            }
+            return new EventSearchCursor(LocalDate.ofEpochDay(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) { // NumberFormatException hereda de IllegalArgumentException
+            throw new BadRequestException("El cursor de paginación no es válido.");
+        }
+    }
+}
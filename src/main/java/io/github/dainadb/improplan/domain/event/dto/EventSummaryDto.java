@@ -0,0 +1,30 @@
+package io.github.dainadb.improplan.domain.event.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de respuesta reducido para los listados de eventos.
+ * No incluye la descripción (columna TEXT) ni los datos que solo se muestran en el detalle ({@link EventResponseDto}).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EventSummaryDto {
+    private Long id;
+    private String name;
+    private String summary;
+    private String image;
+    private Boolean isFree;
+    private BigDecimal price;
+    private String municipalityName;
+    private String themeName;
+    private Set<LocalDate> eventDates;
+}
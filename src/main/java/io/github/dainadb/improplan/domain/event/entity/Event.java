@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.validator.constraints.URL;
 
 import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
@@ -24,7 +25,10 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,6 +41,11 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "app_events")
+//Grafo para cargar en la misma consulta las relaciones que se leen al convertir el evento a DTO (evita el problema N+1)
+@NamedEntityGraph(name = Event.GRAPH_REFERENCES, attributeNodes = {
+    @NamedAttributeNode("municipality"),
+    @NamedAttributeNode("theme")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,8 +55,16 @@ public class Event implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Nombre del grafo de entidad que carga el municipio y la temática junto con el evento.
+     */
+    public static final String GRAPH_REFERENCES = "Event.references";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_id")
+    //IDs reservados de 50 en 50 en la tabla id_generators: a diferencia de IDENTITY, permite agrupar los INSERT en lotes JDBC
+    @TableGenerator(name = "event_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "last_id", pkColumnValue = "app_events", allocationSize = 50)
     @Column(name = "id_event")
     private Long id;
 
@@ -142,6 +159,7 @@ public class Event implements Serializable {
      */
     @Builder.Default //Para que no ignore el valor por defecto al usar el builder de Lombok
     @ManyToMany(fetch = FetchType.LAZY) 
+    @BatchSize(size = 50) //Al acceder a las fechas de un evento se cargan a la vez las de hasta 50 eventos de la misma sesión (una consulta en lugar de N)
     @JoinTable(
         name = "events_dates",
         joinColumns = @JoinColumn(name = "id_event"),
@@ -0,0 +1,84 @@
+package io.github.dainadb.improplan.domain.event.mapper;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.domain.event.dto.EventResponseDto;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
+import io.github.dainadb.improplan.domain.event.entity.Event;
+import io.github.dainadb.improplan.domain.event.search.EventSummaryRow;
+import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
+
+/**
+ * Conversor escrito a mano de Event a EventResponseDto, y de las filas de listado a EventSummaryDto.
+ * <p>
+ * Produce el mismo resultado que el typeMap de Event definido en ModelMapperConfig,
+ * pero sin reflexión: se usa en las lecturas, que es donde más se convierte.
+ */
+@Component
+public class EventMapper {
+
+    /**
+     * Convierte una entidad Event a su DTO de respuesta.
+     * @param event Entidad a convertir.
+     * @return DTO de respuesta, o null si el evento es null.
+     */
+    public EventResponseDto toResponseDto(Event event) {
+        if (event == null) {
+            return null;
+        }
+        EventResponseDto dto = new EventResponseDto();
+        dto.setId(event.getId());
+        dto.setName(event.getName());
+        dto.setSummary(event.getSummary());
+        dto.setDescription(event.getDescription());
+        dto.setPlaceName(event.getPlaceName());
+        dto.setAddress(event.getAddress());
+        dto.setLatitude(event.getLatitude());
+        dto.setLongitude(event.getLongitude());
+        dto.setImage(event.getImage());
+        dto.setInfoUrl(event.getInfoUrl());
+        dto.setIsFree(event.getIsFree());
+        dto.setPrice(event.getPrice());
+        dto.setInTime(event.getInTime());
+        dto.setStatus(event.getStatus());
+        dto.setMunicipalityName(event.getMunicipality() != null ? event.getMunicipality().getName() : null);
+        dto.setThemeName(event.getTheme() != null ? event.getTheme().getName() : null);
+        dto.setEventDates(toLocalDates(event.getDates()));
+        return dto;
+    }
+
+    /**
+     * Convierte una fila de listado y sus fechas al DTO reducido de los listados.
+     * @param row Fila leída con la proyección de listados.
+     * @param dates Días de celebración del evento (puede ser null si no tiene ninguno).
+     * @return DTO de listado, o null si la fila es null.
+     */
+    public EventSummaryDto toSummaryDto(EventSummaryRow row, Set<LocalDate> dates) {
+        if (row == null) {
+            return null;
+        }
+        return new EventSummaryDto(row.id(), row.name(), row.summary(), row.image(), row.isFree(), row.price(),
+                row.municipalityName(), row.themeName(), dates != null ? new HashSet<>(dates) : new HashSet<>());
+    }
+
+    /**
+     * Extrae las fechas (LocalDate) de un conjunto de EventDate.
+     * @param dates Conjunto de fechas del evento.
+     * @return Conjunto de LocalDate, o null si el conjunto de entrada es null.
+     */
+    private Set<LocalDate> toLocalDates(Set<EventDate> dates) {
+        if (dates == null) {
+            return null;
+        }
+        //Se dimensiona el HashSet de antemano para evitar redimensionados
+        Set<LocalDate> result = new HashSet<>((int) (dates.size() / 0.75f) + 1);
+        for (EventDate date : dates) {
+            result.add(date.getFullDate());
+        }
+        return result;
+    }
+}
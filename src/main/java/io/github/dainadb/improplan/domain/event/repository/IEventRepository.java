@@ -3,41 +3,99 @@ package io.github.dainadb.improplan.domain.event.repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import io.github.dainadb.improplan.domain.event.entity.Event;
 import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.event.search.EventDateLink;
+import io.github.dainadb.improplan.domain.event.search.EventGeoDocument;
+import io.github.dainadb.improplan.domain.event.search.EventSearchDocument;
+import io.github.dainadb.improplan.domain.event.search.EventSummaryRow;
 /** 
  * Repositorio para la entidad Event. 
  * Permite realizar operaciones CRUD y consultas sobre la tabla de eventos.
 */
 public interface IEventRepository extends JpaRepository<Event, Long> {
 
+    //Las búsquedas que devuelven una entidad completa para convertirla a EventResponseDto usan el grafo Event.GRAPH_REFERENCES,
+    //así el municipio y la temática llegan en la misma consulta y las fechas se cargan por lotes (@BatchSize en Event.dates).
+    //Una lista de N eventos cuesta un número fijo de consultas en lugar de 1 + 3N.
+
+    //Los listados no necesitan la descripción (TEXT) ni el resto de columnas del detalle: leen una proyección
+    //EventSummaryRow con SUMMARY_SELECT y las fechas aparte con findDatesByEventIds.
+    //Sin mejora de bytecode de Hibernate un @Basic(fetch = LAZY) se ignoraría, así que la columna se deja fuera de la SELECT.
+    /**
+     * Inicio común de las consultas de listados: columnas de {@link EventSummaryRow} con municipio y temática por INNER JOIN.
+     */
+    String SUMMARY_SELECT = """
+            SELECT new io.github.dainadb.improplan.domain.event.search.EventSummaryRow(
+                e.id, e.name, e.summary, e.image, e.isFree, e.price, m.id, m.name, t.name)
+            FROM Event e JOIN e.municipality m JOIN e.theme t
+            """;
+
+    /** Número máximo de IDs por consulta IN al leer las fechas de un listado. */
+    int DATES_BATCH_SIZE = 500;
+
+    /**
+     * Busca un evento por su ID cargando también su municipio y su temática.
+     * @param id ID del evento.
+     * @return un {@link Optional} con el evento si existe.
+     */
+    @Override
+    @EntityGraph(Event.GRAPH_REFERENCES)
+    Optional<Event> findById(Long id);
+
+    /**
+     * Devuelve todos los eventos cargando también su municipio y su temática.
+     * @return Lista de todos los eventos.
+     */
+    @Override
+    @EntityGraph(Event.GRAPH_REFERENCES)
+    List<Event> findAll();
+
+    /**
+     * Devuelve todos los eventos como filas de listado.
+     * @return Lista de todos los eventos, sin descripción.
+     */
+    @Query(SUMMARY_SELECT)
+    List<EventSummaryRow> findAllSummaries();
 
     /**
      * Busca eventos cuyo nombre contiene la cadena dada, ignorando mayúsculas y minúsculas.
      * @param name Cadena a buscar en los nombres de los eventos.
      * @return Lista de eventos que contienen la cadena en su nombre.
      */
-    List<Event> findByNameContainingIgnoreCase(String name);
+    @Query(SUMMARY_SELECT + "WHERE UPPER(e.name) LIKE UPPER(CONCAT('%', :name, '%'))")
+    List<EventSummaryRow> findByNameContainingIgnoreCase(@Param("name") String name);
 
      /**
      * Busca eventos por su estado.
      * @param status Estado del evento.
      * @return Lista de eventos que coinciden con el estado dado.
      */
-    List<Event> findByStatus(StatusType status);
+    @Query(SUMMARY_SELECT + "WHERE e.status = :status")
+    List<EventSummaryRow> findByStatus(@Param("status") StatusType status);
 
     /**
      * Busca eventos según si están vigentes o no.
      * @param inTime Indica si el evento está vigente (true) o no (false).
      * @return Lista de eventos que coinciden con el criterio dado.
      */
-    List<Event> findByInTime(Boolean inTime);
+    @Query(SUMMARY_SELECT + "WHERE e.inTime = :inTime")
+    List<EventSummaryRow> findByInTime(@Param("inTime") Boolean inTime);
 
     /**
      * Busca eventos según si están vigentes o no y su estado.
@@ -45,7 +103,8 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
      * @param statusType Estado del evento.
      * @return Lista de eventos que coinciden con los criterios dados.
      */
-    List<Event> findByInTimeAndStatus(Boolean inTime, StatusType statusType);
+    @Query(SUMMARY_SELECT + "WHERE e.inTime = :inTime AND e.status = :status")
+    List<EventSummaryRow> findByInTimeAndStatus(@Param("inTime") Boolean inTime, @Param("status") StatusType statusType);
    
     /**
      * Busca eventos por su estado de tiempo (inTime) y por una lista de estados posibles.
@@ -53,7 +112,8 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
      * @param statuses Colección de estados por los que filtrar (ej. PUBLISHED, PENDING).
      * @return Lista de eventos que cumplen las condiciones.
      */
-    List<Event> findByInTimeAndStatusIn(boolean inTime, Collection<StatusType> statuses);
+    @Query(SUMMARY_SELECT + "WHERE e.inTime = :inTime AND e.status IN :statuses")
+    List<EventSummaryRow> findByInTimeAndStatusIn(@Param("inTime") boolean inTime, @Param("statuses") Collection<StatusType> statuses);
 
     /**
      * Cuenta cuántos eventos hay en un estado específico.
@@ -73,7 +133,8 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
      * @param isFree Indica si el evento es gratuito (true) o de pago (false).
      * @return Lista de eventos que coinciden con el criterio de gratuidad.
      */
-    List<Event> findByIsFree(Boolean isFree);
+    @Query(SUMMARY_SELECT + "WHERE e.isFree = :isFree")
+    List<EventSummaryRow> findByIsFree(@Param("isFree") Boolean isFree);
 
    
    /**
@@ -81,21 +142,25 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
     * @param maxPrice Precio máximo
     * @return Lista de eventos que tienen un precio igual o inferior al especificado.
     */
-    List<Event> findByPriceLessThanEqual (BigDecimal maxPrice);
+    @Query(SUMMARY_SELECT + "WHERE e.price <= :maxPrice")
+    List<EventSummaryRow> findByPriceLessThanEqual (@Param("maxPrice") BigDecimal maxPrice);
 
     /**
      * Busca eventos por el nombre del municipio.
      * @param name Nombre del municipio.
      * @return Lista de eventos que pertenecen al municipio con el nombre dado.
      */
-    List<Event> findByMunicipalityNameIgnoreCase(String name);
+    //INNER JOIN (SUMMARY_SELECT): la BBDD puede empezar por el municipio y llegar a app_events por su índice
+    @Query(SUMMARY_SELECT + "WHERE UPPER(m.name) = UPPER(:name)")
+    List<EventSummaryRow> findByMunicipalityNameIgnoreCase(@Param("name") String name);
 
     /**
      * Busca eventos por el nombre de la provincia.
      * @param name Nombre de la provincia.
      * @return Lista de eventos que pertenecen a la provincia con el nombre dado.
      */
-    List<Event> findByMunicipalityProvinceNameIgnoreCase(String name);
+    @Query(SUMMARY_SELECT + "JOIN m.province p WHERE UPPER(p.name) = UPPER(:name)")
+    List<EventSummaryRow> findByMunicipalityProvinceNameIgnoreCase(@Param("name") String name);
 
 
     /**
@@ -103,7 +168,8 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
      * @param name Nombre de la temática.
      * @return Lista de eventos que pertenecen a la temática con el nombre dado.
      */
-    List<Event> findByThemeNameIgnoreCase(String name); 
+    @Query(SUMMARY_SELECT + "WHERE UPPER(t.name) = UPPER(:name)")
+    List<EventSummaryRow> findByThemeNameIgnoreCase(@Param("name") String name);
    
     /**
      * Busca eventos que ocurren en una fecha específica.
@@ -112,14 +178,17 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
      * @return Lista de eventos que tienen lugar en esa fecha.
      */
     // El nexo de unión entre Event y EventDate es la colección 'dates' en la entidad Event.
-      List<Event> findByDatesFullDate(LocalDate fullDate);
+    //Con INNER JOIN se parte de la fecha (única) y se llega a los eventos por el índice events_dates(id_date, id_event).
+    @Query(SUMMARY_SELECT + "JOIN e.dates d WHERE d.fullDate = :fullDate")
+    List<EventSummaryRow> findByDatesFullDate(@Param("fullDate") LocalDate fullDate);
 
     /**
      * Busca eventos asociados al correo electrónico de un usuario.
      * @param email Correo electrónico del usuario.
      * @return Lista de eventos asociados al usuario (el usuario que creó el evento).
      */
-    List<Event> findByUserEmail (String email);
+    @Query(SUMMARY_SELECT + "JOIN e.user u WHERE u.email = :email")
+    List<EventSummaryRow> findByUserEmail(@Param("email") String email);
 
 
 
@@ -136,43 +205,159 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
   
   
   
+    //CADUCIDAD MASIVA (tarea programada):
     /**
-   * Búsqueda avanzada de eventos publicados y vigentes con filtros dinámicos. 
-   * @param provinceName  Nombre de la provincia. Filtro obligatorio.
-   * @param eventDate Fecha del evento. Filtro obligatorio.
-   * @param themeName   Nombre de la temática. Filtro opcional (puede ser null).
-   * @param municipalityName  Nombre del municipio. Filtro opcional (puede ser null).
-   * @param maxPrice  Precio máximo. Filtro opcional (puede ser null).
-   * @return
-   */
+     * Obtiene, por lotes y ordenados por ID, los IDs de los eventos vigentes que ya han caducado:
+     * aquellos sin ninguna fecha igual o posterior a hoy (incluye los eventos sin fechas).
+     * @param today Fecha de referencia (día actual).
+     * @param lastId Último ID procesado en el lote anterior (0 para empezar).
+     * @param pageable Tamaño del lote (solo se usa el tamaño de página).
+     * @return la lista de IDs del siguiente lote.
+     */
     @Query("""
-            SELECT e FROM Event e
-              JOIN e.municipality m
-              JOIN m.province p
-              JOIN e.dates d
+            SELECT e.id FROM Event e
+            WHERE e.inTime = true
+              AND e.id > :lastId
+              AND NOT EXISTS (
+                  SELECT d.id FROM Event e2 JOIN e2.dates d
+                  WHERE e2.id = e.id AND d.fullDate >= :today
+              )
+            ORDER BY e.id ASC
+            """)
+    List<Long> findExpiredEventIds(@Param("today") LocalDate today, @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Marca como no vigentes los eventos indicados con una única sentencia UPDATE.
+     * @param ids IDs de los eventos a actualizar.
+     * @return el número de filas modificadas.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET e.inTime = false WHERE e.id IN :ids AND e.inTime = true")
+    int markAsNotInTime(@Param("ids") Collection<Long> ids);
+
+    //ÍNDICES EN MEMORIA:
+    /**
+     * Obtiene por lotes, ordenados por ID, las filas de listado de los eventos publicados y vigentes,
+     * para cargar el catálogo en memoria.
+     * @param lastId Último ID leído en el lote anterior (0 para empezar).
+     * @param pageable Tamaño del lote (solo se usa el tamaño de página).
+     * @return el siguiente lote de filas.
+     */
+    @Query(SUMMARY_SELECT + """
             WHERE e.status = 'PUBLISHED'
               AND e.inTime = true
-              AND p.name = :provinceName
-              AND d.fullDate = :eventDate
-              AND (:themeName IS NULL OR e.theme.name = :themeName)
-              AND (:municipalityName IS NULL OR m.name = :municipalityName)
-              AND (:maxPrice IS NULL OR e.price <= :maxPrice)
-            """) 
-        List<Event> searchPublishedEvents(
-                @Param("provinceName") String provinceName,
-                @Param("eventDate") LocalDate eventDate,
-                @Param("themeName") String themeName,
-                @Param("municipalityName") String municipalityName,
-                @Param("maxPrice") BigDecimal maxPrice
-        );
+              AND e.id > :lastId
+            ORDER BY e.id ASC
+            """)
+    List<EventSummaryRow> findPublishedSummariesAfter(@Param("lastId") Long lastId, Pageable pageable);
 
+    /**
+     * Obtiene las filas de listado de los eventos indicados que estén publicados y vigentes.
+     * @param ids IDs de los eventos.
+     * @return las filas de los eventos que siguen siendo públicos (sin orden garantizado).
+     */
+    @Query(SUMMARY_SELECT + """
+            WHERE e.status = 'PUBLISHED'
+              AND e.inTime = true
+              AND e.id IN :ids
+            """)
+    List<EventSummaryRow> findPublishedSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
+    /**
+     * Obtiene por lotes, ordenados por ID, los campos de texto que indexa el buscador de eventos.
+     * @param lastId Último ID leído en el lote anterior (0 para empezar).
+     * @param pageable Tamaño del lote (solo se usa el tamaño de página).
+     * @return el siguiente lote de documentos.
+     */
+    @Query("""
+            SELECT new io.github.dainadb.improplan.domain.event.search.EventSearchDocument(
+                e.id, e.name, e.summary, e.placeName, e.status, e.inTime)
+            FROM Event e
+            WHERE e.id > :lastId
+            ORDER BY e.id ASC
+            """)
+    List<EventSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
 
+    /**
+     * Obtiene los campos de texto que indexa el buscador para los eventos indicados.
+     * @param ids IDs de los eventos.
+     * @return los documentos de los eventos que existen.
+     */
+    @Query("""
+            SELECT new io.github.dainadb.improplan.domain.event.search.EventSearchDocument(
+                e.id, e.name, e.summary, e.placeName, e.status, e.inTime)
+            FROM Event e
+            WHERE e.id IN :ids
+            """)
+    List<EventSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
 
+    /**
+     * Obtiene por lotes, ordenados por ID, la posición y los datos filtrables de los eventos publicados y vigentes
+     * para el índice geográfico.
+     * @param lastId Último ID leído en el lote anterior (0 para empezar).
+     * @param pageable Tamaño del lote (solo se usa el tamaño de página).
+     * @return el siguiente lote de documentos.
+     */
+    @Query("""
+            SELECT new io.github.dainadb.improplan.domain.event.search.EventGeoDocument(
+                e.id, e.latitude, e.longitude, e.theme.name, e.price)
+            FROM Event e
+            WHERE e.status = 'PUBLISHED'
+              AND e.inTime = true
+              AND e.id > :lastId
+            ORDER BY e.id ASC
+            """)
+    List<EventGeoDocument> findGeoDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Obtiene los datos del índice geográfico de los eventos indicados que estén publicados y vigentes.
+     * @param ids IDs de los eventos.
+     * @return los documentos de los eventos que siguen siendo públicos.
+     */
+    @Query("""
+            SELECT new io.github.dainadb.improplan.domain.event.search.EventGeoDocument(
+                e.id, e.latitude, e.longitude, e.theme.name, e.price)
+            FROM Event e
+            WHERE e.status = 'PUBLISHED'
+              AND e.inTime = true
+              AND e.id IN :ids
+            """)
+    List<EventGeoDocument> findGeoDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene los días de celebración de los eventos indicados, sin cargar las entidades.
+     * @param ids IDs de los eventos.
+     * @return un par (evento, día) por cada fecha de cada evento.
+     */
+    @Query("""
+            SELECT new io.github.dainadb.improplan.domain.event.search.EventDateLink(e.id, d.fullDate)
+            FROM Event e JOIN e.dates d
+            WHERE e.id IN :ids
+            """)
+    List<EventDateLink> findDateLinksByEventIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Agrupa por evento los días de celebración de los eventos indicados, en consultas de como mucho
+     * {@link #DATES_BATCH_SIZE} IDs.
+     * @param ids IDs de los eventos.
+     * @return los días de cada evento; los eventos sin fechas no aparecen en el mapa.
+     */
+    default Map<Long, Set<LocalDate>> findDatesByEventIds(List<Long> ids) {
+        Map<Long, Set<LocalDate>> datesByEvent = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += DATES_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + DATES_BATCH_SIZE, ids.size()));
+            for (EventDateLink link : findDateLinksByEventIdIn(batch)) {
+                datesByEvent.computeIfAbsent(link.eventId(), k -> new HashSet<>()).add(link.fullDate());
+            }
+        }
+        return datesByEvent;
+    }
 
 
 
-//Valorar si se podrá implementar en un futuro 
+
+
+//Valorar si se podrá implementar en un futuro
    
     //OPCIONES PAGINADAS DE LAS BÚSQUEDAS ANTERIORES:
      /**
@@ -187,18 +372,44 @@ public interface IEventRepository extends JpaRepository<Event, Long> {
     */
 
 
-    //Para poder paginar los resultados de las búsquedas se devolverá un Page<Event> en lugar de List<Event>(una página de eventos).
-    //No queremos toda la lista de eventos al completo, solo un subconjunto de esta lista (una cierta cantidad)
-    //Además de los elementos de la página, el objeto Page también contiene información sobre el total de elementos, total de páginas, número de página actual, etc.
-   
+    //Para poder paginar los resultados de las búsquedas se devuelve un Slice<Event> en lugar de List<Event> (una página de eventos).
+    //No queremos toda la lista de eventos al completo, solo un subconjunto de esta lista (una cierta cantidad).
+    //Se usa Slice y no Page porque Page lanza además un COUNT(*) sobre toda la tabla en cada petición;
+    //Slice solo indica si hay una página siguiente (pide un elemento de más), que es lo que necesitan las pantallas de administración.
+
     //Por parámetros se pasa un objeto Pageable que especifica el número de página, tamaño de página y criterios de ordenación.
     //Page<Event> findAll (Pageable pageable); //No sería necesario definir este método, ya que JpaRepository ya lo proporciona.
 
-    //En esta opción además de pasar por parámetro el objeto Pageable, se pasa el estado para filtrar los eventos por su estado.
-    //Page<Event> findByStatus (Pageable pageable, StatusType status);
+    /**
+     * Versión paginada de {@link #findByStatus(StatusType)}.
+     * @param status Estado del evento.
+     * @param pageable Número de página, tamaño y ordenación.
+     * @return Una porción (Slice) de los eventos con ese estado.
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.status = :status")
+    Slice<EventSummaryRow> findByStatus(@Param("status") StatusType status, Pageable pageable);
 
-    //En esta opción además de pasar por parámetro el objeto Pageable, se pasa el estado para filtrar los eventos por su estado y si están vigentes
-    //Page<Event> findByInTimeAndStatus(Pageable pageable, Boolean inTime, StatusType status);
+    /**
+     * Versión paginada de {@link #findByInTimeAndStatus(Boolean, StatusType)}.
+     * @param inTime Indica si el evento está vigente (true) o no (false).
+     * @param statusType Estado del evento.
+     * @param pageable Número de página, tamaño y ordenación.
+     * @return Una porción (Slice) de los eventos que cumplen los criterios.
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.inTime = :inTime AND e.status = :status")
+    Slice<EventSummaryRow> findByInTimeAndStatus(@Param("inTime") Boolean inTime, @Param("status") StatusType statusType,
+                                                 Pageable pageable);
+
+    /**
+     * Versión paginada de {@link #findByInTimeAndStatusIn(boolean, Collection)}.
+     * @param inTime false para eventos fuera de tiempo, true para eventos en tiempo.
+     * @param statuses Colección de estados por los que filtrar.
+     * @param pageable Número de página, tamaño y ordenación.
+     * @return Una porción (Slice) de los eventos que cumplen los criterios.
+     */
+    @Query(SUMMARY_SELECT + "WHERE e.inTime = :inTime AND e.status IN :statuses")
+    Slice<EventSummaryRow> findByInTimeAndStatusIn(@Param("inTime") boolean inTime,
+                                                   @Param("statuses") Collection<StatusType> statuses, Pageable pageable);
 
 
 
@@ -0,0 +1,9 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.time.LocalDate;
+
+/**
+ * Relación evento-fecha (tabla events_dates) leída como proyección, sin cargar las entidades.
+ */
+public record EventDateLink(Long eventId, LocalDate fullDate) {
+}
@@ -0,0 +1,11 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.math.BigDecimal;
+
+/**
+ * Campos de un evento publicado y vigente que necesita el índice geográfico.
+ * Las fechas del evento se leen aparte con {@link EventDateLink}.
+ */
+public record EventGeoDocument(Long id, BigDecimal latitude, BigDecimal longitude,
+                               String themeName, BigDecimal price) {
+}
@@ -0,0 +1,270 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.github.dainadb.improplan.common.cache.ReferenceDataChangedEvent;
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+
+/**
+ * Índice geográfico en memoria de los eventos publicados y vigentes.
+ * <p>
+ * El mapa se divide en una rejilla de celdas de 0,1 grados (unos 11 km de lado en latitud) y cada
+ * evento se guarda en la celda de sus coordenadas. Una búsqueda por radio solo recorre las celdas que cubren el
+ * rectángulo del círculo; dentro de ellas se descartan primero los eventos fuera del radio (o más lejanos que los
+ * resultados ya encontrados) y después los que no cumplen los filtros (temática, precio y día).
+ * El coste depende de los eventos de la zona y no del total de eventos.
+ * <p>
+ * Los eventos sin coordenadas (0, 0, valor por defecto al crearlos desde la aplicación) no se indexan.
+ * La carga y la actualización son las de {@link InMemoryEventIndex}: al publicar un evento entra en el índice y al
+ * descartarlo, caducar o borrarlo sale de él. Si cambia una temática ({@link ReferenceDataChangedEvent}) se
+ * reconstruye entero.
+ */
+@Component
+public class EventGeoIndex
+        extends InMemoryEventIndex<EventGeoDocument, EventGeoIndex.GeoEntry, EventGeoIndex.Grid> {
+
+    /** Radio máximo de búsqueda en kilómetros. */
+    public static final double MAX_RADIUS_KM = 50.0;
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final double KM_PER_DEGREE = 111.32; //Kilómetros por grado de latitud
+    //Cerca de los polos los grados de longitud miden casi 0 km; se limita para no recorrer toda la vuelta
+    private static final double MIN_COS_LATITUDE = 0.01;
+
+    /**
+     * Evento indexado. El precio es NaN si el evento no tiene precio y los días (epoch-day) están ordenados.
+     */
+    record GeoEntry(long id, double latitude, double longitude, String theme, double price, int[] days) {
+
+        boolean matches(String themeKey, double maxPrice, LocalDate date) {
+            if (themeKey != null && !themeKey.equals(theme)) {
+                return false;
+            }
+            //Igual que en la consulta de la BBDD, un evento sin precio no cumple 'price <= maxPrice'
+            if (!Double.isNaN(maxPrice) && !(price <= maxPrice)) {
+                return false;
+            }
+            return date == null || Arrays.binarySearch(days, (int) date.toEpochDay()) >= 0;
+        }
+    }
+
+    private record Candidate(long id, double distanceSquared) {
+    }
+
+    /**
+     * Estructuras del índice.
+     */
+    static final class Grid {
+        //Celda de la rejilla -> eventos de la celda
+        private final Map<Long, List<GeoEntry>> cells = new HashMap<>();
+        //ID de evento -> evento indexado (para encontrar su celda al actualizarlo)
+        private final Map<Long, GeoEntry> entries = new HashMap<>();
+    }
+
+    // ACTUALIZACIÓN
+
+    /**
+     * Reconstruye el índice cuando el CRUD genérico modifica una temática: cada entrada guarda el nombre
+     * normalizado de la suya para filtrar sin consultar la BBDD.
+     * @param event Evento con la clase de la entidad modificada.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (isLoaded() && event.entityType() == Theme.class) {
+            rebuild();
+        }
+    }
+
+    // BÚSQUEDA
+
+    /**
+     * Busca los eventos publicados y vigentes más cercanos a un punto, dentro de un radio.
+     * @param latitude Latitud del punto (grados).
+     * @param longitude Longitud del punto (grados).
+     * @param radiusKm Radio de búsqueda en kilómetros.
+     * @param themeName Nombre de la temática (opcional, sin distinguir tildes ni mayúsculas).
+     * @param maxPrice Precio máximo (opcional).
+     * @param date Día en que se celebra el evento (opcional).
+     * @param limit Número máximo de resultados.
+     * @return los IDs de los eventos encontrados, del más cercano al más lejano.
+     */
+    public List<Long> findNearby(double latitude, double longitude, double radiusKm,
+                                 String themeName, BigDecimal maxPrice, LocalDate date, int limit) {
+        if (limit <= 0 || radiusKm <= 0) {
+            return List.of();
+        }
+        String themeKey = themeName == null || themeName.isBlank() ? null : TextNormalizer.normalize(themeName);
+        double priceLimit = maxPrice == null ? Double.NaN : maxPrice.doubleValue();
+
+        //Rectángulo que contiene el círculo de búsqueda
+        double kmPerLonDegree = KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), MIN_COS_LATITUDE);
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / kmPerLonDegree;
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+        double minLon = longitude - lonDelta;
+        double maxLon = longitude + lonDelta;
+        double radiusSquared = radiusKm * radiusKm;
+
+        PriorityQueue<Candidate> found = query(grid -> {
+            //Montículo con el candidato más lejano arriba, para quedarse solo con los 'limit' más cercanos
+            PriorityQueue<Candidate> nearest = new PriorityQueue<>(
+                    Comparator.comparingDouble(Candidate::distanceSquared).reversed());
+            for (int row = cellIndex(minLat); row <= cellIndex(maxLat); row++) {
+                for (int col = cellIndex(minLon); col <= cellIndex(maxLon); col++) {
+                    List<GeoEntry> cell = grid.cells.get(cellKey(row, col));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (GeoEntry entry : cell) {
+                        //Distancia plana (equirrectangular): hasta 50 km el error frente a la distancia
+                        //sobre la esfera es muy inferior al 1 % y evita las funciones trigonométricas por evento
+                        double dy = (entry.latitude() - latitude) * KM_PER_DEGREE;
+                        double dx = (entry.longitude() - longitude) * kmPerLonDegree;
+                        double distanceSquared = dx * dx + dy * dy;
+                        if (distanceSquared > radiusSquared
+                                || (nearest.size() == limit && distanceSquared >= nearest.peek().distanceSquared())
+                                || !entry.matches(themeKey, priceLimit, date)) {
+                            continue;
+                        }
+                        if (nearest.size() == limit) {
+                            nearest.poll();
+                        }
+                        nearest.add(new Candidate(entry.id(), distanceSquared));
+                    }
+                }
+            }
+            return nearest;
+        });
+
+        List<Candidate> sorted = new ArrayList<>(found);
+        sorted.sort(Comparator.comparingDouble(Candidate::distanceSquared).thenComparingLong(Candidate::id));
+        return sorted.stream().map(Candidate::id).toList();
+    }
+
+    // CONTENIDO DEL ÍNDICE
+
+    @Override
+    protected Grid newContent() {
+        return new Grid();
+    }
+
+    /**
+     * {@inheritDoc} Solo se leen los eventos publicados y vigentes.
+     */
+    @Override
+    protected List<EventGeoDocument> findAfter(long lastId, Pageable page) {
+        return eventRepository.findGeoDocumentsAfter(lastId, page);
+    }
+
+    /**
+     * {@inheritDoc} Solo vuelven los que siguen publicados y vigentes; el resto (descartados, caducados, borrados)
+     * sale del índice.
+     */
+    @Override
+    protected List<EventGeoDocument> findByIdIn(Collection<Long> ids) {
+        return eventRepository.findGeoDocumentsByIdIn(ids);
+    }
+
+    @Override
+    protected long idOf(EventGeoDocument document) {
+        return document.id();
+    }
+
+    @Override
+    protected void add(Grid grid, GeoEntry entry) {
+        long key = cellKey(cellIndex(entry.latitude()), cellIndex(entry.longitude()));
+        grid.cells.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        grid.entries.put(entry.id(), entry);
+    }
+
+    @Override
+    protected void remove(Grid grid, Long id) {
+        GeoEntry entry = grid.entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        long key = cellKey(cellIndex(entry.latitude()), cellIndex(entry.longitude()));
+        List<GeoEntry> cell = grid.cells.get(key);
+        if (cell != null) {
+            cell.removeIf(e -> e.id() == entry.id());
+            if (cell.isEmpty()) {
+                grid.cells.remove(key);
+            }
+        }
+    }
+
+    @Override
+    protected int size(Grid grid) {
+        return grid.entries.size();
+    }
+
+    @Override
+    protected String summary(Grid grid) {
+        return grid.entries.size() + " eventos en " + grid.cells.size() + " celdas";
+    }
+
+    @Override
+    protected String description() {
+        return "índice geográfico de eventos";
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    /**
+     * Convierte un lote de documentos en entradas del índice, leyendo sus fechas con una sola consulta.
+     * Se omiten los eventos sin coordenadas.
+     */
+    @Override
+    protected List<GeoEntry> toEntries(List<EventGeoDocument> documents) {
+        List<EventGeoDocument> located = documents.stream().filter(EventGeoIndex::hasLocation).toList();
+        if (located.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<LocalDate>> datesByEvent = new HashMap<>();
+        for (EventDateLink link : eventRepository.findDateLinksByEventIdIn(located.stream().map(EventGeoDocument::id).toList())) {
+            datesByEvent.computeIfAbsent(link.eventId(), k -> new ArrayList<>()).add(link.fullDate());
+        }
+        List<GeoEntry> result = new ArrayList<>(located.size());
+        for (EventGeoDocument document : located) {
+            int[] days = datesByEvent.getOrDefault(document.id(), List.of()).stream()
+                    .mapToInt(day -> (int) day.toEpochDay())
+                    .sorted()
+                    .toArray();
+            result.add(new GeoEntry(document.id(),
+                    document.latitude().doubleValue(),
+                    document.longitude().doubleValue(),
+                    TextNormalizer.normalize(document.themeName()),
+                    document.price() == null ? Double.NaN : document.price().doubleValue(),
+                    days));
+        }
+        return result;
+    }
+
+    private static boolean hasLocation(EventGeoDocument document) {
+        return document.latitude() != null && document.longitude() != null
+                && (document.latitude().signum() != 0 || document.longitude().signum() != 0);
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int col) {
+        return (long) row << 32 | (col & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+
+/**
+ * Campos de un evento que necesita el índice de búsqueda de texto.
+ * Se leen con una proyección para no cargar la descripción ni las relaciones del evento.
+ */
+public record EventSearchDocument(Long id, String name, String summary, String placeName,
+                                  StatusType status, Boolean inTime) {
+
+    /**
+     * @return true si el evento es visible en las búsquedas públicas (publicado y vigente).
+     */
+    public boolean isPublic() {
+        return status == StatusType.PUBLISHED && Boolean.TRUE.equals(inTime);
+    }
+}
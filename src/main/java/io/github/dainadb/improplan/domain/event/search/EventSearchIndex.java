@@ -0,0 +1,351 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
+
+/**
+ * Índice invertido en memoria sobre el nombre, el resumen y el lugar de los eventos.
+ * <p>
+ * Los textos se dividen en palabras normalizadas (sin tildes ni mayúsculas) y se descartan las palabras vacías
+ * más comunes del español. Para cada palabra se guarda la lista de eventos que la contienen, ordenada por ID,
+ * con su peso (nombre &gt; lugar &gt; resumen). El diccionario de palabras está ordenado, así que una palabra de la
+ * consulta también encuentra las que empiezan por ella ("conci" → "concierto"), con menos peso que la coincidencia
+ * exacta. Un evento aparece en los resultados si contiene todas las palabras de la consulta: las listas se cruzan
+ * recorriéndolas a la vez y solo se ordenan los mejores resultados, sin crear un objeto por evento.
+ * <p>
+ * La carga, la actualización evento a evento y el bloqueo son los de {@link InMemoryEventIndex}.
+ */
+@Component
+public class EventSearchIndex
+        extends InMemoryEventIndex<EventSearchDocument, EventSearchDocument, EventSearchIndex.Terms> {
+
+    /** Longitud mínima de una palabra de la consulta para buscarla también como prefijo. */
+    public static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int PLACE_WEIGHT = 2;
+    private static final int SUMMARY_WEIGHT = 1;
+    private static final int EXACT_MATCH_FACTOR = 2;
+
+    //Bits de la puntuación de una palabra (peso máximo 3 x 2) dentro de las claves que se ordenan al combinar prefijos
+    private static final int SCORE_BITS = 4;
+    //Bits del ID dentro de la clave que ordena los resultados por puntuación y después por ID
+    private static final int RANK_ID_BITS = 40;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^a-z0-9]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "con", "de", "del", "e", "el", "en", "la", "las", "lo", "los",
+            "o", "para", "por", "u", "un", "una", "unas", "unos", "y");
+
+    /**
+     * Eventos que contienen una palabra, ordenados por ID. Para cada uno se guarda el peso de la palabra
+     * y si el evento es público, codificados en un int: {@code peso << 1 | público}.
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int[] values = new int[4];
+        private int size;
+
+        void put(long id, int weight, boolean published) {
+            int value = weight << 1 | (published ? 1 : 0);
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                values[pos] = value;
+                return;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            //En la carga inicial los IDs llegan en orden y siempre se añaden al final
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            values[insertAt] = value;
+            size++;
+        }
+
+        void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+                System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+                size--;
+            }
+        }
+    }
+
+    //Eventos que cumplen la consulta hasta el momento, ordenados por ID, con su puntuación acumulada
+    private record Matches(long[] ids, int[] scores, int size) {
+        static final Matches EMPTY = new Matches(new long[0], new int[0], 0);
+    }
+
+    /**
+     * Estructuras del índice.
+     */
+    static final class Terms {
+        //Palabra -> eventos que la contienen. Ordenado para poder recorrer las palabras que empiezan por un prefijo
+        private final TreeMap<String, Postings> postings = new TreeMap<>();
+        //ID de evento -> palabras indexadas del evento (para poder quitarlo del índice)
+        private final Map<Long, String[]> eventTerms = new HashMap<>();
+    }
+
+    // BÚSQUEDA
+
+    /**
+     * Busca los eventos que contienen todas las palabras de la consulta (o palabras que empiezan por ellas).
+     * @param query Texto de búsqueda.
+     * @param limit Número máximo de resultados.
+     * @param publishedOnly true para devolver solo eventos publicados y vigentes.
+     * @return los IDs de los eventos encontrados, de mayor a menor relevancia (a igual relevancia, los más recientes primero).
+     */
+    public List<Long> search(String query, int limit, boolean publishedOnly) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return query(terms -> {
+            Matches matches = null;
+            for (String term : queryTerms) {
+                Matches termMatches = matchTerm(terms.postings, term, publishedOnly);
+                //Solo siguen los eventos que también contienen esta palabra
+                matches = matches == null ? termMatches : intersect(matches, termMatches);
+                if (matches.size() == 0) {
+                    return List.<Long>of();
+                }
+            }
+            return top(matches, limit);
+        });
+    }
+
+    // CONTENIDO DEL ÍNDICE
+
+    @Override
+    protected Terms newContent() {
+        return new Terms();
+    }
+
+    @Override
+    protected List<EventSearchDocument> findAfter(long lastId, Pageable page) {
+        return eventRepository.findSearchDocumentsAfter(lastId, page);
+    }
+
+    @Override
+    protected List<EventSearchDocument> findByIdIn(Collection<Long> ids) {
+        return eventRepository.findSearchDocumentsByIdIn(ids);
+    }
+
+    @Override
+    protected long idOf(EventSearchDocument document) {
+        return document.id();
+    }
+
+    @Override
+    protected List<EventSearchDocument> toEntries(List<EventSearchDocument> documents) {
+        return documents;
+    }
+
+    @Override
+    protected void add(Terms terms, EventSearchDocument document) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, document.name(), NAME_WEIGHT);
+        addTerms(weights, document.placeName(), PLACE_WEIGHT);
+        addTerms(weights, document.summary(), SUMMARY_WEIGHT);
+
+        boolean published = document.isPublic();
+        weights.forEach((term, weight) -> terms.postings.computeIfAbsent(term, k -> new Postings())
+                .put(document.id(), weight, published));
+        terms.eventTerms.put(document.id(), weights.keySet().toArray(new String[0]));
+    }
+
+    @Override
+    protected void remove(Terms terms, Long id) {
+        String[] eventTerms = terms.eventTerms.remove(id);
+        if (eventTerms == null) {
+            return;
+        }
+        for (String term : eventTerms) {
+            Postings list = terms.postings.get(term);
+            if (list != null) {
+                list.remove(id);
+                if (list.size == 0) {
+                    terms.postings.remove(term);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected int size(Terms terms) {
+        return terms.eventTerms.size();
+    }
+
+    @Override
+    protected String summary(Terms terms) {
+        return terms.eventTerms.size() + " eventos y " + terms.postings.size() + " palabras";
+    }
+
+    @Override
+    protected String description() {
+        return "índice de búsqueda de eventos";
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    /**
+     * Eventos que contienen una palabra de la consulta, con la mejor puntuación entre la coincidencia exacta
+     * y las palabras indexadas que empiezan por ella.
+     */
+    private static Matches matchTerm(TreeMap<String, Postings> postings, String term, boolean publishedOnly) {
+        List<Postings> lists = new ArrayList<>();
+        List<Integer> factors = new ArrayList<>();
+        Postings exact = postings.get(term);
+        if (exact != null) {
+            lists.add(exact);
+            factors.add(EXACT_MATCH_FACTOR);
+        }
+        if (term.length() >= MIN_PREFIX_LENGTH) {
+            for (Postings prefixed : postings.subMap(term, false, term + Character.MAX_VALUE, false).values()) {
+                lists.add(prefixed);
+                factors.add(1);
+            }
+        }
+        if (lists.isEmpty()) {
+            return Matches.EMPTY;
+        }
+
+        if (lists.size() == 1) { //Caso habitual: la lista ya está ordenada por ID
+            Postings list = lists.get(0);
+            int factor = factors.get(0);
+            long[] ids = new long[list.size];
+            int[] scores = new int[list.size];
+            int size = 0;
+            for (int i = 0; i < list.size; i++) {
+                int value = list.values[i];
+                if (!publishedOnly || (value & 1) == 1) {
+                    ids[size] = list.ids[i];
+                    scores[size++] = (value >>> 1) * factor;
+                }
+            }
+            return new Matches(ids, scores, size);
+        }
+
+        //Varias palabras: se juntan como claves (ID, puntuación), se ordenan y se deja la mayor puntuación de cada ID
+        int total = 0;
+        for (Postings list : lists) {
+            total += list.size;
+        }
+        long[] keys = new long[total];
+        int count = 0;
+        for (int l = 0; l < lists.size(); l++) {
+            Postings list = lists.get(l);
+            int factor = factors.get(l);
+            for (int i = 0; i < list.size; i++) {
+                int value = list.values[i];
+                if (!publishedOnly || (value & 1) == 1) {
+                    keys[count++] = list.ids[i] << SCORE_BITS | (value >>> 1) * factor;
+                }
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        long[] ids = new long[count];
+        int[] scores = new int[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            long id = keys[i] >>> SCORE_BITS;
+            int score = (int) (keys[i] & ((1 << SCORE_BITS) - 1));
+            if (size > 0 && ids[size - 1] == id) {
+                scores[size - 1] = score; //Misma ID: la clave posterior tiene la puntuación mayor
+            } else {
+                ids[size] = id;
+                scores[size++] = score;
+            }
+        }
+        return new Matches(ids, scores, size);
+    }
+
+    private static Matches intersect(Matches a, Matches b) {
+        int capacity = Math.min(a.size(), b.size());
+        long[] ids = new long[capacity];
+        int[] scores = new int[capacity];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size() && j < b.size()) {
+            long idA = a.ids()[i];
+            long idB = b.ids()[j];
+            if (idA == idB) {
+                ids[size] = idA;
+                scores[size++] = a.scores()[i++] + b.scores()[j++];
+            } else if (idA < idB) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new Matches(ids, scores, size);
+    }
+
+    //Los 'limit' mejores resultados con un montículo acotado, sin ordenar todas las coincidencias
+    private static List<Long> top(Matches matches, int limit) {
+        PriorityQueue<Long> best = new PriorityQueue<>(Math.min(limit, matches.size()) + 1);
+        for (int i = 0; i < matches.size(); i++) {
+            long rank = (long) matches.scores()[i] << RANK_ID_BITS | matches.ids()[i];
+            if (best.size() < limit) {
+                best.add(rank);
+            } else if (rank > best.peek()) {
+                best.poll();
+                best.add(rank);
+            }
+        }
+        Long[] ranks = best.toArray(new Long[0]);
+        Arrays.sort(ranks, (x, y) -> Long.compare(y, x));
+        List<Long> ids = new ArrayList<>(ranks.length);
+        for (Long rank : ranks) {
+            ids.add(rank & ((1L << RANK_ID_BITS) - 1));
+        }
+        return ids;
+    }
+
+    //Si una palabra aparece en varios campos se queda con el peso mayor
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Math::max);
+        }
+    }
+
+    /**
+     * Divide un texto en palabras normalizadas, sin las palabras vacías.
+     * @param text Texto a dividir (puede ser null).
+     * @return la lista de palabras.
+     */
+    static List<String> tokenize(String text) {
+        String normalized = TextNormalizer.normalize(text);
+        if (normalized == null || normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : TOKEN_SEPARATOR.split(normalized)) {
+            if (!term.isEmpty() && !STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.math.BigDecimal;
+
+/**
+ * Columnas de un evento que necesitan los listados, leídas como proyección (sin la descripción ni la entidad).
+ * Las fechas se leen aparte con {@link EventDateLink}.
+ */
+public record EventSummaryRow(Long id, String name, String summary, String image, Boolean isFree, BigDecimal price,
+                              Integer municipalityId, String municipalityName, String themeName) {
+}
@@ -0,0 +1,261 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.github.dainadb.improplan.common.cache.EventChangedEvent;
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+
+/**
+ * Base de los índices de eventos en memoria: carga, actualización y acceso concurrente.
+ * <p>
+ * El índice se construye al arrancar (o en la primera consulta si la BBDD no estaba disponible) leyendo los eventos
+ * por lotes ordenados por ID, y se sustituye entero al terminar. Después se actualiza evento a evento con
+ * {@link EventChangedEvent}: se vuelven a leer los eventos modificados, se quitan del índice y se añaden los que
+ * sigan existiendo. Los cambios confirmados mientras dura una reconstrucción se apuntan y se releen al acabar, porque
+ * puede que la lectura por lotes no los incluyera. Las consultas comparten un bloqueo de lectura; las actualizaciones
+ * toman el de escritura solo para modificar las estructuras, nunca mientras consultan la BBDD. Cada actualización
+ * lee y aplica sus eventos sin que otra se intercale, para que una lectura más antigua no se aplique la última.
+ *
+ * @param <D> Documento que se lee de la BBDD.
+ * @param <E> Entrada que se guarda en el índice (puede ser el propio documento).
+ * @param <C> Estructuras del índice.
+ */
+public abstract class InMemoryEventIndex<D, E, C> {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    protected IEventRepository eventRepository;
+
+    @Value("${improplan.cache.warm-up:true}")
+    private boolean warmUp;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    //Serializa las actualizaciones incrementales (lectura de la BBDD + aplicación); las consultas no lo usan
+    private final Object updateMutex = new Object();
+
+    private C content = newContent();
+    private volatile boolean loaded;
+
+    //Eventos modificados mientras se reconstruye el índice; se vuelven a leer al terminar
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    // CARGA Y ACTUALIZACIÓN
+
+    /**
+     * Construye el índice al arrancar la aplicación. Si la BBDD no está disponible se construirá en la primera consulta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("No se ha podido construir el {}: {}", description(), e.getMessage());
+        }
+    }
+
+    /**
+     * Vuelve a leer los eventos modificados cuando se confirma la transacción que los modificó.
+     * @param event Evento de aplicación con los IDs de los eventos modificados.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.addAll(event.eventIds());
+        }
+        if (loaded) {
+            reindex(event.eventIds());
+        }
+    }
+
+    /**
+     * Vuelve a leer de la BBDD (por lotes) todos los eventos del índice y lo sustituye.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        rebuilding = true;
+        try {
+            C newContent = newContent();
+            long lastId = 0L;
+            List<D> batch;
+            do {
+                batch = findAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (E entry : toEntries(batch)) {
+                    add(newContent, entry);
+                }
+                if (!batch.isEmpty()) {
+                    lastId = idOf(batch.get(batch.size() - 1));
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                content = newContent;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+        //Cambios confirmados mientras se leía la BBDD: puede que la lectura no los incluyera
+        if (!changedDuringRebuild.isEmpty()) {
+            List<Long> changed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            reindex(changed);
+        }
+        log.info("Construido el {}: {} en {} ms", description(), read(this::summary),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return el número de eventos indexados.
+     */
+    public int size() {
+        return read(this::size);
+    }
+
+    // MÉTODOS PARA LAS SUBCLASES
+
+    /**
+     * @return true si el índice ya se ha construido alguna vez.
+     */
+    protected boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Ejecuta una consulta sobre el índice con el bloqueo de lectura, construyéndolo antes si aún no se ha cargado.
+     * @param query Consulta sobre las estructuras del índice; no debe modificarlas.
+     * @return el resultado de la consulta.
+     */
+    protected <T> T query(Function<C, T> query) {
+        ensureLoaded();
+        return read(query);
+    }
+
+    /**
+     * @return Estructuras vacías para un índice nuevo.
+     */
+    protected abstract C newContent();
+
+    /**
+     * @param lastId ID a partir del cual leer (sin incluirlo).
+     * @param page Tamaño del lote.
+     * @return el siguiente lote de documentos, ordenados por ID.
+     */
+    protected abstract List<D> findAfter(long lastId, Pageable page);
+
+    /**
+     * @param ids IDs de eventos modificados.
+     * @return los documentos de los que deben estar en el índice; el resto se quita.
+     */
+    protected abstract List<D> findByIdIn(Collection<Long> ids);
+
+    /**
+     * @param document Documento leído de la BBDD.
+     * @return su ID de evento.
+     */
+    protected abstract long idOf(D document);
+
+    /**
+     * Prepara las entradas de un lote de documentos. Se llama sin ningún bloqueo, así que puede consultar la BBDD.
+     * @param documents Documentos leídos.
+     * @return las entradas que se añaden al índice.
+     */
+    protected abstract List<E> toEntries(List<D> documents);
+
+    /**
+     * @param content Estructuras del índice.
+     * @param entry Entrada a añadir.
+     */
+    protected abstract void add(C content, E entry);
+
+    /**
+     * @param content Estructuras del índice.
+     * @param id ID del evento a quitar; puede no estar indexado.
+     */
+    protected abstract void remove(C content, Long id);
+
+    /**
+     * @param content Estructuras del índice.
+     * @return el número de eventos indexados.
+     */
+    protected abstract int size(C content);
+
+    /**
+     * @param content Estructuras del índice.
+     * @return Resumen del tamaño del índice para el log de carga.
+     */
+    protected abstract String summary(C content);
+
+    /**
+     * @return Nombre del índice para los mensajes del log ("índice de ...").
+     */
+    protected abstract String description();
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    private void reindex(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        synchronized (updateMutex) {
+            List<E> current = toEntries(findByIdIn(ids));
+            lock.writeLock().lock();
+            try {
+                //Los eventos que ya no deben estar (borrados, o fuera del índice por su estado) solo se quitan
+                for (Long id : ids) {
+                    remove(content, id);
+                }
+                for (E entry : current) {
+                    add(content, entry);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private <T> T read(Function<C, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(content);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) { //Solo un hilo construye el índice; el resto espera y lo reutiliza
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.github.dainadb.improplan.common.cache.EventChangedEvent;
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache;
+import io.github.dainadb.improplan.common.cache.ReferenceDataChangedEvent;
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.province.entity.Province;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+
+/**
+ * Catálogo en memoria de los eventos publicados y vigentes, que son los únicos que ve el público.
+ * <p>
+ * Es un subconjunto pequeño y muy leído de la tabla, así que se guarda una instantánea inmutable con los datos
+ * de listado de cada evento (sin la descripción) y con índices secundarios por provincia, municipio, temática
+ * y día (listas de IDs ordenadas). Una búsqueda cruza esas listas y no accede a la BBDD.
+ * <p>
+ * Las modificaciones siguen el patrón copia-en-escritura: al confirmarse un cambio ({@link EventChangedEvent}
+ * desde la publicación, edición, descarte, borrado o caducidad de eventos) se vuelven a leer solo los eventos
+ * afectados, se construye una instantánea nueva y se sustituye de forma atómica. La instantánea nueva comparte con
+ * la anterior todo lo que no cambia: solo se copian las listas de IDs de las claves en las que entran o de las que
+ * salen los eventos modificados, y los grupos de eventos por ID que los contienen. Los lectores nunca se bloquean
+ * ni ven una instantánea a medio construir. Un cambio en los datos de referencia ({@link ReferenceDataChangedEvent})
+ * renombra temáticas, municipios o provincias de muchos eventos a la vez, así que se vuelve a cargar todo el catálogo.
+ */
+@Component
+public class PublishedEventCatalogue {
+
+    private static final Logger log = LoggerFactory.getLogger(PublishedEventCatalogue.class);
+
+    private static final int LOAD_BATCH_SIZE = 500;
+    private static final long[] NO_IDS = new long[0];
+
+    //Grupos en los que se reparten los eventos por ID (potencia de dos): un cambio solo copia el grupo de sus eventos
+    private static final int SHARDS = 64;
+
+    /**
+     * Evento del catálogo, con los datos de los listados (sin la descripción, que solo se sirve en el detalle).
+     * Inmutable: cada lectura crea su propio DTO a partir de él.
+     */
+    private record Entry(Long id, String name, String summary, String image, Boolean isFree, BigDecimal price,
+                         String municipalityName, String themeName, Set<LocalDate> dates,
+                         String provinceKey, String municipalityKey, String themeKey) {
+
+        EventSummaryDto toSummaryDto() {
+            return new EventSummaryDto(id, name, summary, image, isFree, price, municipalityName, themeName,
+                    new HashSet<>(dates));
+        }
+    }
+
+    //Instantánea inmutable del catálogo. Los eventos se reparten por ID en SHARDS grupos; las listas de IDs
+    //de los índices están ordenadas de menor a mayor.
+    private record Snapshot(List<Map<Long, Entry>> shards,
+                            int size,
+                            Map<String, long[]> byProvince,
+                            Map<String, long[]> byMunicipality,
+                            Map<String, long[]> byTheme,
+                            Map<LocalDate, long[]> byDate) {
+
+        Entry get(long id) {
+            return shards.get(shard(id)).get(id);
+        }
+    }
+
+    @Autowired
+    private IEventRepository eventRepository;
+
+    @Autowired
+    private GeoReferenceCache geoReferenceCache;
+
+    @Value("${improplan.cache.warm-up:true}")
+    private boolean warmUp;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    // CARGA Y ACTUALIZACIÓN
+
+    /**
+     * Carga el catálogo al arrancar la aplicación. Si la BBDD no está disponible se cargará en la primera consulta.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmUp) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("No se ha podido cargar el catálogo de eventos publicados: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Aplica los cambios de eventos cuando se confirma la transacción que los modificó.
+     * <p>
+     * Las escrituras se serializan con {@link #rebuild()}: un cambio confirmado durante la carga completa espera a
+     * que termine y se aplica encima, así que no se pierde aunque la carga lo hubiera leído con su valor anterior.
+     * Se ejecuta antes que {@link io.github.dainadb.improplan.common.cache.SerializedResponseCache}, que descarta
+     * el detalle ya serializado de estos eventos.
+     * @param event Evento de aplicación con los IDs de los eventos modificados.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onEventChanged(EventChangedEvent event) {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || event.eventIds().isEmpty()) {
+            return; //Aún no se ha cargado: la primera consulta leerá el estado actual
+        }
+        List<EventSummaryRow> rows = eventRepository.findPublishedSummariesByIdIn(event.eventIds());
+        current.set(apply(snapshot, new LinkedHashSet<>(event.eventIds()), toEntries(rows)));
+    }
+
+    /**
+     * Vuelve a cargar el catálogo cuando el CRUD genérico modifica una temática, un municipio o una provincia,
+     * porque las entradas guardan sus nombres (y los índices, sus claves normalizadas).
+     * Se ejecuta después de {@link GeoReferenceCache}, de la que sale la provincia de cada evento.
+     * @param event Evento con la clase de la entidad modificada.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        Class<?> type = event.entityType();
+        if (current.get() != null && (type == Theme.class || type == Municipality.class || type == Province.class)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Vuelve a leer de la BBDD (por lotes) todos los eventos publicados y vigentes y sustituye el catálogo.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        Map<Long, Entry> byId = new HashMap<>();
+        long lastId = 0L;
+        List<EventSummaryRow> batch;
+        do {
+            batch = eventRepository.findPublishedSummariesAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Entry entry : toEntries(batch)) {
+                byId.put(entry.id(), entry);
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        Snapshot snapshot = index(byId);
+        current.set(snapshot);
+        log.info("Catálogo de eventos publicados cargado: {} eventos en {} ms",
+                snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // CONSULTAS
+
+    /**
+     * @param id ID del evento.
+     * @return true si el evento está publicado y vigente.
+     */
+    public boolean contains(Long id) {
+        return id != null && snapshot().get(id) != null;
+    }
+
+    /**
+     * Devuelve los eventos indicados en el mismo orden, para los resultados de los índices de búsqueda.
+     * @param ids IDs de los eventos.
+     * @return los eventos que están en el catálogo; los que no estén publicados y vigentes se omiten.
+     */
+    public List<EventSummaryDto> findAllById(List<Long> ids) {
+        Snapshot snapshot = snapshot();
+        List<EventSummaryDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Entry entry = snapshot.get(id);
+            if (entry != null) {
+                result.add(entry.toSummaryDto());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Busca eventos publicados y vigentes con los mismos criterios que la búsqueda pública de la BBDD.
+     * Los nombres se comparan sin distinguir mayúsculas ni tildes.
+     * @param provinceName Nombre de la provincia. (obligatorio)
+     * @param date Día en que se celebra el evento. (obligatorio)
+     * @param themeName Nombre de la temática. (opcional, null para no filtrar)
+     * @param municipalityName Nombre del municipio. (opcional, null para no filtrar)
+     * @param maxPrice Precio máximo. (opcional, null para no filtrar)
+     * @param afterId Solo se devuelven eventos con ID mayor que este (0 para empezar).
+     * @param limit Número máximo de eventos a devolver.
+     * @return los eventos encontrados, ordenados por ID.
+     */
+    public List<EventSummaryDto> search(String provinceName, LocalDate date, String themeName,
+                                         String municipalityName, BigDecimal maxPrice, long afterId, int limit) {
+        Snapshot snapshot = snapshot();
+        long[] dateIds = date == null ? NO_IDS : snapshot.byDate().getOrDefault(date, NO_IDS);
+        long[] ids = intersect(lookup(snapshot.byProvince(), provinceName), dateIds);
+        if (municipalityName != null) {
+            ids = intersect(ids, lookup(snapshot.byMunicipality(), municipalityName));
+        }
+        if (themeName != null) {
+            ids = intersect(ids, lookup(snapshot.byTheme(), themeName));
+        }
+
+        int from = Arrays.binarySearch(ids, afterId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        List<EventSummaryDto> result = new ArrayList<>(Math.min(limit, ids.length - from));
+        for (int i = from; i < ids.length && result.size() < limit; i++) {
+            Entry entry = snapshot.get(ids[i]);
+            //Igual que 'price <= :maxPrice' en SQL: un evento sin precio no cumple el filtro
+            if (maxPrice == null || (entry.price() != null && entry.price().compareTo(maxPrice) <= 0)) {
+                result.add(entry.toSummaryDto());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return el número de eventos del catálogo.
+     */
+    public int size() {
+        return snapshot().size();
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            synchronized (this) { //Solo un hilo hace la carga perezosa; el resto espera y reutiliza el resultado
+                snapshot = current.get();
+                if (snapshot == null) {
+                    rebuild();
+                    snapshot = current.get();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Convierte filas de listado en entradas del catálogo, leyendo las fechas de todas ellas con una sola consulta.
+     * La provincia se resuelve con la caché geográfica a partir del municipio.
+     */
+    private List<Entry> toEntries(List<EventSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Set<LocalDate>> datesByEvent = eventRepository.findDatesByEventIds(
+                rows.stream().map(EventSummaryRow::id).toList());
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (EventSummaryRow row : rows) {
+            String provinceName = geoReferenceCache.findMunicipalityById(row.municipalityId())
+                    .map(GeoReferenceCache.MunicipalityRef::provinceName)
+                    .orElse(null);
+            entries.add(new Entry(row.id(), row.name(), row.summary(), row.image(), row.isFree(), row.price(),
+                    row.municipalityName(), row.themeName(), Set.copyOf(datesByEvent.getOrDefault(row.id(), Set.of())),
+                    TextNormalizer.normalize(provinceName), TextNormalizer.normalize(row.municipalityName()),
+                    TextNormalizer.normalize(row.themeName())));
+        }
+        return entries;
+    }
+
+    /**
+     * Construye los índices secundarios de una instantánea nueva a partir de sus eventos.
+     */
+    private static Snapshot index(Map<Long, Entry> byId) {
+        long[] sortedIds = byId.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<String, List<Long>> byProvince = new HashMap<>();
+        Map<String, List<Long>> byMunicipality = new HashMap<>();
+        Map<String, List<Long>> byTheme = new HashMap<>();
+        Map<LocalDate, List<Long>> byDate = new HashMap<>();
+        //Se recorren los IDs en orden para que todas las listas queden ordenadas
+        for (long id : sortedIds) {
+            Entry entry = byId.get(id);
+            addTo(byProvince, entry.provinceKey(), id);
+            addTo(byMunicipality, entry.municipalityKey(), id);
+            addTo(byTheme, entry.themeKey(), id);
+            for (LocalDate date : entry.dates()) {
+                addTo(byDate, date, id);
+            }
+        }
+        List<Map<Long, Entry>> shards = new ArrayList<>(SHARDS);
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(new HashMap<>());
+        }
+        byId.forEach((id, entry) -> shards.get(shard(id)).put(id, entry));
+        shards.replaceAll(Map::copyOf);
+        return new Snapshot(List.copyOf(shards), byId.size(), toArrays(byProvince), toArrays(byMunicipality),
+                toArrays(byTheme), toArrays(byDate));
+    }
+
+    /**
+     * Construye la instantánea que resulta de aplicar unos cambios a la anterior, compartiendo con ella todo lo
+     * que no cambia. Los IDs que salen de una clave o entran en ella se quitan y se insertan en su lista con una
+     * sola pasada de mezcla; las claves en las que un evento sigue estando no se tocan.
+     * @param snapshot Instantánea actual.
+     * @param ids IDs de los eventos modificados.
+     * @param entries Entradas actuales de los que siguen publicados y vigentes; el resto se quita.
+     */
+    private static Snapshot apply(Snapshot snapshot, Set<Long> ids, List<Entry> entries) {
+        Map<Long, Entry> updated = new HashMap<>();
+        entries.forEach(entry -> updated.put(entry.id(), entry));
+
+        List<Map<Long, Entry>> shards = new ArrayList<>(snapshot.shards());
+        Map<Integer, Map<Long, Entry>> copied = new HashMap<>();
+        int size = snapshot.size();
+        IndexChanges<String> provinces = new IndexChanges<>();
+        IndexChanges<String> municipalities = new IndexChanges<>();
+        IndexChanges<String> themes = new IndexChanges<>();
+        IndexChanges<LocalDate> dates = new IndexChanges<>();
+        for (Long id : ids) {
+            Entry previous = snapshot.get(id);
+            Entry entry = updated.get(id);
+            if (previous == null && entry == null) {
+                continue;
+            }
+            Map<Long, Entry> shard = copied.computeIfAbsent(shard(id), i -> new HashMap<>(snapshot.shards().get(i)));
+            if (entry != null) {
+                shard.put(id, entry);
+            } else {
+                shard.remove(id);
+            }
+            size += (entry != null ? 1 : 0) - (previous != null ? 1 : 0);
+            provinces.move(id, previous, entry, e -> Collections.singletonList(e.provinceKey()));
+            municipalities.move(id, previous, entry, e -> Collections.singletonList(e.municipalityKey()));
+            themes.move(id, previous, entry, e -> Collections.singletonList(e.themeKey()));
+            dates.move(id, previous, entry, Entry::dates);
+        }
+        copied.forEach((i, shard) -> shards.set(i, Map.copyOf(shard)));
+        return new Snapshot(List.copyOf(shards), size, provinces.applyTo(snapshot.byProvince()),
+                municipalities.applyTo(snapshot.byMunicipality()), themes.applyTo(snapshot.byTheme()),
+                dates.applyTo(snapshot.byDate()));
+    }
+
+    private static int shard(long id) {
+        return (int) (id & (SHARDS - 1));
+    }
+
+    private static <K> void addTo(Map<K, List<Long>> index, K key, long id) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+        }
+    }
+
+    private static <K> Map<K, long[]> toArrays(Map<K, List<Long>> index) {
+        Map<K, long[]> result = new HashMap<>();
+        index.forEach((key, ids) -> result.put(key, ids.stream().mapToLong(Long::longValue).toArray()));
+        return Map.copyOf(result);
+    }
+
+    /**
+     * IDs que entran en cada clave de un índice y que salen de ella al aplicar unos cambios.
+     */
+    private static final class IndexChanges<K> {
+
+        private final Map<K, List<Long>> added = new HashMap<>();
+        private final Map<K, List<Long>> removed = new HashMap<>();
+
+        void move(long id, Entry previous, Entry entry, Function<Entry, Collection<K>> keys) {
+            Collection<K> before = previous != null ? keys.apply(previous) : List.of();
+            Collection<K> after = entry != null ? keys.apply(entry) : List.of();
+            for (K key : before) {
+                if (key != null && !after.contains(key)) {
+                    removed.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+                }
+            }
+            for (K key : after) {
+                if (key != null && !before.contains(key)) {
+                    added.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+
+        Map<K, long[]> applyTo(Map<K, long[]> index) {
+            if (added.isEmpty() && removed.isEmpty()) {
+                return index;
+            }
+            Map<K, long[]> result = new HashMap<>(index);
+            Set<K> keys = new HashSet<>(added.keySet());
+            keys.addAll(removed.keySet());
+            for (K key : keys) {
+                long[] ids = merge(index.getOrDefault(key, NO_IDS), sorted(removed.get(key)), sorted(added.get(key)));
+                if (ids.length == 0) {
+                    result.remove(key);
+                } else {
+                    result.put(key, ids);
+                }
+            }
+            return Map.copyOf(result);
+        }
+
+        private static long[] sorted(List<Long> ids) {
+            return ids == null ? NO_IDS : ids.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+    }
+
+    //Lista ordenada sin los IDs de 'removed' y con los de 'added' (ambas ordenadas), en una sola pasada
+    private static long[] merge(long[] ids, long[] removed, long[] added) {
+        long[] result = new long[ids.length + added.length];
+        int size = 0;
+        int r = 0;
+        int a = 0;
+        for (long id : ids) {
+            while (r < removed.length && removed[r] < id) {
+                r++;
+            }
+            if (r < removed.length && removed[r] == id) {
+                continue;
+            }
+            while (a < added.length && added[a] < id) {
+                result[size++] = added[a++];
+            }
+            if (a < added.length && added[a] == id) {
+                a++; //Ya estaba en la lista
+            }
+            result[size++] = id;
+        }
+        while (a < added.length) {
+            result[size++] = added[a++];
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static long[] lookup(Map<String, long[]> index, String name) {
+        String key = TextNormalizer.normalize(name);
+        return key == null ? NO_IDS : index.getOrDefault(key, NO_IDS);
+    }
+
+    //IDs presentes en las dos listas ordenadas
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[size++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+}
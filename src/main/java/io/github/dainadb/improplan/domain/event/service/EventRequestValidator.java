@@ -0,0 +1,39 @@
+package io.github.dainadb.improplan.domain.event.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.common.utils.Validator;
+import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
+import io.github.dainadb.improplan.exception.ValidationException;
+
+/**
+ * Validación de los datos de alta y modificación de un evento.
+ * Está separada del servicio para poder usarla (y medirla en los benchmarks) sin sus dependencias.
+ */
+@Component
+public class EventRequestValidator {
+
+    /**
+     * Valida los datos del DTO de solicitud de evento.
+     * @param dto DTO de solicitud de evento
+     * @throws ValidationException si algún dato no es válido.
+     */
+    public void validate(EventRequestDto dto) {
+        if (Boolean.TRUE.equals(dto.getIsFree()) && dto.getPrice().compareTo(BigDecimal.ZERO) > 0) { //Si la comparación entre dto.getPrice y compareTo(BigDecimal.ZERO) es mayor a 0, significa que dto.getPrice es mayor que 0.
+            throw new ValidationException("Un evento gratuito no puede tener un precio mayor a cero.");
+        }
+        if (dto.getInfoUrl() != null && !dto.getInfoUrl().isEmpty() && !Validator.isValidUrl(dto.getInfoUrl())) {
+            throw new ValidationException("La URL de información no es válida.");
+        }
+        if (dto.getEventDates() == null || dto.getEventDates().isEmpty()) {
+            throw new ValidationException("El evento debe tener al menos una fecha.");
+        }
+        boolean hasPastDates = dto.getEventDates().stream().anyMatch(date -> !date.isAfter(LocalDate.now()));
+        if (hasPastDates) {
+            throw new ValidationException("No se pueden crear eventos con fechas pasadas o la de hoy.");
+        }
+    }
+}
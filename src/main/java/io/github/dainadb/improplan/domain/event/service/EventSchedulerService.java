@@ -1,18 +1,20 @@
 package io.github.dainadb.improplan.domain.event.service;
 
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import io.github.dainadb.improplan.domain.event.entity.Event;
+import io.github.dainadb.improplan.common.cache.EventChangedEvent;
 import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
-import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
-import jakarta.transaction.Transactional;
 
 /**
  * Servicio para gestionar tareas programadas relacionadas con los eventos.
@@ -20,46 +22,54 @@ import jakarta.transaction.Transactional;
 @Service
 public class EventSchedulerService {
 
+    private static final Logger log = LoggerFactory.getLogger(EventSchedulerService.class);
 
     @Autowired
     private IEventRepository eventRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${improplan.scheduler.expiry-batch-size:500}")
+    private int batchSize;
+
     /**
      * Tarea programada que se ejecuta cada 24 horas para actualizar el estado 'inTime' de los eventos.
-     * Un evento se considera caducado si su última fecha de celebración es anterior al día actual.
+     * Un evento se considera caducado si su última fecha de celebración es anterior al día actual o si no tiene fechas.
      * La expresión cron "0 0 1 * * ?" significa: "a la 1:00:00 AM cada día del mes cualquier día de la semana".
+     * La actualización se hace en lotes de IDs con una sentencia UPDATE por lote, cada uno en su propia transacción,
+     * de modo que no se cargan entidades ni se mantienen bloqueos durante toda la tarea.
+     * @return el número de eventos marcados como no vigentes.
      */
     @Scheduled(cron = "0 0 1 * * ?") // Ejecuta la tarea todos los días a la 1 AM
-    @Transactional 
-    public void updateExpiredEventsStatus() {
-       
-        //Obtenemos solo los eventos que están marcados como 'en tiempo' para optimizar.
-        List<Event> activeEvents = eventRepository.findByInTime(true);
-        
-       
+    public int updateExpiredEventsStatus() {
+        long start = System.nanoTime();
         LocalDate today = LocalDate.now();
-        
-
-        for (Event event : activeEvents) { //De cada evento activo
-            
-            //Se obtiene la última fecha (la más futura) del conjunto de fechas del evento
-            Optional<LocalDate> lastDateOpt = event.getDates().stream()
-                .map(EventDate::getFullDate) 
-                .max(Comparator.naturalOrder()); //con .max se obtiene el valor máximo. Con Comparator.naturalOrder() se indica el criterio de comparación (orden natural de LocalDate).
+        PageRequest batch = PageRequest.of(0, batchSize);
 
-            
-            if (lastDateOpt.isPresent()) {
-                // Si hay fechas, se comprueba si la última fecha es anterior a hoy
-                if (lastDateOpt.get().isBefore(today)) {
-                    event.setInTime(false);
-                    eventRepository.save(event);
-                }
-            } else {
-                // Si no hay fechas, marcamos el evento como no vigente
-                event.setInTime(false);
-                eventRepository.save(event);
+        int updated = 0;
+        long lastId = 0L;
+        List<Long> ids;
+        do {
+            //Se recorre por ID (keyset), así cada lote es independiente de los ya actualizados
+            ids = eventRepository.findExpiredEventIds(today, lastId, batch);
+            if (ids.isEmpty()) {
+                break;
             }
+            List<Long> batchIds = ids;
+            Integer changed = transactionTemplate.execute(status -> {
+                eventPublisher.publishEvent(new EventChangedEvent(batchIds));
+                return eventRepository.markAsNotInTime(batchIds);
+            });
+            updated += changed != null ? changed : 0;
+            lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == batchSize);
 
-        }
-    }   
-}
\ No newline at end of file
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Caducidad de eventos: {} eventos marcados como no vigentes en {} ms", updated, elapsedMs);
+        return updated;
+    }
+}
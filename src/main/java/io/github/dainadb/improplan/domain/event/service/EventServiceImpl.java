@@ -4,23 +4,39 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 
-import io.github.dainadb.improplan.common.utils.Validator;
+import io.github.dainadb.improplan.common.cache.EventChangedEvent;
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache;
+import io.github.dainadb.improplan.common.response.CursorPage;
+import io.github.dainadb.improplan.common.response.SliceResponse;
+import io.github.dainadb.improplan.common.utils.Pagination;
 import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
 import io.github.dainadb.improplan.domain.event.dto.EventResponseDto;
+import io.github.dainadb.improplan.domain.event.dto.EventSearchCursor;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
 import io.github.dainadb.improplan.domain.event.entity.Event;
 import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.event.mapper.EventMapper;
 import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+import io.github.dainadb.improplan.domain.event.search.EventGeoIndex;
+import io.github.dainadb.improplan.domain.event.search.EventSearchIndex;
+import io.github.dainadb.improplan.domain.event.search.EventSummaryRow;
+import io.github.dainadb.improplan.domain.event.search.PublishedEventCatalogue;
 import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
 import io.github.dainadb.improplan.domain.eventdate.service.IEventDateService;
 import io.github.dainadb.improplan.domain.favorite.repository.IFavoriteRepository;
+import io.github.dainadb.improplan.domain.favorite.service.FavoriteCounterService;
 import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
 import io.github.dainadb.improplan.domain.municipality.repository.IMunicipalityRepository;
 import io.github.dainadb.improplan.domain.theme.entity.Theme;
@@ -38,12 +54,18 @@ import jakarta.transaction.Transactional;
 @Service
 public class EventServiceImpl  implements IEventService {
 
+    /** Radio de búsqueda de eventos cercanos cuando el cliente no indica ninguno (km). */
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 10.0;
+
     @Autowired
     private IEventRepository eventRepository;
 
     @Autowired
     private IMunicipalityRepository municipalityRepository;
 
+    @Autowired
+    private GeoReferenceCache geoReferenceCache;
+
     @Autowired
     private IThemeRepository themeRepository;
 
@@ -57,7 +79,28 @@ public class EventServiceImpl  implements IEventService {
     private IFavoriteRepository favoriteRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private FavoriteCounterService favoriteCounterService;
+
+    @Autowired
+    private ModelMapper modelMapper; //Solo para las conversiones de entrada (DTO -> entidad)
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private EventRequestValidator eventRequestValidator;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    @Autowired
+    private PublishedEventCatalogue publishedEventCatalogue;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher; //Avisa a los índices en memoria de los eventos modificados
 
 
     // MÉTODOS CRUD PRINCIPALES 
@@ -69,12 +112,11 @@ public class EventServiceImpl  implements IEventService {
     @Transactional
     public EventResponseDto createEvent(EventRequestDto dto, String userEmail) {
         
-        validateEventRequest(dto);
+        eventRequestValidator.validate(dto);
 
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new NotFoundException("Usuario creador del evento no encontrado con email: " + userEmail));
-        Municipality municipality = municipalityRepository.findByName(dto.getMunicipalityName())
-                .orElseThrow(() -> new NotFoundException("Municipio no encontrado: " + dto.getMunicipalityName()));
+        Municipality municipality = findMunicipalityReference(dto.getMunicipalityName());
         Theme theme = themeRepository.findByNameIgnoreCase(dto.getThemeName())
                 .orElseThrow(() -> new NotFoundException("Temática no encontrada: " + dto.getThemeName()));
         
@@ -91,8 +133,9 @@ public class EventServiceImpl  implements IEventService {
         event.setInTime(true); // Siempre 'en tiempo' al crearse
 
         Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(EventChangedEvent.of(savedEvent.getId()));
 
-        return modelMapper.map(savedEvent, EventResponseDto.class);
+        return convertToResponseDto(savedEvent);
     }
     
 
@@ -104,14 +147,13 @@ public class EventServiceImpl  implements IEventService {
     @Transactional
     public EventResponseDto updateEvent(Long id, EventRequestDto dto) {
         
-        validateEventRequest(dto);
+        eventRequestValidator.validate(dto);
 
         Event existingEvent = eventRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Evento no encontrado con ID: " + id));
 
 
-        Municipality municipality = municipalityRepository.findByName(dto.getMunicipalityName())
-                .orElseThrow(() -> new NotFoundException("Municipio no encontrado: " + dto.getMunicipalityName()));
+        Municipality municipality = findMunicipalityReference(dto.getMunicipalityName());
         Theme theme = themeRepository.findByNameIgnoreCase(dto.getThemeName())
                 .orElseThrow(() -> new NotFoundException("Temática no encontrada: " + dto.getThemeName()));
 
@@ -135,8 +177,9 @@ public class EventServiceImpl  implements IEventService {
         existingEvent.setDates(eventDates);
 
         Event updatedEvent = eventRepository.save(existingEvent);
+        eventPublisher.publishEvent(EventChangedEvent.of(id));
 
-        return modelMapper.map(updatedEvent, EventResponseDto.class);
+        return convertToResponseDto(updatedEvent);
     }
 
 
@@ -147,7 +190,7 @@ public class EventServiceImpl  implements IEventService {
     @Override
     public EventResponseDto findById(Long id) {
         return eventRepository.findById(id)
-                .map(event -> modelMapper.map(event, EventResponseDto.class))
+                .map(this::convertToResponseDto)
                 .orElseThrow(() -> new NotFoundException("Evento no encontrado con ID: " + id));
     }
 
@@ -155,10 +198,23 @@ public class EventServiceImpl  implements IEventService {
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findAll() {
-        return eventRepository.findAll().stream()
-               .map(event -> modelMapper.map(event, EventResponseDto.class))
-               .toList();
+    public Optional<EventResponseDto> findPublishedById(Long id) {
+        //El catálogo en memoria descarta sin consultar la BBDD los eventos que no son públicos;
+        //la descripción no está en el catálogo, así que el detalle se lee de la BBDD (y el controlador lo guarda serializado)
+        if (!publishedEventCatalogue.contains(id)) {
+            return Optional.empty();
+        }
+        return eventRepository.findById(id)
+                .filter(event -> event.getStatus() == StatusType.PUBLISHED && Boolean.TRUE.equals(event.getInTime()))
+                .map(this::convertToResponseDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventSummaryDto> findAll() {
+        return toSummaries(eventRepository.findAllSummaries());
     }
 
     /**
@@ -170,6 +226,7 @@ public class EventServiceImpl  implements IEventService {
                 .orElseThrow(() -> new NotFoundException("No se puede publicar el evento. No encontrado con ID: " + id));
        event.setStatus(StatusType.PUBLISHED);
        eventRepository.save(event);
+       eventPublisher.publishEvent(EventChangedEvent.of(id));
     }
 
 
@@ -184,9 +241,11 @@ public class EventServiceImpl  implements IEventService {
         event.setStatus(StatusType.DISCARDED);
 
         //Al cambiar a descartado, se eliminan todos los favoritos asociados a ese evento
-        favoriteRepository.deleteByEventId(id);
+        long removed = favoriteRepository.deleteByEventId(id);
+        favoriteCounterService.favoritesCleared(id, removed);
 
         eventRepository.save(event);
+        eventPublisher.publishEvent(EventChangedEvent.of(id));
     }
 
     /**
@@ -203,6 +262,7 @@ public class EventServiceImpl  implements IEventService {
         }
 
         eventRepository.deleteById(id);
+        eventPublisher.publishEvent(EventChangedEvent.of(id));
     }
 
 
@@ -215,83 +275,99 @@ public class EventServiceImpl  implements IEventService {
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByContainingName(String name) {
-        return eventRepository.findByNameContainingIgnoreCase(name).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> findByContainingName(String name) {
+        return toSummaries(eventRepository.findByNameContainingIgnoreCase(name));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByMunicipalityName(String name) {
-        return eventRepository.findByMunicipalityNameIgnoreCase(name).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> searchByText(String query, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("El texto de búsqueda no puede estar vacío.");
+        }
+        List<Long> ids = eventSearchIndex.search(query, Pagination.resolvePageSize(size), true);
+        return publishedEventCatalogue.findAllById(ids);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByProvinceName(String name) {
-        return eventRepository.findByMunicipalityProvinceNameIgnoreCase(name).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> searchNearby(Double latitude, Double longitude, Double radiusKm,
+                                               String themeName, BigDecimal maxPrice, LocalDate eventDate, Integer size) {
+        if (latitude == null || longitude == null
+                || latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Las coordenadas no son válidas.");
+        }
+        double radius = radiusKm != null ? radiusKm : DEFAULT_NEARBY_RADIUS_KM;
+        if (!(radius > 0) || radius > EventGeoIndex.MAX_RADIUS_KM) {
+            throw new BadRequestException("El radio de búsqueda debe ser mayor que 0 y como máximo "
+                    + (int) EventGeoIndex.MAX_RADIUS_KM + " km.");
+        }
+        List<Long> ids = eventGeoIndex.findNearby(latitude, longitude, radius,
+                themeName, maxPrice, eventDate, Pagination.resolvePageSize(size));
+        return publishedEventCatalogue.findAllById(ids);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventSummaryDto> findByMunicipalityName(String name) {
+        return toSummaries(eventRepository.findByMunicipalityNameIgnoreCase(name));
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByThemeName(String name) {
-        return eventRepository.findByThemeNameIgnoreCase(name).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> findByProvinceName(String name) {
+        return toSummaries(eventRepository.findByMunicipalityProvinceNameIgnoreCase(name));
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EventSummaryDto> findByThemeName(String name) {
+        return toSummaries(eventRepository.findByThemeNameIgnoreCase(name));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByIsFree(Boolean isFree) {
-        return eventRepository.findByIsFree(isFree).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> findByIsFree(Boolean isFree) {
+        return toSummaries(eventRepository.findByIsFree(isFree));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByMaxPrice(BigDecimal maxPrice) {
-        return eventRepository.findByPriceLessThanEqual(maxPrice).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> findByMaxPrice(BigDecimal maxPrice) {
+        return toSummaries(eventRepository.findByPriceLessThanEqual(maxPrice));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByDate(LocalDate fullDate) {
-        return eventRepository.findByDatesFullDate(fullDate).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> findByDate(LocalDate fullDate) {
+        return toSummaries(eventRepository.findByDatesFullDate(fullDate));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByStatus(String status) {
+    public List<EventSummaryDto> findByStatus(String status) {
         try{ //COnversión de String a enum
             StatusType statusType = StatusType.valueOf(status.toUpperCase());
-            return eventRepository.findByStatus(statusType).stream()
-                    .map(this::convertToResponseDto)
-                    .toList();
+            return toSummaries(eventRepository.findByStatus(statusType));
         } catch (IllegalArgumentException e) {
             throw new BadRequestException("Estado de evento inválido: " + status);
         }
@@ -303,22 +379,18 @@ public class EventServiceImpl  implements IEventService {
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByInTime(Boolean inTime) {
-        return eventRepository.findByInTime(inTime).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> findByInTime(Boolean inTime) {
+        return toSummaries(eventRepository.findByInTime(inTime));
     }
 
     /**
      *{@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByInTimeAndStatus(Boolean inTime, String status) {
+    public List<EventSummaryDto> findByInTimeAndStatus(Boolean inTime, String status) {
        try{
             StatusType statusType = StatusType.valueOf(status.toUpperCase());
-            return eventRepository.findByInTimeAndStatus(inTime, statusType).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+            return toSummaries(eventRepository.findByInTimeAndStatus(inTime, statusType));
         } catch (IllegalArgumentException e) {
             throw new BadRequestException("Estado de evento inválido: " + status);
        }
@@ -329,22 +401,55 @@ public class EventServiceImpl  implements IEventService {
      * {@inheritDoc}
      */
     @Override
-     public List<EventResponseDto> findOutTimeAndNotDiscarded(Boolean inTime, Collection<String> statuses) {
+     public List<EventSummaryDto> findOutTimeAndNotDiscarded(Boolean inTime, Collection<String> statuses) {
         try{
             //Convertimos los String a StatusType
             Set<StatusType> statusTypes = statuses.stream()
                     .map(status -> StatusType.valueOf(status.toUpperCase()))
                     .collect(Collectors.toSet());
             
-            return eventRepository.findByInTimeAndStatusIn(false, statusTypes).stream()
-                    .map(this::convertToResponseDto)
-                    .toList();
+            return toSummaries(eventRepository.findByInTimeAndStatusIn(false, statusTypes));
         } catch (IllegalArgumentException e) {
             throw new BadRequestException("Uno o más estados de evento inválidos en la lista proporcionada.");
         }
 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SliceResponse<EventSummaryDto> findByStatus(String status, Integer page, Integer size) {
+        StatusType statusType = parseStatus(status);
+        return toSummaries(eventRepository.findByStatus(statusType, Pagination.byId(page, size)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SliceResponse<EventSummaryDto> findByInTimeAndStatus(Boolean inTime, String status, Integer page, Integer size) {
+        StatusType statusType = parseStatus(status);
+        return toSummaries(eventRepository.findByInTimeAndStatus(inTime, statusType, Pagination.byId(page, size)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SliceResponse<EventSummaryDto> findOutTimeAndNotDiscarded(Boolean inTime, Collection<String> statuses,
+            Integer page, Integer size) {
+        Set<StatusType> statusTypes;
+        try {
+            statusTypes = statuses.stream()
+                    .map(status -> StatusType.valueOf(status.toUpperCase()))
+                    .collect(Collectors.toSet());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Uno o más estados de evento inválidos en la lista proporcionada.");
+        }
+        return toSummaries(eventRepository.findByInTimeAndStatusIn(inTime, statusTypes, Pagination.byId(page, size)));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -372,10 +477,8 @@ public class EventServiceImpl  implements IEventService {
      * {@inheritDoc}
      */
     @Override
-    public List<EventResponseDto> findByUserEmail(String email) {
-        return eventRepository.findByUserEmail(email).stream()
-                .map(this::convertToResponseDto)
-                .toList();
+    public List<EventSummaryDto> findByUserEmail(String email) {
+        return toSummaries(eventRepository.findByUserEmail(email));
     }
 
 
@@ -397,44 +500,103 @@ public class EventServiceImpl  implements IEventService {
      */
     //Solo se mostrarán los eventos que estén publicados y vigentes y que cumplan los filtros
     @Override
-    public List<EventResponseDto> searchPublishedEvents( String provinceName, LocalDate eventDate,
+    public List<EventSummaryDto> searchPublishedEvents( String provinceName, LocalDate eventDate,
             String themeName, String municipalityName, BigDecimal maxPrice) {
-            List<Event> events = eventRepository.searchPublishedEvents(provinceName.toLowerCase(),eventDate,
-                                                    themeName != null ? themeName.toLowerCase() : null, //Indicamos que si no es null, se pase en minúsculas y si es null, se pase como null
-                                                    municipalityName != null ? municipalityName.toLowerCase() : null,
-                                                    maxPrice);
-        return events.stream()
-                     .map(this::convertToResponseDto)
-                     .toList() ;
+        //Se resuelve con el catálogo en memoria de eventos publicados y vigentes, sin consultar la BBDD
+        return publishedEventCatalogue.search(provinceName, eventDate, themeName, municipalityName, maxPrice,
+                0L, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPage<EventSummaryDto> searchPublishedEvents(String provinceName, LocalDate eventDate,
+            String themeName, String municipalityName, BigDecimal maxPrice, String cursor, Integer size) {
+
+        int pageSize = Pagination.resolvePageSize(size);
+        long lastId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            EventSearchCursor decoded = EventSearchCursor.decode(cursor);
+            //El cursor solo es válido para la misma fecha con la que se generó
+            if (!decoded.eventDate().equals(eventDate)) {
+                throw new BadRequestException("El cursor de paginación no corresponde a la fecha buscada.");
+            }
+            lastId = decoded.lastId();
+        }
+
+        //Se pide un elemento más de los necesarios para saber si existe una página siguiente
+        List<EventSummaryDto> events = publishedEventCatalogue.search(provinceName, eventDate, themeName,
+                municipalityName, maxPrice, lastId, pageSize + 1);
+
+        boolean hasNext = events.size() > pageSize;
+        List<EventSummaryDto> items = hasNext ? events.subList(0, pageSize) : events;
+        String nextCursor = hasNext
+                ? new EventSearchCursor(eventDate, items.get(items.size() - 1).getId()).encode()
+                : null;
+        return new CursorPage<>(items, items.size(), hasNext, nextCursor);
     }
 
    
  
 
      // MÉTODO PRIVADOS DE VALIDACIÓN Y UTILIDAD
-     /**
-      * Valida los datos del DTO de solicitud de evento.
-      * @param dto DTO de solicitud de evento
-      * @throws ValidationException si algún dato no es válido.
-      */
-    private void validateEventRequest(EventRequestDto dto) {
-        if (Boolean.TRUE.equals(dto.getIsFree()) && dto.getPrice().compareTo(BigDecimal.ZERO) > 0) { //Si la comparación entre dto.getPrice y compareTo(BigDecimal.ZERO) es mayor a 0, significa que dto.getPrice es mayor que 0.
-            throw new ValidationException("Un evento gratuito no puede tener un precio mayor a cero.");
-        }
-        if (dto.getInfoUrl() != null && !dto.getInfoUrl().isEmpty() && !Validator.isValidUrl(dto.getInfoUrl())) {
-            throw new ValidationException("La URL de información no es válida.");
-        }
-        if (dto.getEventDates() == null || dto.getEventDates().isEmpty()) {
-            throw new ValidationException("El evento debe tener al menos una fecha.");
+    /**
+     * Resuelve el municipio por nombre en la caché geográfica y devuelve una referencia JPA (sin consultar la BBDD)
+     * que basta para asignar la clave foránea del evento.
+     * @param name Nombre del municipio.
+     * @return Referencia al municipio.
+     * @throws NotFoundException si no existe ningún municipio con ese nombre.
+     */
+    private Municipality findMunicipalityReference(String name) {
+        Integer municipalityId = geoReferenceCache.findMunicipalityByName(name)
+                .map(GeoReferenceCache.MunicipalityRef::id)
+                .orElseThrow(() -> new NotFoundException("Municipio no encontrado: " + name));
+        return municipalityRepository.getReferenceById(municipalityId);
+    }
+
+    /**
+     * Convierte el estado recibido como texto a su enum.
+     * @param status Estado (PENDING, PUBLISHED o DISCARDED), sin distinguir mayúsculas.
+     * @return el StatusType correspondiente.
+     * @throws BadRequestException si el estado no existe.
+     */
+    private StatusType parseStatus(String status) {
+        try {
+            return StatusType.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Estado de evento inválido: " + status);
         }
-        boolean hasPastDates = dto.getEventDates().stream().anyMatch(date -> !date.isAfter(LocalDate.now()));
-        if (hasPastDates) {
-            throw new ValidationException("No se pueden crear eventos con fechas pasadas o la de hoy.");
+    }
+
+    /**
+     * Convierte las filas de un listado a DTOs, leyendo las fechas de todos los eventos a la vez.
+     * @param rows Filas leídas con la proyección de listados.
+     * @return los DTOs de listado, en el mismo orden.
+     */
+    private List<EventSummaryDto> toSummaries(List<EventSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
         }
+        Map<Long, Set<LocalDate>> dates = eventRepository.findDatesByEventIds(rows.stream().map(EventSummaryRow::id).toList());
+        return rows.stream()
+                .map(row -> eventMapper.toSummaryDto(row, dates.get(row.id())))
+                .toList();
+    }
+
+    /**
+     * Versión paginada de {@link #toSummaries(List)}.
+     * @param rows Porción de filas leídas con la proyección de listados.
+     * @return la porción de DTOs de listado.
+     */
+    private SliceResponse<EventSummaryDto> toSummaries(Slice<EventSummaryRow> rows) {
+        Map<Long, Set<LocalDate>> dates = eventRepository.findDatesByEventIds(
+                rows.getContent().stream().map(EventSummaryRow::id).toList());
+        return SliceResponse.of(rows, row -> eventMapper.toSummaryDto(row, dates.get(row.id())));
     }
 
     private EventResponseDto convertToResponseDto(Event event) {
-        return modelMapper.map(event, EventResponseDto.class);
+        return eventMapper.toResponseDto(event);
     }
 
 }
@@ -4,9 +4,13 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import io.github.dainadb.improplan.common.response.CursorPage;
+import io.github.dainadb.improplan.common.response.SliceResponse;
 import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
 import io.github.dainadb.improplan.domain.event.dto.EventResponseDto;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
 import io.github.dainadb.improplan.exception.NotFoundException;
 
 
@@ -37,11 +41,20 @@ public interface IEventService {
     EventResponseDto findById(Long id);
 
     /**
-     * Devuelve una lista de todos los eventos como DTOs de respuesta.
+     * Busca un evento publicado y vigente (los que puede consultar cualquiera), con su descripción.
+     * Si el evento no está en el catálogo de eventos publicados se descarta sin acceder a la BBDD.
+     *
+     * @param id El ID del evento a buscar.
+     * @return DTO de respuesta del evento, o vacío si no existe o no está publicado y vigente.
+     */
+    Optional<EventResponseDto> findPublishedById(Long id);
+
+    /**
+     * Devuelve una lista de todos los eventos como DTOs de listado (sin descripción).
      *
      * @return Lista de DTOs de eventos.
      */
-    List<EventResponseDto> findAll();
+    List<EventSummaryDto> findAll();
 
     /**
      * Realiza un borrado lógico de un evento, cambiando su estado a 'DISCARDED'.
@@ -80,71 +93,128 @@ public interface IEventService {
 
     /**
      * Busca eventos cuyo nombre contenga la cadena dada, ignorando mayúsculas y minúsculas.
+     * Recorre toda la tabla (LIKE '%x%'); para búsquedas desde la API usar {@link #searchByText(String, Integer)}.
      * @param name Cadena a buscar en los nombres de los eventos.
      */
-    List<EventResponseDto> findByContainingName(String name);
+    List<EventSummaryDto> findByContainingName(String name);
+
+    /**
+     * Búsqueda de texto sobre el nombre, el resumen y el lugar de los eventos publicados y vigentes,
+     * resuelta con el índice en memoria (sin tildes ni mayúsculas y admitiendo el comienzo de las palabras).
+     * @param query Texto de búsqueda.
+     * @param size Número máximo de resultados (opcional, por defecto 20 y máximo 50).
+     * @return los eventos encontrados, de mayor a menor relevancia.
+     * @throws BadRequestException si el texto de búsqueda está vacío.
+     */
+    List<EventSummaryDto> searchByText(String query, Integer size);
+
+    /**
+     * Busca los eventos publicados y vigentes más cercanos a un punto, resuelto con el índice geográfico en memoria.
+     * @param latitude Latitud del punto (entre -90 y 90).
+     * @param longitude Longitud del punto (entre -180 y 180).
+     * @param radiusKm Radio de búsqueda en kilómetros (opcional, por defecto 10 y máximo 50).
+     * @param themeName Nombre de la temática. (opcional)
+     * @param maxPrice Precio máximo. (opcional)
+     * @param eventDate Día en que se celebra el evento. (opcional)
+     * @param size Número máximo de resultados (opcional, por defecto 20 y máximo 50).
+     * @return los eventos encontrados, del más cercano al más lejano.
+     * @throws BadRequestException si las coordenadas o el radio no son válidos.
+     */
+    List<EventSummaryDto> searchNearby(Double latitude, Double longitude, Double radiusKm,
+                                        String themeName, BigDecimal maxPrice, LocalDate eventDate, Integer size);
 
     /**
      * Busca eventos en municipio específico.
      * @param name Nombre del municipio.
      */
-    List<EventResponseDto> findByMunicipalityName(String name);
+    List<EventSummaryDto> findByMunicipalityName(String name);
 
     /**
      * Busca eventos en provincia específica.
      * @param name Nombre de la provincia.
      */
-    List<EventResponseDto> findByProvinceName(String name);
+    List<EventSummaryDto> findByProvinceName(String name);
 
     /**
      * Busca eventos de una temática específica.
      * @param name Nombre de la temática.
      */
-    List<EventResponseDto> findByThemeName(String name); 
+    List<EventSummaryDto> findByThemeName(String name); 
 
     /**
      * Busca eventos según si son gratuitos o no.
      * @param isFree true para eventos gratuitos, false para de pago.
      */
-    List<EventResponseDto> findByIsFree(Boolean isFree);
+    List<EventSummaryDto> findByIsFree(Boolean isFree);
 
     /**
      * Busca eventos por su precio máximo.
      * @param maxPrice Precio máximo.
      */
-    List<EventResponseDto> findByMaxPrice(BigDecimal maxPrice);
+    List<EventSummaryDto> findByMaxPrice(BigDecimal maxPrice);
 
     /**
      * Busca eventos por una fecha específica.
      * @param fullDate Fecha completa.
      */
-    List<EventResponseDto> findByDate(LocalDate fullDate);
+    List<EventSummaryDto> findByDate(LocalDate fullDate);
     
     /**
      * Busca eventos por su estado.
      * @param status Estado del evento.
      */
-    List<EventResponseDto> findByStatus(String status);
+    List<EventSummaryDto> findByStatus(String status);
 
     /**
      * Busca eventos según si están a tiempo o no.
      * @param inTime true para eventos a tiempo, false para eventos pasados.
      */
-    List<EventResponseDto> findByInTime(Boolean inTime);
+    List<EventSummaryDto> findByInTime(Boolean inTime);
 
     /**
      * Busca eventos según si están a tiempo y su estado.
      * @param inTime true para eventos a tiempo, false para eventos pasados.
      * @param status Estado del evento.
      */
-    List<EventResponseDto> findByInTimeAndStatus(Boolean inTime, String status);
+    List<EventSummaryDto> findByInTimeAndStatus(Boolean inTime, String status);
 
       /**
      * Busca eventos que no están descartados y que están fuera de tiempo.
      * @param inTime False para eventos pasados.
      * @param statuses Colección de estados por los que filtrar (ej. PUBLISHED, PENDING).
      */
-    List<EventResponseDto> findOutTimeAndNotDiscarded( Boolean inTime, Collection<String> statuses);
+    List<EventSummaryDto> findOutTimeAndNotDiscarded( Boolean inTime, Collection<String> statuses);
+
+    //VERSIONES PAGINADAS (para los listados de administración)
+
+    /**
+     * Versión paginada de {@link #findByStatus(String)}, ordenada por ID.
+     * @param status Estado del evento.
+     * @param page Número de página (empieza en 0, null para la primera).
+     * @param size Tamaño de página (null para el valor por defecto, máximo 50).
+     * @return La página de eventos e indicación de si hay más.
+     */
+    SliceResponse<EventSummaryDto> findByStatus(String status, Integer page, Integer size);
+
+    /**
+     * Versión paginada de {@link #findByInTimeAndStatus(Boolean, String)}, ordenada por ID.
+     * @param inTime true para eventos a tiempo, false para eventos pasados.
+     * @param status Estado del evento.
+     * @param page Número de página (empieza en 0, null para la primera).
+     * @param size Tamaño de página (null para el valor por defecto, máximo 50).
+     * @return La página de eventos e indicación de si hay más.
+     */
+    SliceResponse<EventSummaryDto> findByInTimeAndStatus(Boolean inTime, String status, Integer page, Integer size);
+
+    /**
+     * Versión paginada de {@link #findOutTimeAndNotDiscarded(Boolean, Collection)}, ordenada por ID.
+     * @param inTime False para eventos pasados.
+     * @param statuses Colección de estados por los que filtrar (ej. PUBLISHED, PENDING).
+     * @param page Número de página (empieza en 0, null para la primera).
+     * @param size Tamaño de página (null para el valor por defecto, máximo 50).
+     * @return La página de eventos e indicación de si hay más.
+     */
+    SliceResponse<EventSummaryDto> findOutTimeAndNotDiscarded(Boolean inTime, Collection<String> statuses, Integer page, Integer size);
 
     /**
      * Cuenta cuántos eventos hay en un estado específico.
@@ -162,7 +232,7 @@ public interface IEventService {
      * Busca eventos asociados a un usuario específico por su email.
      * @param email Email del usuario.
      */
-    List<EventResponseDto> findByUserEmail (String email);
+    List<EventSummaryDto> findByUserEmail (String email);
 
   
 
@@ -186,13 +256,34 @@ public interface IEventService {
      * @param maxPrice Precio máximo. (opcional)
      * @return
      */
-     List<EventResponseDto> searchPublishedEvents( String provinceName,
+     List<EventSummaryDto> searchPublishedEvents( String provinceName,
                                         LocalDate eventDate,
                                         String themeName,
                                         String municipalityName,
                                         BigDecimal maxPrice
                                         );
 
+    /**
+     * Versión paginada por cursor de {@link #searchPublishedEvents(String, LocalDate, String, String, BigDecimal)}.
+     * El coste de cada página es constante, independientemente del número total de eventos que coincidan.
+     * @param provinceName Nombre de la provincia. (obligatorio)
+     * @param eventDate Fecha del evento. (obligatorio)
+     * @param themeName Nombre de la temática. (opcional)
+     * @param municipalityName Nombre del municipio. (opcional)
+     * @param maxPrice Precio máximo. (opcional)
+     * @param cursor Cursor devuelto en la página anterior. (opcional, null para la primera página)
+     * @param size Número de eventos por página. (opcional, se limita a un máximo)
+     * @return Página de eventos junto con el cursor para solicitar la siguiente.
+     */
+     CursorPage<EventSummaryDto> searchPublishedEvents( String provinceName,
+                                        LocalDate eventDate,
+                                        String themeName,
+                                        String municipalityName,
+                                        BigDecimal maxPrice,
+                                        String cursor,
+                                        Integer size
+                                        );
+
    
 
 }
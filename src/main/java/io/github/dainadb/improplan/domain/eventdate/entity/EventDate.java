@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,7 +21,7 @@ import lombok.Setter;
  * Entidad que representa una fecha específica en la que puede ocurrir un evento.
  */
 @Entity
-@Table(name = "event_dates")
+@Table(name = "event_dates", uniqueConstraints = @UniqueConstraint(name = "uk_event_dates_full_date", columnNames = "full_date"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,6 +42,7 @@ public class EventDate implements Serializable {
     /**
      * La fecha completa del evento.
      * Se utiliza LocalDate para representar solo la fecha (año, mes, día).
+     * Es única: cada día existe una sola vez y los eventos lo comparten (clave uk_event_dates_full_date, ver db/migration/V2__event_dates_unique_full_date.sql).
      */
     @Column(name = "full_date", nullable = false)
     private LocalDate fullDate;
@@ -1,14 +1,17 @@
 package io.github.dainadb.improplan.domain.eventdate.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
+import jakarta.persistence.LockModeType;
 
 /** 
  * Repositorio para la entidad EventDate. 
@@ -24,6 +27,32 @@ public interface IEventDateRepository extends JpaRepository<EventDate, Long> {
      */
     Optional<EventDate> findByFullDate(LocalDate fullDate);
 
+    /**
+     * Busca en una sola consulta todas las EventDate de un conjunto de fechas.
+     * @param fullDates Fechas a buscar.
+     * @return Las EventDate existentes para esas fechas (las que no existen no aparecen).
+     */
+    List<EventDate> findByFullDateIn(Collection<LocalDate> fullDates);
+
+    /**
+     * Busca las EventDate entre dos fechas (ambas incluidas). Se usa para precargar el diccionario de fechas.
+     * @param from Fecha inicial.
+     * @param to Fecha final.
+     * @return Las EventDate del intervalo.
+     */
+    List<EventDate> findByFullDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Igual que {@link #findByFullDateIn(Collection)} pero con lectura bloqueante (SELECT ... FOR SHARE).
+     * Una lectura bloqueante ve las filas confirmadas por otras transacciones después de empezar la actual,
+     * necesario para recuperar las fechas que otra petición ha insertado a la vez.
+     * @param fullDates Fechas a buscar.
+     * @return Las EventDate existentes para esas fechas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT d FROM EventDate d WHERE d.fullDate IN :fullDates")
+    List<EventDate> findByFullDateInForShare(@Param("fullDates") Collection<LocalDate> fullDates);
+
 
 
     //Como la entidad EventDate no tiene relación directa con Event, no se pueden usar métodos derivados para buscar por atributos de Event.
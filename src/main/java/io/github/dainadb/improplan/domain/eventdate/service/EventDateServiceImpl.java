@@ -1,15 +1,18 @@
 package io.github.dainadb.improplan.domain.eventdate.service;
 
+import java.sql.Date;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import io.github.dainadb.improplan.common.cache.EventDateDictionary;
+import io.github.dainadb.improplan.common.utils.TransactionCallbacks;
 import io.github.dainadb.improplan.domain.eventdate.dto.EventDateResponseDto;
 import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
 import io.github.dainadb.improplan.domain.eventdate.repository.IEventDateRepository;
@@ -27,6 +30,12 @@ public class EventDateServiceImpl implements IEventDateService {
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventDateDictionary eventDateDictionary;
+
     /**
      * {@inheritDoc} 
      */
@@ -37,14 +46,54 @@ public class EventDateServiceImpl implements IEventDateService {
             return new HashSet<>();
         }
 
-        return dates.stream()
-                .map(date -> eventDateRepository.findByFullDate(date)
-                        .orElseGet(() -> {
-                            EventDate newEventDate = new EventDate();
-                            newEventDate.setFullDate(date);
-                            return eventDateRepository.save(newEventDate);
-                        }))
-                .collect(Collectors.toSet());
+        //0. Los días ya conocidos se resuelven con el diccionario en memoria, sin consulta.
+        //Como las filas de event_dates nunca cambian, basta una instancia con ID y fecha para asociarla al evento.
+        Set<EventDate> result = new HashSet<>();
+        Set<LocalDate> pending = new HashSet<>();
+        for (LocalDate date : dates) {
+            long id = eventDateDictionary.find(date);
+            if (id != EventDateDictionary.UNKNOWN) {
+                result.add(EventDate.builder().id(id).fullDate(date).build());
+            } else {
+                pending.add(date);
+            }
+        }
+        if (pending.isEmpty()) {
+            return result;
+        }
+
+        //1. Una sola consulta para todas las fechas que ya existen
+        List<EventDate> existing = eventDateRepository.findByFullDateIn(pending);
+        existing.forEach(this::remember);
+        result.addAll(existing);
+        if (existing.size() == pending.size()) {
+            return result;
+        }
+
+        Set<LocalDate> missing = new HashSet<>(pending);
+        existing.forEach(eventDate -> missing.remove(eventDate.getFullDate()));
+
+        //2. Inserción por lotes de las que faltan. Si otra petición inserta la misma fecha a la vez,
+        //la clave única de full_date hace que INSERT IGNORE la salte en lugar de duplicarla o fallar.
+        List<LocalDate> toInsert = List.copyOf(missing);
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO event_dates (full_date) VALUES (?)", toInsert, toInsert.size(),
+                (ps, date) -> ps.setDate(1, Date.valueOf(date)));
+
+        //3. Se recuperan con lectura bloqueante, que también ve las insertadas por otras transacciones
+        List<EventDate> inserted = eventDateRepository.findByFullDateInForShare(missing);
+        inserted.forEach(this::remember);
+        result.addAll(inserted);
+        return result;
+    }
+
+    /**
+     * Guarda la fecha en el diccionario cuando la transacción se confirme. Si se deshiciera,
+     * el diccionario no debe conservar IDs de filas que nunca llegaron a existir.
+     */
+    private void remember(EventDate eventDate) {
+        LocalDate fullDate = eventDate.getFullDate();
+        Long id = eventDate.getId();
+        TransactionCallbacks.afterCommit(() -> eventDateDictionary.put(fullDate, id));
     }
 
      /**
@@ -0,0 +1,43 @@
+package io.github.dainadb.improplan.domain.favorite.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidad que guarda el número de favoritos de cada evento (tabla auxiliar desnormalizada).
+ * Evita ejecutar COUNT(*) sobre la tabla de favoritos en cada consulta del contador.
+ * La mantiene FavoriteCounterService.
+ */
+@Entity
+@Table(name = "event_favorite_counts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventFavoriteCount implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * ID del evento (clave primaria, uno a uno con app_events).
+     */
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    /**
+     * Número de favoritos del evento.
+     */
+    @Column(name = "favorite_count", nullable = false)
+    private Long favoriteCount;
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -43,7 +44,10 @@ public class Favorite implements Serializable {
      * Clave primaria única para la entrada de favorito.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "favorite_id")
+    //Generador por tabla, como en Event, para que las altas se puedan enviar en lotes
+    @TableGenerator(name = "favorite_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "last_id", pkColumnValue = "favorites", allocationSize = 50)
     @Column(name = "id_favorite")
     private Long id;
 
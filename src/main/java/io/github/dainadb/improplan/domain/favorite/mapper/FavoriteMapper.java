@@ -0,0 +1,44 @@
+package io.github.dainadb.improplan.domain.favorite.mapper;
+
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.domain.event.entity.Event;
+import io.github.dainadb.improplan.domain.favorite.dto.FavoriteResponseDto;
+import io.github.dainadb.improplan.domain.favorite.entity.Favorite;
+
+/**
+ * Conversor escrito a mano de Favorite a FavoriteResponseDto.
+ * <p>
+ * Produce el mismo resultado que el typeMap de Favorite definido en ModelMapperConfig.
+ */
+@Component
+public class FavoriteMapper {
+
+    /**
+     * Convierte una entidad Favorite a su DTO de respuesta.
+     * @param favorite Entidad a convertir.
+     * @return DTO de respuesta, o null si el favorito es null.
+     */
+    public FavoriteResponseDto toResponseDto(Favorite favorite) {
+        if (favorite == null) {
+            return null;
+        }
+        FavoriteResponseDto dto = new FavoriteResponseDto();
+        dto.setId(favorite.getId());
+        dto.setFavoriteDate(favorite.getFavoriteDate());
+        dto.setUserEmail(favorite.getUser() != null ? favorite.getUser().getEmail() : null);
+
+        Event event = favorite.getEvent();
+        if (event != null) {
+            dto.setEventId(event.getId());
+            dto.setEventName(event.getName());
+            dto.setEventImage(event.getImage());
+            dto.setEventPrice(event.getPrice());
+            dto.setEventThemeName(event.getTheme() != null ? event.getTheme().getName() : null);
+            dto.setEventMunicipalityName(event.getMunicipality() != null ? event.getMunicipality().getName() : null);
+            dto.setEventInTime(event.getInTime());
+            dto.setEventStatus(event.getStatus() != null ? event.getStatus().name() : null);
+        }
+        return dto;
+    }
+}
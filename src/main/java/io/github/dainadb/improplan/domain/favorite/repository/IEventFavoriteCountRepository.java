@@ -0,0 +1,24 @@
+package io.github.dainadb.improplan.domain.favorite.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import io.github.dainadb.improplan.domain.favorite.entity.EventFavoriteCount;
+
+/**
+ * Repositorio para la entidad EventFavoriteCount.
+ * Permite consultar el contador de favoritos de un evento por su clave primaria.
+ */
+public interface IEventFavoriteCountRepository extends JpaRepository<EventFavoriteCount, Long> {
+
+    /**
+     * Obtiene el número de favoritos guardado para un evento.
+     * @param eventId ID del evento.
+     * @return el contador, o vacío si el evento no tiene fila (ningún favorito).
+     */
+    @Query("SELECT c.favoriteCount FROM EventFavoriteCount c WHERE c.eventId = :eventId")
+    Optional<Long> findCountByEventId(@Param("eventId") Long eventId);
+}
@@ -3,7 +3,10 @@ package io.github.dainadb.improplan.domain.favorite.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.dainadb.improplan.domain.favorite.entity.Favorite;
 
@@ -20,7 +23,11 @@ public interface IFavoriteRepository extends JpaRepository<Favorite, Long> {
      * @param email Email del usuario.
      *  @return Lista de favoritos que ha seleccionado ese usuario
      */
-    List<Favorite> findByUserEmail(String email);
+    //Se cargan en la misma consulta el evento (con su temática y municipio) y el usuario, que se leen al convertir a FavoriteResponseDto.
+    //El JOIN explícito es INNER para que la BBDD pueda empezar por el email (único) y no por la tabla de favoritos.
+    @EntityGraph(attributePaths = {"user", "event", "event.theme", "event.municipality"})
+    @Query("SELECT f FROM Favorite f JOIN f.user u WHERE u.email = :email")
+    List<Favorite> findByUserEmail(@Param("email") String email);
 
     /**     
      * Busca un favorito por el ID del usuario y el ID del evento.
@@ -43,7 +50,8 @@ public interface IFavoriteRepository extends JpaRepository<Favorite, Long> {
         * Utilizado cuando un evento es eliminado para limpiar los favoritos relacionados.
         * 
         * @param eventId El ID del evento cuyos favoritos se van a eliminar.
+        * @return El número de favoritos eliminados.
         */
-    void deleteByEventId(Long eventId);
+    long deleteByEventId(Long eventId);
 
 }
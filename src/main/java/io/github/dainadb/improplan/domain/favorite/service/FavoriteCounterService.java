@@ -0,0 +1,279 @@
+package io.github.dainadb.improplan.domain.favorite.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.dainadb.improplan.domain.favorite.repository.IEventFavoriteCountRepository;
+
+/**
+ * Servicio que mantiene el contador de favoritos de cada evento en la tabla event_favorite_counts.
+ * <p>
+ * Las altas y bajas de favoritos no escriben en la tabla directamente: se acumulan en memoria
+ * (un LongAdder por evento, que reparte las actualizaciones concurrentes entre varias celdas) y una tarea
+ * programada las vuelca por lotes con un único UPSERT por evento. Un evento muy popular genera así
+ * una escritura por intervalo en lugar de una por favorito.
+ * <p>
+ * Una segunda tarea recalcula los contadores desde la tabla de favoritos para corregir cualquier desviación.
+ * <p>
+ * Cada transacción que cambia favoritos toma {@code commitLock} en modo lectura desde justo antes de confirmar
+ * hasta que anota su incremento. El volcado y la reconciliación lo toman en modo escritura para leer y vaciar
+ * los incrementos pendientes, así que ven siempre el incremento de una transacción junto con su confirmación:
+ * ningún cambio se cuenta dos veces ni se pierde, y los acumuladores se pueden eliminar al vaciarlos.
+ */
+@Service
+public class FavoriteCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(FavoriteCounterService.class);
+
+    private static final String UPSERT_DELTA = """
+            INSERT INTO event_favorite_counts (event_id, favorite_count) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE favorite_count = favorite_count + VALUES(favorite_count)
+            """;
+
+    @Autowired
+    private IEventFavoriteCountRepository favoriteCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${improplan.cache.warm-up:true}")
+    private boolean warmUp;
+
+    //Cambios pendientes de volcar: ID de evento -> incremento acumulado
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    //Lectura: transacciones que confirman cambios de favoritos. Escritura: lectura y vaciado de los pendientes
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    //Evita que un volcado y una reconciliación se ejecuten a la vez
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // REGISTRO DE CAMBIOS
+
+    /**
+     * Registra un nuevo favorito. Si hay una transacción activa, se aplica solo si se confirma.
+     * @param eventId ID del evento.
+     */
+    public void favoriteAdded(Long eventId) {
+        record(eventId, 1);
+    }
+
+    /**
+     * Registra la eliminación de un favorito. Si hay una transacción activa, se aplica solo si se confirma.
+     * @param eventId ID del evento.
+     */
+    public void favoriteRemoved(Long eventId) {
+        record(eventId, -1);
+    }
+
+    /**
+     * Registra el borrado de todos los favoritos de un evento (evento descartado).
+     * Si hay una transacción activa, se aplica solo si se confirma.
+     * @param eventId ID del evento.
+     * @param removed Número de favoritos borrados.
+     */
+    public void favoritesCleared(Long eventId, long removed) {
+        if (removed != 0) {
+            record(eventId, -removed);
+        }
+    }
+
+    // LECTURA
+
+    /**
+     * Devuelve el número de favoritos de un evento: valor guardado (acceso por clave primaria) más los cambios pendientes.
+     * @param eventId ID del evento.
+     * @return el número de favoritos.
+     */
+    public long getCount(Long eventId) {
+        long stored = favoriteCountRepository.findCountByEventId(eventId).orElse(0L);
+        LongAdder delta = pending.get(eventId);
+        return stored + (delta != null ? delta.sum() : 0L);
+    }
+
+    // TAREAS PROGRAMADAS
+
+    /**
+     * Vuelca a la BBDD los cambios acumulados, con un lote de UPSERT en una sola transacción.
+     * @return el número de eventos actualizados.
+     */
+    @Scheduled(fixedDelayString = "${improplan.favorites.counter-flush-ms:5000}")
+    public int flush() {
+        writeLock.lock();
+        try {
+            List<Object[]> batch = drainPending();
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_DELTA, batch));
+            } catch (RuntimeException e) {
+                //Si el volcado falla, los incrementos vuelven a quedar pendientes para el siguiente intento
+                restorePending(batch);
+                throw e;
+            }
+            return batch.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Recalcula todos los contadores a partir de la tabla de favoritos, corrigiendo cualquier desviación.
+     * La expresión cron "0 30 3 * * ?" significa: "todos los días a las 3:30 AM".
+     * <p>
+     * Los incrementos pendientes se descartan a la vez que se fija la instantánea de lectura (REPEATABLE READ):
+     * todos corresponden a favoritos ya confirmados, que el recuento incluye; los que lleguen después son de
+     * transacciones que la instantánea no ve y se volcarán en el siguiente {@link #flush()}.
+     */
+    @Scheduled(cron = "${improplan.favorites.reconcile-cron:0 30 3 * * ?}")
+    public void reconcile() {
+        writeLock.lock();
+        try {
+            long start = System.nanoTime();
+            TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            List<Object[]> discarded = new ArrayList<>();
+            try {
+                snapshot.executeWithoutResult(status -> {
+                    commitLock.writeLock().lock();
+                    try {
+                        discarded.addAll(drainPending());
+                        //La primera lectura consistente fija la instantánea de la transacción
+                        jdbcTemplate.queryForList("SELECT event_id FROM favorites LIMIT 1");
+                    } finally {
+                        commitLock.writeLock().unlock();
+                    }
+                    //Lecturas sin bloqueo sobre la instantánea; las escrituras en event_favorite_counts
+                    //solo las hacen flush() y este método, que no se ejecutan a la vez
+                    List<Object[]> counts = jdbcTemplate.query("SELECT event_id, COUNT(*) FROM favorites GROUP BY event_id",
+                            (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getLong(2) });
+                    jdbcTemplate.update("DELETE FROM event_favorite_counts");
+                    jdbcTemplate.batchUpdate("INSERT INTO event_favorite_counts (event_id, favorite_count) VALUES (?, ?)", counts);
+                });
+            } catch (RuntimeException e) {
+                //Sin recuento nuevo, los incrementos descartados siguen haciendo falta
+                restorePending(discarded);
+                throw e;
+            }
+            log.info("Contadores de favoritos recalculados en {} ms", (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Recalcula los contadores al arrancar, para que la tabla esté completa aunque se acabe de crear.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!warmUp) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("No se han podido recalcular los contadores de favoritos al arrancar: {}", e.getMessage());
+        }
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    /**
+     * Anota un incremento cuando se confirme la transacción activa (o en el momento si no hay ninguna).
+     * El bloqueo de lectura se toma antes de confirmar y se suelta después de anotar.
+     */
+    private void record(Long eventId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitLock.readLock().lock();
+            try {
+                add(eventId, delta);
+            } finally {
+                commitLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCompletion() {
+                commitLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!locked) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        add(eventId, delta);
+                    }
+                } finally {
+                    commitLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void add(Long eventId, long delta) {
+        pending.computeIfAbsent(eventId, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Lee y vacía los incrementos pendientes. Con el bloqueo de escritura nadie está anotando,
+     * así que los acumuladores se pueden eliminar sin perder cambios.
+     * @return pares {ID de evento, incremento} con incremento distinto de cero.
+     */
+    private List<Object[]> drainPending() {
+        List<Object[]> batch = new ArrayList<>();
+        commitLock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+                long delta = entry.getValue().sum();
+                if (delta != 0) {
+                    batch.add(new Object[] { entry.getKey(), delta });
+                }
+            }
+            pending.clear();
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+        return batch;
+    }
+
+    private void restorePending(List<Object[]> batch) {
+        commitLock.readLock().lock();
+        try {
+            for (Object[] row : batch) {
+                add((Long) row[0], (Long) row[1]);
+            }
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+}
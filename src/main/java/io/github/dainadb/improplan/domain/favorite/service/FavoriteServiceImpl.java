@@ -3,7 +3,6 @@ package io.github.dainadb.improplan.domain.favorite.service;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +11,7 @@ import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
 import io.github.dainadb.improplan.domain.favorite.dto.FavoriteRequestDto;
 import io.github.dainadb.improplan.domain.favorite.dto.FavoriteResponseDto;
 import io.github.dainadb.improplan.domain.favorite.entity.Favorite;
+import io.github.dainadb.improplan.domain.favorite.mapper.FavoriteMapper;
 import io.github.dainadb.improplan.domain.favorite.repository.IFavoriteRepository;
 import io.github.dainadb.improplan.domain.user.entity.User;
 import io.github.dainadb.improplan.domain.user.repository.IUserRepository;
@@ -35,7 +35,10 @@ public class FavoriteServiceImpl implements IFavoriteService {
     private IEventRepository eventRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private FavoriteMapper favoriteMapper;
+
+    @Autowired
+    private FavoriteCounterService favoriteCounterService;
 
     /**
      * {@inheritDoc}
@@ -66,9 +69,10 @@ public class FavoriteServiceImpl implements IFavoriteService {
         favorite.setFavoriteDate(LocalDateTime.now());
         
         Favorite savedFavorite = favoriteRepository.save(favorite);
+        favoriteCounterService.favoriteAdded(event.getId());
 
-        // Aquí sí usamos ModelMapper para mapear y crear el DTO de respuesta
-        return modelMapper.map(savedFavorite, FavoriteResponseDto.class);
+        // Aquí sí usamos el conversor para crear el DTO de respuesta
+        return favoriteMapper.toResponseDto(savedFavorite);
     }
 
     /**
@@ -85,6 +89,7 @@ public class FavoriteServiceImpl implements IFavoriteService {
                 .orElseThrow(() -> new NotFoundException("El evento con ID " + eventId + " no está en tu lista de favoritos."));
         
         favoriteRepository.deleteById(favorite.getId());
+        favoriteCounterService.favoriteRemoved(eventId);
     }
 
     /**
@@ -99,7 +104,7 @@ public class FavoriteServiceImpl implements IFavoriteService {
         List<Favorite> favorites = favoriteRepository.findByUserEmail(userEmail);
 
         return favorites.stream()
-                .map(favorite -> modelMapper.map(favorite, FavoriteResponseDto.class))
+                .map(favoriteMapper::toResponseDto)
                 .toList();
     }
 
@@ -108,7 +113,7 @@ public class FavoriteServiceImpl implements IFavoriteService {
      */
     @Override
     public Long countFavoritesByEventId(Long eventId) {
-
-        return favoriteRepository.countByEventId(eventId);
+        //Se lee el contador mantenido en event_favorite_counts en lugar de contar los favoritos
+        return favoriteCounterService.getCount(eventId);
     }
 }
\ No newline at end of file
@@ -1,16 +1,40 @@
 package io.github.dainadb.improplan.domain.generic.controller;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import io.github.dainadb.improplan.common.cache.ReferenceDataVersion;
+import io.github.dainadb.improplan.common.cache.SerializedResponseCache;
 import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.common.response.SerializedJson;
 
 /**
  * Controlador genérico base para otros controladores REST.
  * Proporciona métodos comunes para manejar respuestas API y obtener información del usuario autenticado.
  */
 public abstract class GenericRestController {
+
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+
+    @Autowired
+    protected SerializedResponseCache serializedResponseCache;
+
+    @Value("${improplan.http.reference-data.max-age:PT1H}")
+    private Duration referenceDataMaxAge;
+
 /**
      * Obtiene el email del usuario autenticado actual.
      * @return el email de usuario, o "Anónimo" si no hay autenticación activa.
@@ -51,5 +75,98 @@ public abstract class GenericRestController {
         return ResponseEntity.status(201).body(new ApiResponse<>(data, message));
     }
 
-    
+    /**
+     * Devuelve datos de referencia sin parámetros (ver {@link #referenceData(ServletWebRequest, String, String, Supplier, String)}).
+     *
+     * @param <T>      Tipo de dato devuelto.
+     * @param request  Petición, para comprobar las cabeceras condicionales.
+     * @param endpoint Nombre del endpoint en la clave de la caché.
+     * @param data     Consulta de los datos; solo se ejecuta si hay que enviarlos y no están en la caché.
+     * @param message  Mensaje descriptivo.
+     * @return ResponseEntity con código 200 y el ApiResponse ya serializado, o 304 sin cuerpo.
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> referenceData(ServletWebRequest request, String endpoint,
+                                                               Supplier<T> data, String message) {
+        return referenceData(request, endpoint, null, data, message);
+    }
+
+    /**
+     * Devuelve datos de referencia (comunidades, provincias, municipios, temáticas o roles) con cabeceras de caché HTTP:
+     * ETag y Last-Modified de la versión actual ({@link ReferenceDataVersion}) y Cache-Control público.
+     * Si la petición trae la versión actual (If-None-Match o If-Modified-Since) se responde 304 sin cuerpo
+     * y los datos no se llegan a consultar. Si no, el cuerpo sale ya serializado de {@link SerializedResponseCache}
+     * mientras no cambie la versión.
+     * <p>
+     * La clave de la caché es el endpoint y el parámetro que usa la consulta, ya normalizado, y no la URL: así otros
+     * parámetros o variantes del mismo nombre no crean entradas nuevas. Las consultas sin resultados no se guardan,
+     * para que no se pueda vaciar la caché pidiendo nombres inventados.
+     *
+     * @param <T>       Tipo de dato devuelto.
+     * @param request   Petición, para comprobar las cabeceras condicionales.
+     * @param endpoint  Nombre del endpoint en la clave de la caché.
+     * @param parameter Parámetro de la consulta tal y como lo usa (por ejemplo un nombre normalizado), o null.
+     * @param data      Consulta de los datos; solo se ejecuta si hay que enviarlos y no están en la caché.
+     * @param message   Mensaje descriptivo.
+     * @return ResponseEntity con código 200 y el ApiResponse ya serializado, o 304 sin cuerpo.
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> referenceData(ServletWebRequest request, String endpoint,
+                                                               Object parameter, Supplier<T> data, String message) {
+        ReferenceDataVersion.Stamp stamp = referenceDataVersion.current(); //Antes de leer los datos (ver ReferenceDataVersion#current)
+        CacheControl cacheControl = CacheControl.maxAge(referenceDataMaxAge).cachePublic();
+
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        String key = SerializedResponseCache.referenceKey(stamp.version(), endpoint, parameter);
+        SerializedResponseCache.Entry entry = serializedResponseCache.find(key).orElse(null);
+        if (entry == null) {
+            long generation = serializedResponseCache.generation(); //Antes de leer los datos
+            T value = data.get();
+            ApiResponse<T> body = new ApiResponse<>(value, message);
+            entry = value instanceof Collection<?> found && found.isEmpty()
+                    ? serializedResponseCache.serialize(body)
+                    : serializedResponseCache.put(key, generation, body);
+        }
+
+        return serialized(ResponseEntity.ok()
+                .eTag(stamp.etag())
+                .lastModified(stamp.lastModified())
+                .cacheControl(cacheControl), request, entry);
+    }
+
+    /**
+     * Completa una respuesta con un cuerpo ya serializado: el comprimido con gzip si el cliente lo acepta
+     * (y el cuerpo es lo bastante grande para tenerlo), o el JSON sin comprimir.
+     * <p>
+     * El cuerpo es un {@link SerializedJson} con los bytes tal cual, que {@link io.github.dainadb.improplan.common.response.SerializedJsonConverter}
+     * escribe sin pasar por Jackson. Se devuelve con el tipo del ApiResponse que contiene para que los endpoints
+     * declaren (y documenten en OpenAPI) su respuesta real; Spring elige el conversor por la clase del cuerpo.
+     *
+     * @param <T>     Tipo de dato del ApiResponse serializado.
+     * @param builder Respuesta con el código y las cabeceras propias del endpoint.
+     * @param request Petición, para leer Accept-Encoding.
+     * @param entry   Cuerpo serializado.
+     * @return ResponseEntity con el cuerpo serializado y tipo application/json.
+     */
+    protected <T> ResponseEntity<ApiResponse<T>> serialized(ResponseEntity.BodyBuilder builder,
+                                                            ServletWebRequest request,
+                                                            SerializedResponseCache.Entry entry) {
+        builder.contentType(MediaType.APPLICATION_JSON);
+        byte[] body = entry.json();
+        if (entry.gzip() != null) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (SerializedResponseCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = entry.gzip();
+            }
+        }
+        return asApiResponse(builder.body(new SerializedJson(body)));
+    }
+
+    //El cuerpo no es un ApiResponse: nadie lo lee como tal, solo el conversor de SerializedJson al escribirlo
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<ApiResponse<T>> asApiResponse(ResponseEntity<SerializedJson> response) {
+        return (ResponseEntity<ApiResponse<T>>) (ResponseEntity<?>) response;
+    }
 }
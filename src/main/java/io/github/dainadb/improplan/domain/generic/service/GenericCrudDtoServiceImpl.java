@@ -5,8 +5,10 @@ import java.util.Optional;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import io.github.dainadb.improplan.common.cache.ReferenceDataChangedEvent;
 import io.github.dainadb.improplan.exception.NotFoundException;
 
 public abstract class GenericCrudDtoServiceImpl<TEntity, TRequestDto, TResponseDto, ID> 
@@ -16,6 +18,9 @@ public abstract class GenericCrudDtoServiceImpl<TEntity, TRequestDto, TResponseD
     @Autowired
     protected ModelMapper modelMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     //MÉTODOS ABSTRACTOS que las clases hijas van a tener que implementar cuando hereden de esta clase genérica.
 
     /**
@@ -138,6 +143,7 @@ public abstract class GenericCrudDtoServiceImpl<TEntity, TRequestDto, TResponseD
         // Conversión de DTO a entidad y guardado
         TEntity entity = convertToEntity(dto); 
         entity = getRepository().save(entity);
+        publishChange();
         return convertToResponseDto(entity);
     }
 
@@ -157,6 +163,7 @@ public abstract class GenericCrudDtoServiceImpl<TEntity, TRequestDto, TResponseD
         updateEntityFromDto(existingEntity, dto); 
         
         TEntity updatedEntity = getRepository().save(existingEntity); //Se guardan los cambios enal BBDD
+        publishChange();
         
         return convertToResponseDto(updatedEntity);
     }
@@ -171,6 +178,14 @@ public abstract class GenericCrudDtoServiceImpl<TEntity, TRequestDto, TResponseD
                 }
 
         getRepository().deleteById(id);
+        publishChange();
+    }
+
+    /**
+     * Avisa de que ha cambiado una entidad de este servicio (por ejemplo, para que se refresquen las cachés de datos de referencia).
+     */
+    protected void publishChange() {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(getEntityClass()));
     }
 
   
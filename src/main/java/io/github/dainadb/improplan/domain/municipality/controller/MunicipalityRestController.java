@@ -1,5 +1,6 @@
 package io.github.dainadb.improplan.domain.municipality.controller;
 
+
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +11,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
 import io.github.dainadb.improplan.domain.municipality.dto.MunicipalityResponseDto;
 import io.github.dainadb.improplan.domain.municipality.service.IMunicipalityService;
@@ -35,13 +38,13 @@ public class MunicipalityRestController extends GenericRestController {
      * Busca un municipio por su ID.
      *
      * @param id El ID del municipio a buscar.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con los datos del municipio encontrado.
      */
    
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<MunicipalityResponseDto>> getMunicipalityById(@PathVariable Integer id) {
-        MunicipalityResponseDto municipality = municipalityService.findById(id);
-        return success(municipality, "Municipio encontrado con éxito.");
+    public ResponseEntity<ApiResponse<MunicipalityResponseDto>> getMunicipalityById(@PathVariable Integer id, ServletWebRequest request) {
+        return referenceData(request, "municipalities/id", id, () -> municipalityService.findById(id), "Municipio encontrado con éxito.");
     }
     
     /**
@@ -49,25 +52,28 @@ public class MunicipalityRestController extends GenericRestController {
      * La búsqueda no distingue entre mayúsculas y minúsculas.
      *
      * @param name El texto a buscar en el nombre del municipio.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con una lista de municipios que coinciden con el criterio.
      */
   
     @GetMapping("/by-name")
-    public ResponseEntity<ApiResponse<List<MunicipalityResponseDto>>> searchMunicipalitiesByName(@RequestParam String name) {
-        List<MunicipalityResponseDto> municipalities = municipalityService.findByNameContaining(name);
-        return success(municipalities, "Búsqueda de municipios por nombre completada.");
+    public ResponseEntity<ApiResponse<List<MunicipalityResponseDto>>> searchMunicipalitiesByName(@RequestParam String name, ServletWebRequest request) {
+        return referenceData(request, "municipalities/by-name", TextNormalizer.normalize(name),
+                () -> municipalityService.findByNameContaining(name.trim()), "Búsqueda de municipios por nombre completada.");
     }
 
     /**
      * Obtiene una lista de municipios que pertenecen a una provincia específica.
      *
      * @param provinceName El nombre exacto de la provincia.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con la lista de municipios de esa provincia.
      */
    
     @GetMapping("/by-province")
-    public ResponseEntity<ApiResponse<List<MunicipalityResponseDto>>> getMunicipalitiesByProvince(@RequestParam String provinceName) {
-        List<MunicipalityResponseDto> municipalities = municipalityService.findByProvinceName(provinceName.trim());
-        return success(municipalities, "Municipios de la provincia '" + provinceName + "' obtenidos con éxito.");
+    public ResponseEntity<ApiResponse<List<MunicipalityResponseDto>>> getMunicipalitiesByProvince(@RequestParam String provinceName, ServletWebRequest request) {
+        return referenceData(request, "municipalities/by-province", TextNormalizer.normalize(provinceName),
+                () -> municipalityService.findByProvinceName(provinceName.trim()),
+                "Municipios de la provincia '" + provinceName.trim() + "' obtenidos con éxito.");
     }
 }
\ No newline at end of file
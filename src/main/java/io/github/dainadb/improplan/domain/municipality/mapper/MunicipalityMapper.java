@@ -0,0 +1,52 @@
+package io.github.dainadb.improplan.domain.municipality.mapper;
+
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache.MunicipalityRef;
+import io.github.dainadb.improplan.domain.municipality.dto.MunicipalityResponseDto;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+
+/**
+ * Conversor escrito a mano de Municipality a MunicipalityResponseDto.
+ * <p>
+ * Produce el mismo resultado que el typeMap de Municipality definido en ModelMapperConfig.
+ */
+@Component
+public class MunicipalityMapper {
+
+    /**
+     * Convierte una entidad Municipality a su DTO de respuesta.
+     * @param municipality Entidad a convertir.
+     * @return DTO de respuesta, o null si el municipio es null.
+     */
+    public MunicipalityResponseDto toResponseDto(Municipality municipality) {
+        if (municipality == null) {
+            return null;
+        }
+        MunicipalityResponseDto dto = new MunicipalityResponseDto();
+        dto.setId(municipality.getId());
+        dto.setName(municipality.getName());
+        dto.setLatitude(municipality.getLatitude());
+        dto.setLongitude(municipality.getLongitude());
+        dto.setProvinceName(municipality.getProvince() != null ? municipality.getProvince().getName() : null);
+        return dto;
+    }
+
+    /**
+     * Convierte la copia de la caché geográfica de un municipio a su DTO de respuesta.
+     * @param ref Datos guardados en la caché.
+     * @return DTO de respuesta, o null si ref es null.
+     */
+    public MunicipalityResponseDto toResponseDto(MunicipalityRef ref) {
+        if (ref == null) {
+            return null;
+        }
+        MunicipalityResponseDto dto = new MunicipalityResponseDto();
+        dto.setId(ref.id());
+        dto.setName(ref.name());
+        dto.setLatitude(ref.latitude());
+        dto.setLongitude(ref.longitude());
+        dto.setProvinceName(ref.provinceName());
+        return dto;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
 
@@ -37,6 +38,14 @@ public interface IMunicipalityRepository extends JpaRepository<Municipality, Int
      */
 
     Optional<Municipality> findByName(String name);
+
+    /**
+     * Devuelve todos los municipios junto con su provincia en una sola consulta.
+     * Se usa para cargar la caché geográfica.
+     * @return Lista de todos los municipios.
+     */
+    @Query("SELECT m FROM Municipality m LEFT JOIN FETCH m.province")
+    List<Municipality> findAllWithProvince();
 }
 
   
@@ -7,11 +7,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache;
 import io.github.dainadb.improplan.domain.generic.service.GenericCrudDtoServiceImpl;
 import io.github.dainadb.improplan.domain.municipality.dto.MunicipalityRequestDto;
 import io.github.dainadb.improplan.domain.municipality.dto.MunicipalityResponseDto;
 import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.municipality.mapper.MunicipalityMapper;
 import io.github.dainadb.improplan.domain.municipality.repository.IMunicipalityRepository;
+import io.github.dainadb.improplan.exception.NotFoundException;
 
 /**
  * Implementación del servicio para la gestión de Municipios.
@@ -24,6 +27,12 @@ public class MunicipalityServiceImpl extends GenericCrudDtoServiceImpl<Municipal
     @Autowired
     private IMunicipalityRepository municipalityRepository;
 
+    @Autowired
+    private MunicipalityMapper municipalityMapper;
+
+    @Autowired
+    private GeoReferenceCache geoReferenceCache;
+
     // IMPLEMENTACIÓN DE MÉTODOS ABSTRACTOS DE LA CLASE GENÉRICA
 
     @Override
@@ -46,6 +55,36 @@ public class MunicipalityServiceImpl extends GenericCrudDtoServiceImpl<Municipal
         return MunicipalityResponseDto.class;
     }
 
+    /**
+     * Usa el conversor escrito a mano en lugar de ModelMapper (mismo resultado, sin reflexión).
+     */
+    @Override
+    protected MunicipalityResponseDto convertToResponseDto(Municipality entity) {
+        return municipalityMapper.toResponseDto(entity);
+    }
+
+    // LECTURAS DESDE LA CACHÉ GEOGRÁFICA (sin acceso a la BBDD)
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MunicipalityResponseDto> findAll() {
+        return geoReferenceCache.findAllMunicipalities().stream()
+                .map(municipalityMapper::toResponseDto)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MunicipalityResponseDto findById(Integer id) {
+        return geoReferenceCache.findMunicipalityById(id)
+                .map(municipalityMapper::toResponseDto)
+                .orElseThrow(() -> new NotFoundException("Entidad no encontrada con el id: " + id));
+    }
+
     //  IMPLEMENTACIÓN DE MÉTODOS ESPECÍFICOS DE LA INTERFAZ 
 
     /**
@@ -53,9 +92,8 @@ public class MunicipalityServiceImpl extends GenericCrudDtoServiceImpl<Municipal
      */
     @Override
     public List<MunicipalityResponseDto> findByProvinceName(String provinceName) {
-        List<Municipality> municipalities = municipalityRepository.findByProvinceName(provinceName);
-        return municipalities.stream()
-                .map(this::convertToResponseDto)
+        return geoReferenceCache.findMunicipalitiesByProvinceName(provinceName).stream()
+                .map(municipalityMapper::toResponseDto)
                 .toList();
     }
 
@@ -64,9 +102,8 @@ public class MunicipalityServiceImpl extends GenericCrudDtoServiceImpl<Municipal
      */
     @Override
     public List<MunicipalityResponseDto> findByNameContaining(String name) {
-        List<Municipality> municipalities = municipalityRepository.findByNameContainingIgnoreCase(name);
-        return municipalities.stream()
-                .map(this::convertToResponseDto)
+        return geoReferenceCache.findMunicipalitiesByNameContaining(name).stream()
+                .map(municipalityMapper::toResponseDto)
                 .toList();
     }
 
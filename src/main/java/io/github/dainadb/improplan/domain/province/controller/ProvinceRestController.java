@@ -1,5 +1,6 @@
 package io.github.dainadb.improplan.domain.province.controller;
 
+
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +11,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
 import io.github.dainadb.improplan.domain.province.dto.ProvinceResponseDto;
 import io.github.dainadb.improplan.domain.province.service.IProvinceService;
@@ -30,25 +33,20 @@ public class ProvinceRestController extends GenericRestController {
 
   
     @GetMapping("/by-community")
-    public ResponseEntity<ApiResponse<List<ProvinceResponseDto>>> getProvincesByCommunity(@RequestParam String communityName) {
-        
-        List<ProvinceResponseDto> provinces = provinceService.findByAutonomousCommunityName(communityName.trim());
-        
-        return success(provinces, "Lista de provincias obtenida con éxito.");
+    public ResponseEntity<ApiResponse<List<ProvinceResponseDto>>> getProvincesByCommunity(@RequestParam String communityName, ServletWebRequest request) {
+        return referenceData(request, "provinces/by-community", TextNormalizer.normalize(communityName),
+                () -> provinceService.findByAutonomousCommunityName(communityName.trim()), "Lista de provincias obtenida con éxito.");
     }
 
    
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProvinceResponseDto>> getProvinceById(@PathVariable Integer id) {
-        ProvinceResponseDto province = provinceService.findById(id);
-        return success(province, "Provincia encontrada con éxito.");
+    public ResponseEntity<ApiResponse<ProvinceResponseDto>> getProvinceById(@PathVariable Integer id, ServletWebRequest request) {
+        return referenceData(request, "provinces/id", id, () -> provinceService.findById(id), "Provincia encontrada con éxito.");
     }
 
    
     @GetMapping("/by-name")
-    public ResponseEntity<ApiResponse<ProvinceResponseDto>> getProvinceByName( @RequestParam String name) {
-        
-        ProvinceResponseDto province = provinceService.findByName(name.trim());
-        return success(province, "Provincia encontrada con éxito.");
+    public ResponseEntity<ApiResponse<ProvinceResponseDto>> getProvinceByName(@RequestParam String name, ServletWebRequest request) {
+        return referenceData(request, "provinces/by-name", TextNormalizer.normalize(name), () -> provinceService.findByName(name.trim()), "Provincia encontrada con éxito.");
     }
 }
\ No newline at end of file
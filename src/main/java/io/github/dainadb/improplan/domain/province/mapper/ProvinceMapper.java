@@ -0,0 +1,52 @@
+package io.github.dainadb.improplan.domain.province.mapper;
+
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache.ProvinceRef;
+import io.github.dainadb.improplan.domain.province.dto.ProvinceResponseDto;
+import io.github.dainadb.improplan.domain.province.entity.Province;
+
+/**
+ * Conversor escrito a mano de Province a ProvinceResponseDto.
+ * <p>
+ * Produce el mismo resultado que el typeMap de Province definido en ModelMapperConfig.
+ */
+@Component
+public class ProvinceMapper {
+
+    /**
+     * Convierte una entidad Province a su DTO de respuesta.
+     * @param province Entidad a convertir.
+     * @return DTO de respuesta, o null si la provincia es null.
+     */
+    public ProvinceResponseDto toResponseDto(Province province) {
+        if (province == null) {
+            return null;
+        }
+        ProvinceResponseDto dto = new ProvinceResponseDto();
+        dto.setId(province.getId());
+        dto.setName(province.getName());
+        dto.setLatitude(province.getLatitude());
+        dto.setLongitude(province.getLongitude());
+        dto.setAutonomousCommunityName(province.getAutonomousCommunity() != null ? province.getAutonomousCommunity().getName() : null);
+        return dto;
+    }
+
+    /**
+     * Convierte la copia de la caché geográfica de una provincia a su DTO de respuesta.
+     * @param ref Datos guardados en la caché.
+     * @return DTO de respuesta, o null si ref es null.
+     */
+    public ProvinceResponseDto toResponseDto(ProvinceRef ref) {
+        if (ref == null) {
+            return null;
+        }
+        ProvinceResponseDto dto = new ProvinceResponseDto();
+        dto.setId(ref.id());
+        dto.setName(ref.name());
+        dto.setLatitude(ref.latitude());
+        dto.setLongitude(ref.longitude());
+        dto.setAutonomousCommunityName(ref.communityName());
+        return dto;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import io.github.dainadb.improplan.domain.province.entity.Province;
 
@@ -28,5 +29,13 @@ public interface IProvinceRepository extends JpaRepository<Province, Integer> {
      */
     Optional<Province> findByNameIgnoreCase(String name);
 
+    /**
+     * Devuelve todas las provincias junto con su comunidad autónoma en una sola consulta.
+     * Se usa para cargar la caché geográfica.
+     * @return Lista de todas las provincias.
+     */
+    @Query("SELECT p FROM Province p LEFT JOIN FETCH p.autonomousCommunity")
+    List<Province> findAllWithAutonomousCommunity();
+
 
 }
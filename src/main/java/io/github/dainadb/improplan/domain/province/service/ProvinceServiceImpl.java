@@ -6,11 +6,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache;
 import io.github.dainadb.improplan.domain.generic.service.GenericCrudDtoServiceImpl;
 import io.github.dainadb.improplan.domain.province.dto.ProvinceRequestDto;
 import io.github.dainadb.improplan.domain.province.dto.ProvinceResponseDto;
 import io.github.dainadb.improplan.domain.province.entity.Province;
+import io.github.dainadb.improplan.domain.province.mapper.ProvinceMapper;
 import io.github.dainadb.improplan.domain.province.repository.IProvinceRepository;
+import io.github.dainadb.improplan.exception.NotFoundException;
 
 /**
  * Implementación del servicio para la gestión de Provincias.
@@ -24,6 +27,12 @@ public class ProvinceServiceImpl
     @Autowired
     private IProvinceRepository provinceRepository;
 
+    @Autowired
+    private ProvinceMapper provinceMapper;
+
+    @Autowired
+    private GeoReferenceCache geoReferenceCache;
+
     // IMPLEMENTACIÓN DE MÉTODOS ABSTRACTOS DE LA CLASE GENÉRICA 
 
     @Override
@@ -46,6 +55,36 @@ public class ProvinceServiceImpl
         return ProvinceResponseDto.class;
     }
 
+    /**
+     * Usa el conversor escrito a mano en lugar de ModelMapper (mismo resultado, sin reflexión).
+     */
+    @Override
+    protected ProvinceResponseDto convertToResponseDto(Province entity) {
+        return provinceMapper.toResponseDto(entity);
+    }
+
+    // LECTURAS DESDE LA CACHÉ GEOGRÁFICA (sin acceso a la BBDD)
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProvinceResponseDto> findAll() {
+        return geoReferenceCache.findAllProvinces().stream()
+                .map(provinceMapper::toResponseDto)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ProvinceResponseDto findById(Integer id) {
+        return geoReferenceCache.findProvinceById(id)
+                .map(provinceMapper::toResponseDto)
+                .orElseThrow(() -> new NotFoundException("Entidad no encontrada con el id: " + id));
+    }
+
     //  IMPLEMENTACIÓN DE MÉTODOS ESPECÍFICOS DE LA INTERFAZ
 
     /**
@@ -53,17 +92,15 @@ public class ProvinceServiceImpl
      */
     @Override
     public List<ProvinceResponseDto> findByAutonomousCommunityName(String communityName) {
-
-        List<Province> provinces = provinceRepository.findByAutonomousCommunityNameIgnoreCase(communityName.trim());
-        return provinces.stream()
-                .map(this::convertToResponseDto) // Reutiliza el método heredado
+        return geoReferenceCache.findProvincesByCommunityName(communityName).stream()
+                .map(provinceMapper::toResponseDto)
                 .toList();
     }
 
     @Override
     public ProvinceResponseDto findByName(String name) {
-        Province province = provinceRepository.findByNameIgnoreCase(name)
+        return geoReferenceCache.findProvinceByName(name)
+                .map(provinceMapper::toResponseDto)
                 .orElseThrow(() -> new RuntimeException("Provincia no encontrada con el nombre: " + name));
-        return convertToResponseDto(province);
     }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import io.github.dainadb.improplan.common.response.ApiResponse;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
@@ -16,6 +17,8 @@ import io.github.dainadb.improplan.domain.role.service.IRoleService;
 
 import java.util.List;
 
+
+
 /**
  * Controlador REST para gestionar las operaciones relacionadas con los roles.
  * Expone endpoints para consultar los roles del sistema.
@@ -30,23 +33,23 @@ public class RoleRestController extends GenericRestController {
 
     /**
      * Devuelve una lista con todos los roles disponibles en el sistema.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con una lista de RoleResponseDto y estado 200 (OK).
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<RoleResponseDto>>> getAllRoles() {
-        List<RoleResponseDto> roles = roleService.findAll();
-        return success(roles, "Lista de roles obtenida con éxito.");
+    public ResponseEntity<ApiResponse<List<RoleResponseDto>>> getAllRoles(ServletWebRequest request) {
+        return referenceData(request, "roles", () -> roleService.findAll(), "Lista de roles obtenida con éxito.");
     }
 
     /**
      * Busca y devuelve un rol específico por su ID.
      *
      * @param id El ID del rol a buscar.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con el RoleResponseDto encontrado y estado 200 (OK).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<RoleResponseDto>> getRoleById(@PathVariable Integer id) {
-        RoleResponseDto role = roleService.findById(id);
-        return success(role, "Rol encontrado con éxito.");
+    public ResponseEntity<ApiResponse<RoleResponseDto>> getRoleById(@PathVariable Integer id, ServletWebRequest request) {
+        return referenceData(request, "roles/id", id, () -> roleService.findById(id), "Rol encontrado con éxito.");
     }
 }
\ No newline at end of file
@@ -1,4 +1,5 @@
 package io.github.dainadb.improplan.domain.theme.controller;
+
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +10,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.common.utils.TextNormalizer;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
 import io.github.dainadb.improplan.domain.theme.dto.ThemeResponseDto;
 import io.github.dainadb.improplan.domain.theme.service.IThemeService;
@@ -30,34 +33,35 @@ public class ThemeRestController extends GenericRestController {
 
     /**
      * Obtiene una lista de todas las temáticas.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con la lista de temáticas y un mensaje de éxito.
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ThemeResponseDto>>> getAllThemes() {
-        List<ThemeResponseDto> themes = themeService.findAll();
-        return success(themes, "Temáticas obtenidas correctamente.");
+    public ResponseEntity<ApiResponse<List<ThemeResponseDto>>> getAllThemes(ServletWebRequest request) {
+        return referenceData(request, "themes", () -> themeService.findAll(), "Temáticas obtenidas correctamente.");
     }
 
     /**
      * Obtiene una temática por su ID.
      * @param id El ID de la temática a buscar.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con la temática encontrada.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ThemeResponseDto>> getThemeById(@PathVariable Integer id) {
-        ThemeResponseDto theme = themeService.findById(id);
-        return success(theme, "Temática encontrada con éxito.");
+    public ResponseEntity<ApiResponse<ThemeResponseDto>> getThemeById(@PathVariable Integer id, ServletWebRequest request) {
+        return referenceData(request, "themes/id", id, () -> themeService.findById(id), "Temática encontrada con éxito.");
     }
 
     /**
      * Obtiene una temática por su nombre.
      * @param name El nombre de la temática a buscar.
+     * @param request Petición HTTP (cabeceras condicionales If-None-Match / If-Modified-Since).
      * @return ResponseEntity con la temática encontrada.
      */
     @GetMapping("/by-name")
-    public ResponseEntity<ApiResponse<ThemeResponseDto>> getThemeByName(@RequestParam String name) {
-        ThemeResponseDto theme = themeService.findByName(name.trim());
-        return success(theme, "Temática encontrada con éxito.");
+    public ResponseEntity<ApiResponse<ThemeResponseDto>> getThemeByName(@RequestParam String name, ServletWebRequest request) {
+        return referenceData(request, "themes/by-name", TextNormalizer.normalize(name),
+                () -> themeService.findByName(name.trim()), "Temática encontrada con éxito.");
     }
 
 
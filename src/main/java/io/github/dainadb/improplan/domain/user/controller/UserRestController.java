@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.github.dainadb.improplan.common.response.ApiResponse;
+import io.github.dainadb.improplan.common.response.SliceResponse;
 import io.github.dainadb.improplan.domain.generic.controller.GenericRestController;
 import io.github.dainadb.improplan.domain.user.dto.UserChangePasswordDto;
 import io.github.dainadb.improplan.domain.user.dto.UserProfileRequestDto;
@@ -90,6 +91,34 @@ public class UserRestController extends GenericRestController {
         return success(users, "Usuarios filtrados por estado 'enabled': " + enabled);
     }
 
+    /**
+     * Versión paginada de /by-role, ordenada por ID.
+     * @param roleName Nombre del rol (ej. "ROLE_ADMIN", "ROLE_USER").
+     * @param page Número de página (opcional, empieza en 0).
+     * @param size Tamaño de página (opcional, por defecto 20 y máximo 50).
+     * @return ResponseEntity con la página de usuarios e indicación de si hay más.
+     */
+    @GetMapping("/by-role/page")
+    public ResponseEntity<ApiResponse<SliceResponse<UserResponseDto>>> getUsersByRolePage(@RequestParam String roleName,
+            @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size) {
+        SliceResponse<UserResponseDto> users = userService.findByRole(roleName, page, size);
+        return success(users, "Usuarios filtrados por rol: " + roleName);
+    }
+
+    /**
+     * Versión paginada de /by-enabled, ordenada por ID.
+     * @param enabled `true` para buscar usuarios habilitados, `false` para deshabilitados.
+     * @param page Número de página (opcional, empieza en 0).
+     * @param size Tamaño de página (opcional, por defecto 20 y máximo 50).
+     * @return ResponseEntity con la página de usuarios e indicación de si hay más.
+     */
+    @GetMapping("/by-enabled/page")
+    public ResponseEntity<ApiResponse<SliceResponse<UserResponseDto>>> getUsersByEnabledStatusPage(@RequestParam boolean enabled,
+            @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size) {
+        SliceResponse<UserResponseDto> users = userService.findByEnabled(enabled, page, size);
+        return success(users, "Usuarios filtrados por estado 'enabled': " + enabled);
+    }
+
     /**
      * Habilita una cuenta de usuario.
      * @param id ID del usuario a habilitar.
@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,6 +22,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -45,7 +47,10 @@ public class User implements Serializable, UserDetails {
      * Identificador único del usuario (PK).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    //Generador por tabla, como en Event, para que las altas se puedan enviar en lotes
+    @TableGenerator(name = "user_id", table = "id_generators", pkColumnName = "entity_name",
+            valueColumnName = "last_id", pkColumnValue = "users", allocationSize = 50)
     @Column(name = "id_user")
     private Long id;
 
@@ -93,6 +98,7 @@ public class User implements Serializable, UserDetails {
      * Relación muchos a muchos con la entidad Role (unidireccional).
      */
     @Builder.Default //Para que no ignore el valor por defecto al usar el builder de Lombok
+    @BatchSize(size = 50) //En los listados paginados los roles se cargan por lotes, no con una consulta por usuario
     @ManyToMany(fetch = FetchType.EAGER) //EAGER para cargar los roles junto con el usuario y así tener los permisos disponibles al autenticar.
     @JoinTable(
         name= "users_roles",
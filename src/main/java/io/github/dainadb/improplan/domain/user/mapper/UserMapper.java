@@ -0,0 +1,72 @@
+package io.github.dainadb.improplan.domain.user.mapper;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import io.github.dainadb.improplan.domain.auth.dto.LoginResponseDto;
+import io.github.dainadb.improplan.domain.role.entity.Role;
+import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
+import io.github.dainadb.improplan.domain.user.entity.User;
+
+/**
+ * Conversor escrito a mano de User a UserResponseDto y LoginResponseDto.
+ * <p>
+ * Produce el mismo resultado que los typeMaps de User definidos en ModelMapperConfig.
+ */
+@Component
+public class UserMapper {
+
+    /**
+     * Convierte una entidad User a su DTO de respuesta.
+     * @param user Entidad a convertir.
+     * @return DTO de respuesta, o null si el usuario es null.
+     */
+    public UserResponseDto toResponseDto(User user) {
+        if (user == null) {
+            return null;
+        }
+        UserResponseDto dto = new UserResponseDto();
+        dto.setId(user.getId());
+        dto.setEmail(user.getEmail());
+        dto.setName(user.getName());
+        dto.setSurnames(user.getSurnames());
+        dto.setRoles(toRoleNames(user.getRoles()));
+        dto.setRegistrationDate(user.getRegistrationDate());
+        dto.setEnabled(Boolean.TRUE.equals(user.getEnabled())); //Un Boolean null se queda en false, igual que con ModelMapper
+        return dto;
+    }
+
+    /**
+     * Convierte una entidad User al DTO de respuesta del login.
+     * @param user Entidad a convertir.
+     * @return DTO de respuesta del login, o null si el usuario es null.
+     */
+    public LoginResponseDto toLoginResponseDto(User user) {
+        if (user == null) {
+            return null;
+        }
+        LoginResponseDto dto = new LoginResponseDto();
+        dto.setEmail(user.getEmail());
+        dto.setName(user.getName());
+        dto.setRoles(toRoleNames(user.getRoles()));
+        return dto;
+    }
+
+    /**
+     * Obtiene los nombres (String) de un conjunto de roles.
+     * @param roles Roles del usuario.
+     * @return Conjunto con los nombres de los roles, o null si el conjunto de entrada es null.
+     */
+    private Set<String> toRoleNames(Set<Role> roles) {
+        if (roles == null) {
+            return null;
+        }
+        Set<String> names = new HashSet<>((int) (roles.size() / 0.75f) + 1);
+        for (Role role : roles) {
+            names.add(role.getName().name());
+        }
+        return names;
+    }
+}
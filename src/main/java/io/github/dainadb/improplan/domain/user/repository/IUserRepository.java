@@ -3,7 +3,11 @@ package io.github.dainadb.improplan.domain.user.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.dainadb.improplan.domain.role.entity.Role.RoleType;
 import io.github.dainadb.improplan.domain.user.entity.User;
@@ -40,7 +44,9 @@ public interface IUserRepository extends JpaRepository<User, Long> {
      * @param name Nombre del rol (RoleType).
      * @return Lista de usuarios que poseen el rol especificado.
      */
-    List<User> findByRolesName (RoleType name);
+    //JOIN explícito (INNER) para que la consulta parta del rol y use el índice users_roles(id_role, id_user)
+    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :name")
+    List<User> findByRolesName(@Param("name") RoleType name);
 
 
     /**
@@ -50,7 +56,24 @@ public interface IUserRepository extends JpaRepository<User, Long> {
      */
     List<User> findByEnabled(Boolean enabled);
     
-    //MÉTODOS PAGINADOS (posible implementación futura)
-    
+    //MÉTODOS PAGINADOS
+    //Se devuelve Slice para no lanzar un COUNT(*) adicional en cada página.
+
+    /**
+     * Versión paginada de {@link #findByRolesName(RoleType)}.
+     * @param name Nombre del rol (RoleType).
+     * @param pageable Número de página, tamaño y ordenación.
+     * @return Una porción (Slice) de los usuarios que poseen el rol especificado.
+     */
+    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :name")
+    Slice<User> findByRolesName(@Param("name") RoleType name, Pageable pageable);
+
+    /**
+     * Versión paginada de {@link #findByEnabled(Boolean)}.
+     * @param enabled Indica si el usuario está habilitado (true) o deshabilitado (false).
+     * @param pageable Número de página, tamaño y ordenación.
+     * @return Una porción (Slice) de los usuarios que coinciden con el criterio de habilitación.
+     */
+    Slice<User> findByEnabled(Boolean enabled, Pageable pageable);
 
 }
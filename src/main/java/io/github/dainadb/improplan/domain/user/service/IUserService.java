@@ -2,6 +2,7 @@ package io.github.dainadb.improplan.domain.user.service;
 
 import java.util.List;
 
+import io.github.dainadb.improplan.common.response.SliceResponse;
 import io.github.dainadb.improplan.domain.user.dto.UserChangePasswordDto;
 import io.github.dainadb.improplan.domain.user.dto.UserProfileRequestDto;
 import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
@@ -48,6 +49,24 @@ public interface IUserService {
      */
     List<UserResponseDto> findByEnabled(boolean enabled);
 
+    /**
+     * Versión paginada de {@link #findByRole(String)}, ordenada por ID.
+     * @param roleName Nombre del rol.
+     * @param page Número de página (empieza en 0, null para la primera).
+     * @param size Tamaño de página (null para el valor por defecto, máximo 50).
+     * @return La página de usuarios e indicación de si hay más.
+     */
+    SliceResponse<UserResponseDto> findByRole(String roleName, Integer page, Integer size);
+
+    /**
+     * Versión paginada de {@link #findByEnabled(boolean)}, ordenada por ID.
+     * @param enabled El estado por el cual filtrar.
+     * @param page Número de página (empieza en 0, null para la primera).
+     * @param size Tamaño de página (null para el valor por defecto, máximo 50).
+     * @return La página de usuarios e indicación de si hay más.
+     */
+    SliceResponse<UserResponseDto> findByEnabled(boolean enabled, Integer page, Integer size);
+
     /**
      * Actualiza el perfil de un usuario (nombre y apellidos).
      * @param id ID del usuario a actualizar.
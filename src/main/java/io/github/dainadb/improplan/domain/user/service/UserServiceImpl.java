@@ -4,7 +4,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,10 +12,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.github.dainadb.improplan.common.response.SliceResponse;
+import io.github.dainadb.improplan.common.utils.Pagination;
+import io.github.dainadb.improplan.common.utils.TransactionCallbacks;
+import io.github.dainadb.improplan.domain.auth.token.IAuthTokenService;
 import io.github.dainadb.improplan.domain.role.entity.Role;
 import io.github.dainadb.improplan.domain.role.repository.IRoleRepository;
 import io.github.dainadb.improplan.domain.user.dto.*;
 import io.github.dainadb.improplan.domain.user.entity.User;
+import io.github.dainadb.improplan.domain.user.mapper.UserMapper;
 import io.github.dainadb.improplan.domain.user.repository.IUserRepository;
 import io.github.dainadb.improplan.exception.BadRequestException;
 import io.github.dainadb.improplan.exception.NotFoundException;
@@ -35,7 +39,9 @@ public class UserServiceImpl implements IUserService , UserDetailsService{
     @Autowired
     private PasswordEncoder passwordEncoder;
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    @Autowired
+    private IAuthTokenService authTokenService;
 
    
     /**
@@ -95,6 +101,30 @@ public class UserServiceImpl implements IUserService , UserDetailsService{
                 .map(this::convertToResponseDto)
                 .toList();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SliceResponse<UserResponseDto> findByRole(String roleName, Integer page, Integer size) {
+        Role.RoleType roleType;
+        try {
+            roleType = Role.RoleType.valueOf(roleName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Nombre de rol inválido: " + roleName);
+        }
+        return SliceResponse.of(userRepository.findByRolesName(roleType, Pagination.byId(page, size)),
+                this::convertToResponseDto);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SliceResponse<UserResponseDto> findByEnabled(boolean enabled, Integer page, Integer size) {
+        return SliceResponse.of(userRepository.findByEnabled(enabled, Pagination.byId(page, size)),
+                this::convertToResponseDto);
+    }
     
     /**
      * {@inheritDoc}
@@ -118,6 +148,7 @@ public class UserServiceImpl implements IUserService , UserDetailsService{
     //Se ha implementado este método porque de momento solo hay dos roles y es más sencillo intercambiarlos así. 
     // Y los usuarios solo contendrán uno (aunque la entidad User permita más).
     @Override
+    @Transactional
     public void exchangeRole(Long userId) {
          User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("Usuario no encontrado con ID: " + userId));
@@ -146,14 +177,16 @@ public class UserServiceImpl implements IUserService , UserDetailsService{
         user.setRoles(roles);
 
         userRepository.save(user);
+        revokeTokensAfterCommit(userId); // Los tokens emitidos llevan los roles anteriores
     }
     
 
     /**
      * {@inheritDoc}
      */
+    //Sin @Transactional: el hash se calcula sin tener una conexión ocupada y el save confirma en su propia transacción,
+    //así que la revocación de los tokens se hace justo después.
     @Override
-    @Transactional
     public void changePassword(Long id, UserChangePasswordDto changePasswordDto) {
         if (!changePasswordDto.getNewPassword().equals(changePasswordDto.getCheckedPassword())) {
             throw new BadRequestException("Las contraseñas no coinciden.");
@@ -163,6 +196,7 @@ public class UserServiceImpl implements IUserService , UserDetailsService{
         
         user.setPassword(passwordEncoder.encode(changePasswordDto.getNewPassword()));
         userRepository.save(user);
+        revokeTokensAfterCommit(id);
     }
 
     /**
@@ -196,6 +230,16 @@ public class UserServiceImpl implements IUserService , UserDetailsService{
                 .orElseThrow(() -> new NotFoundException("Usuario no encontrado con el id: " + id));
         user.setEnabled(status);
         userRepository.save(user);
+        revokeTokensAfterCommit(id); // Se invalidan los tokens emitidos con el estado anterior
+    }
+
+    /**
+     * Revoca los tokens del usuario cuando se confirme la transacción. Si el cambio se deshace,
+     * los tokens siguen siendo válidos porque el usuario sigue como estaba.
+     * @param id ID del usuario.
+     */
+    private void revokeTokensAfterCommit(Long id) {
+        TransactionCallbacks.afterCommit(() -> authTokenService.revokeUserTokens(id));
     }
 
     /**
@@ -204,7 +248,7 @@ public class UserServiceImpl implements IUserService , UserDetailsService{
      * @return El UserResponseDto correspondiente.
      */
     private UserResponseDto convertToResponseDto(User user) {
-        return modelMapper.map(user, UserResponseDto.class);
+        return userMapper.toResponseDto(user);
     }
 
     /**
@@ -0,0 +1,26 @@
+package io.github.dainadb.improplan.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+import io.github.dainadb.improplan.exception.generic.RetryLaterException;
+
+/**
+ * Excepción personalizada para representar un error HTTP 503 (Service Unavailable).
+ * <p>
+ * Se debe lanzar cuando el servidor está saturado y rechaza la petición en lugar de encolarla
+ * sin límite. Indica cuándo conviene volver a intentarlo (cabecera Retry-After).
+ */
+public class ServiceUnavailableException extends RetryLaterException {
+
+    /**
+     * Construye una nueva ServiceUnavailableException.
+     *
+     * @param message El mensaje que describe qué recurso está saturado.
+     * @param retryAfter Tiempo tras el que el cliente puede reintentar.
+     */
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, retryAfter);
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.dainadb.improplan.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+import io.github.dainadb.improplan.exception.generic.RetryLaterException;
+
+/**
+ * Excepción personalizada para representar un error HTTP 429 (Too Many Requests).
+ * <p>
+ * Se debe lanzar cuando un cliente supera el número de intentos permitidos en un periodo,
+ * como los inicios de sesión desde una misma IP. Indica cuándo puede volver a intentarlo (cabecera Retry-After).
+ */
+public class TooManyRequestsException extends RetryLaterException {
+
+    /**
+     * Construye una nueva TooManyRequestsException.
+     *
+     * @param message El mensaje que describe el límite superado.
+     * @param retryAfter Tiempo tras el que el cliente puede reintentar.
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, retryAfter);
+    }
+}
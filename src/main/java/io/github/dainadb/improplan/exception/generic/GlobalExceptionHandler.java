@@ -3,6 +3,7 @@ package io.github.dainadb.improplan.exception.generic;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -39,6 +40,23 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>(ex.getMessage()));
     }
 
+    /**
+     * Maneja los errores temporales, como la saturación de un recurso (503) o el exceso de intentos (429).
+     * <p>
+     * Igual que {@link #handleGenericApiExceptions}, pero añade la cabecera Retry-After
+     * para que el cliente sepa cuándo reintentar.
+     *
+     * @param ex La excepción con el tiempo de espera recomendado.
+     * @return Una {@link ResponseEntity} con el código de estado de la excepción y la cabecera Retry-After.
+     */
+    @ExceptionHandler(RetryLaterException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRetryLater(RetryLaterException ex) {
+        return ResponseEntity
+                .status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, ex.retryAfterHeader())
+                .body(new ApiResponse<>(ex.getMessage()));
+    }
+
     /**
      * Captura los errores de validación provenientes de anotaciones como @Valid
      * <p>
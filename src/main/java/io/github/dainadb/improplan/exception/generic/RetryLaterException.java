@@ -0,0 +1,34 @@
+package io.github.dainadb.improplan.exception.generic;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+/**
+ * Clase base de los errores temporales: la petición es correcta, pero el cliente debe esperar antes de repetirla.
+ * GlobalExceptionHandler añade a la respuesta la cabecera Retry-After con el tiempo de espera.
+ */
+@Getter
+public abstract class RetryLaterException extends GenericApiException {
+
+    private final Duration retryAfter;
+
+    /**
+     * @param message El mensaje descriptivo del error.
+     * @param status El código de estado HTTP asociado al error.
+     * @param retryAfter Tiempo tras el que el cliente puede reintentar.
+     */
+    protected RetryLaterException(String message, HttpStatus status, Duration retryAfter) {
+        super(message, status);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return Valor de la cabecera Retry-After: segundos enteros, al menos 1.
+     */
+    public String retryAfterHeader() {
+        return String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+}
@@ -0,0 +1,119 @@
+-- Esquema de partida de improplan_db: las tablas de las entidades JPA tal como estaban antes de usar Flyway.
+-- En una BBDD ya existente esta versión no se ejecuta: Flyway la marca como aplicada (baseline-on-migrate)
+-- y aplica las siguientes, así que aquí no puede añadirse nada nuevo; los cambios van en V2 y posteriores.
+-- Solo usa SQL que entienden MySQL y H2 (modo MySQL), que es la BBDD de las pruebas.
+
+CREATE TABLE autonomous_communities (
+    id_autonomous INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(150) NOT NULL,
+    PRIMARY KEY (id_autonomous)
+);
+
+CREATE TABLE provinces (
+    id_province INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(150) NOT NULL,
+    latitude DECIMAL(10, 8),
+    longitude DECIMAL(11, 8),
+    id_autonomous_community INT,
+    PRIMARY KEY (id_province),
+    CONSTRAINT fk_provinces_community FOREIGN KEY (id_autonomous_community) REFERENCES autonomous_communities (id_autonomous)
+);
+
+CREATE TABLE municipalities (
+    id_municipality INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(150) NOT NULL,
+    latitude DECIMAL(10, 8),
+    longitude DECIMAL(11, 8),
+    id_province INT,
+    PRIMARY KEY (id_municipality),
+    CONSTRAINT fk_municipalities_province FOREIGN KEY (id_province) REFERENCES provinces (id_province)
+);
+
+CREATE TABLE themes (
+    id_theme INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (id_theme),
+    CONSTRAINT uk_themes_name UNIQUE (name)
+);
+
+CREATE TABLE roles (
+    id_role INT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (id_role),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id_user BIGINT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(150) NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    surnames VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    registration_date DATETIME(6),
+    enabled BOOLEAN NOT NULL,
+    PRIMARY KEY (id_user),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE users_roles (
+    id_user BIGINT NOT NULL,
+    id_role INT NOT NULL,
+    PRIMARY KEY (id_user, id_role),
+    CONSTRAINT fk_users_roles_user FOREIGN KEY (id_user) REFERENCES users (id_user),
+    CONSTRAINT fk_users_roles_role FOREIGN KEY (id_role) REFERENCES roles (id_role)
+);
+
+CREATE TABLE app_events (
+    id_event BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(150) NOT NULL,
+    summary VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    place_name VARCHAR(200),
+    address VARCHAR(255),
+    latitude DECIMAL(10, 8),
+    longitude DECIMAL(11, 8),
+    image VARCHAR(255),
+    info_url VARCHAR(255),
+    is_free BOOLEAN,
+    price DECIMAL(10, 2),
+    in_time BOOLEAN NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    id_municipality INT NOT NULL,
+    id_user BIGINT NOT NULL,
+    id_theme INT NOT NULL,
+    PRIMARY KEY (id_event),
+    CONSTRAINT fk_app_events_municipality FOREIGN KEY (id_municipality) REFERENCES municipalities (id_municipality),
+    CONSTRAINT fk_app_events_user FOREIGN KEY (id_user) REFERENCES users (id_user),
+    CONSTRAINT fk_app_events_theme FOREIGN KEY (id_theme) REFERENCES themes (id_theme)
+);
+
+CREATE TABLE event_dates (
+    id_date BIGINT NOT NULL AUTO_INCREMENT,
+    full_date DATE NOT NULL,
+    PRIMARY KEY (id_date)
+);
+
+CREATE TABLE events_dates (
+    id_event BIGINT NOT NULL,
+    id_date BIGINT NOT NULL,
+    PRIMARY KEY (id_event, id_date),
+    CONSTRAINT fk_events_dates_event FOREIGN KEY (id_event) REFERENCES app_events (id_event),
+    CONSTRAINT fk_events_dates_date FOREIGN KEY (id_date) REFERENCES event_dates (id_date)
+);
+
+CREATE TABLE favorites (
+    id_favorite BIGINT NOT NULL AUTO_INCREMENT,
+    favorite_date DATETIME(6),
+    user_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    PRIMARY KEY (id_favorite),
+    CONSTRAINT uk_favorites_user_event UNIQUE (user_id, event_id),
+    CONSTRAINT fk_favorites_user FOREIGN KEY (user_id) REFERENCES users (id_user),
+    CONSTRAINT fk_favorites_event FOREIGN KEY (event_id) REFERENCES app_events (id_event)
+);
+
+INSERT INTO roles (name, description) VALUES
+    ('ROLE_ADMIN', 'Administrador'),
+    ('ROLE_USER', 'Usuario registrado');
@@ -0,0 +1,48 @@
+-- Clave única sobre event_dates.full_date.
+-- EventDateServiceImpl.findOrCreateDates inserta las fechas nuevas con INSERT IGNORE y depende de esta clave
+-- para que dos peticiones simultáneas no creen el mismo día dos veces.
+-- Antes hay que quitar los días repetidos: los eventos pasan a apuntar al de menor ID.
+-- Se hace con tablas auxiliares porque MySQL no deja leer en una subconsulta la tabla que se modifica
+-- y H2 no admite UPDATE/DELETE con JOIN.
+
+-- 1. Cada fecha repetida y la que se conserva
+CREATE TABLE event_dates_duplicates (
+    old_id BIGINT NOT NULL,
+    keep_id BIGINT NOT NULL,
+    PRIMARY KEY (old_id)
+);
+
+INSERT INTO event_dates_duplicates (old_id, keep_id)
+SELECT d.id_date, k.keep_id
+FROM event_dates d
+JOIN (SELECT full_date, MIN(id_date) AS keep_id FROM event_dates GROUP BY full_date) k ON k.full_date = d.full_date
+WHERE d.id_date <> k.keep_id;
+
+-- 2. Relaciones evento-fecha ya apuntando a la fecha conservada (sin repetir si el evento tenía varias copias)
+CREATE TABLE events_dates_moved (
+    id_event BIGINT NOT NULL,
+    id_date BIGINT NOT NULL,
+    PRIMARY KEY (id_event, id_date)
+);
+
+INSERT INTO events_dates_moved (id_event, id_date)
+SELECT DISTINCT ed.id_event, m.keep_id
+FROM events_dates ed
+JOIN event_dates_duplicates m ON m.old_id = ed.id_date;
+
+-- 3. Se sustituyen las relaciones con fechas repetidas por las movidas que el evento aún no tenga
+DELETE FROM events_dates WHERE id_date IN (SELECT old_id FROM event_dates_duplicates);
+
+INSERT INTO events_dates (id_event, id_date)
+SELECT mv.id_event, mv.id_date
+FROM events_dates_moved mv
+WHERE NOT EXISTS (SELECT 1 FROM events_dates ed WHERE ed.id_event = mv.id_event AND ed.id_date = mv.id_date);
+
+-- 4. Se eliminan las fechas repetidas y las tablas auxiliares
+DELETE FROM event_dates WHERE id_date IN (SELECT old_id FROM event_dates_duplicates);
+
+DROP TABLE events_dates_moved;
+DROP TABLE event_dates_duplicates;
+
+-- 5. Clave única
+ALTER TABLE event_dates ADD CONSTRAINT uk_event_dates_full_date UNIQUE (full_date);
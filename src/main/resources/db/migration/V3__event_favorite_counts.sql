@@ -0,0 +1,12 @@
+-- Tabla auxiliar con el número de favoritos de cada evento (ver FavoriteCounterService),
+-- rellenada a partir de los favoritos que ya existen. Después la mantiene la aplicación y la corrige cada noche.
+
+CREATE TABLE event_favorite_counts (
+    event_id BIGINT NOT NULL,
+    favorite_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id),
+    CONSTRAINT fk_event_favorite_counts_event FOREIGN KEY (event_id) REFERENCES app_events (id_event) ON DELETE CASCADE
+);
+
+INSERT INTO event_favorite_counts (event_id, favorite_count)
+SELECT event_id, COUNT(*) FROM favorites GROUP BY event_id;
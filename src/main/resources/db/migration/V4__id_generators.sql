@@ -0,0 +1,19 @@
+-- Tabla de generadores de IDs (@TableGenerator) de app_events, favorites y users.
+-- Hibernate reserva los IDs de 50 en 50 (optimizador pooled-lo) y guarda en last_id el último ID reservado,
+-- así puede agrupar los INSERT en lotes JDBC, cosa que AUTO_INCREMENT (GenerationType.IDENTITY) impide.
+-- Cada generador parte del mayor ID que ya existe en su tabla.
+
+CREATE TABLE id_generators (
+    entity_name VARCHAR(64) NOT NULL,
+    last_id BIGINT NOT NULL,
+    PRIMARY KEY (entity_name)
+);
+
+INSERT INTO id_generators (entity_name, last_id)
+SELECT 'app_events', COALESCE(MAX(id_event), 0) FROM app_events;
+
+INSERT INTO id_generators (entity_name, last_id)
+SELECT 'favorites', COALESCE(MAX(id_favorite), 0) FROM favorites;
+
+INSERT INTO id_generators (entity_name, last_id)
+SELECT 'users', COALESCE(MAX(id_user), 0) FROM users;
@@ -0,0 +1,44 @@
+-- Índices compuestos para las consultas de IEventRepository, IFavoriteRepository e IUserRepository.
+-- En InnoDB cada índice secundario incluye al final la clave primaria, así que un índice (a, b) también sirve
+-- para "WHERE a = ? AND b = ? AND id > ? ORDER BY id" (paginación por ID y cursores).
+-- RepositoryQueryPlanTest comprueba que cada consulta usa alguno de estos índices.
+
+-- EVENTOS
+
+-- findByStatus, findByInTimeAndStatus, findByInTimeAndStatusIn, countByStatus, sus versiones paginadas
+-- y las cargas por lotes de los índices en memoria (status = 'PUBLISHED' AND in_time = true AND id > ?)
+CREATE INDEX idx_app_events_status_in_time ON app_events (status, in_time, id_event);
+
+-- findByInTime, countByInTime y la búsqueda por lotes de eventos caducados (in_time = true AND id > ?)
+CREATE INDEX idx_app_events_in_time ON app_events (in_time, id_event);
+
+-- findByMunicipalityNameIgnoreCase y findByThemeNameIgnoreCase usan los índices de las claves ajenas
+-- id_municipality e id_theme; la búsqueda pública se sirve desde el catálogo en memoria y no consulta la tabla.
+
+-- findByPriceLessThanEqual
+CREATE INDEX idx_app_events_price ON app_events (price);
+
+-- findByIsFree
+CREATE INDEX idx_app_events_is_free ON app_events (is_free);
+
+-- findByUserEmail (eventos creados por un usuario)
+CREATE INDEX idx_app_events_user ON app_events (id_user);
+
+-- findByDatesFullDate: del día se pasa a sus eventos sin leer la tabla de eventos.
+-- La clave primaria (id_event, id_date) cubre el camino contrario (fechas de un evento).
+CREATE INDEX idx_events_dates_date_event ON events_dates (id_date, id_event);
+
+-- FAVORITOS
+-- findByUserEmail y findByUserIdAndEventId usan la clave única (user_id, event_id).
+
+-- countByEventId y deleteByEventId (y la reconciliación de contadores, que agrupa por evento)
+CREATE INDEX idx_favorites_event_user ON favorites (event_id, user_id);
+
+-- USUARIOS
+-- findByEmail y findByEmailAndEnabledTrue usan la clave única de email.
+
+-- findByEnabled y su versión paginada por ID
+CREATE INDEX idx_users_enabled ON users (enabled, id_user);
+
+-- findByRolesName: del rol se pasa a sus usuarios. La clave primaria (id_user, id_role) cubre los roles de un usuario.
+CREATE INDEX idx_users_roles_role_user ON users_roles (id_role, id_user);
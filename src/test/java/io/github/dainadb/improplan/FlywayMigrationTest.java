@@ -0,0 +1,59 @@
+package io.github.dainadb.improplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Comprueba las migraciones posteriores a V1 sobre una BBDD con datos anteriores a Flyway:
+ * fechas repetidas, favoritos sin contador e IDs ya usados.
+ */
+class FlywayMigrationTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:flyway_migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+    @Test
+    void migratesExistingData() {
+        flyway("1").migrate();
+        jdbc.update("INSERT INTO autonomous_communities (id_autonomous, name) VALUES (1, 'Andalucía')");
+        jdbc.update("INSERT INTO provinces (id_province, name, id_autonomous_community) VALUES (1, 'Sevilla', 1)");
+        jdbc.update("INSERT INTO municipalities (id_municipality, name, id_province) VALUES (1, 'Sevilla', 1)");
+        jdbc.update("INSERT INTO themes (id_theme, name) VALUES (1, 'Música')");
+        jdbc.update("INSERT INTO users (id_user, email, name, surnames, password, enabled) VALUES (7, 'a@b.es', 'A', 'B', 'x', true)");
+        for (long id : new long[] {10, 11}) {
+            jdbc.update("INSERT INTO app_events (id_event, name, summary, description, in_time, status, id_municipality, "
+                    + "id_user, id_theme) VALUES (?, 'Evento', 'Resumen', 'Descripción', true, 'PUBLISHED', 1, 7, 1)", id);
+        }
+        LocalDate day = LocalDate.of(2026, 5, 1);
+        //El día 5/1 está tres veces; el evento 10 tiene dos de las copias y el 11 una
+        jdbc.update("INSERT INTO event_dates (id_date, full_date) VALUES (1, ?), (2, ?), (3, ?), (4, ?)",
+                day, day, day, day.plusDays(1));
+        jdbc.update("INSERT INTO events_dates (id_event, id_date) VALUES (10, 2), (10, 3), (10, 4), (11, 3)");
+        jdbc.update("INSERT INTO favorites (id_favorite, user_id, event_id) VALUES (30, 7, 10)");
+
+        flyway(null).migrate();
+
+        assertThat(jdbc.queryForList("SELECT id_date FROM event_dates ORDER BY id_date", Long.class)).containsExactly(1L, 4L);
+        assertThat(jdbc.queryForList("SELECT id_event || '-' || id_date FROM events_dates ORDER BY id_event, id_date",
+                String.class)).containsExactly("10-1", "10-4", "11-1");
+        assertThat(jdbc.queryForObject("SELECT favorite_count FROM event_favorite_counts WHERE event_id = 10", Long.class))
+                .isEqualTo(1);
+        assertThat(jdbc.queryForList("SELECT entity_name || '=' || last_id FROM id_generators ORDER BY entity_name",
+                String.class)).containsExactly("app_events=11", "favorites=30", "users=7");
+    }
+
+    private Flyway flyway(String target) {
+        var configuration = Flyway.configure().dataSource(dataSource).locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.dainadb.improplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+import io.github.dainadb.improplan.domain.favorite.repository.IFavoriteRepository;
+import io.github.dainadb.improplan.domain.role.entity.Role.RoleType;
+import io.github.dainadb.improplan.domain.user.repository.IUserRepository;
+
+/**
+ * Comprueba que las consultas de los repositorios de eventos, favoritos y usuarios usan un índice
+ * (las migraciones de Flyway) en lugar de recorrer las tablas grandes.
+ * <p>
+ * Se ejecuta cada consulta contra H2 con el esquema de las migraciones, se captura el SQL que genera Hibernate
+ * y se pide su plan con EXPLAIN. Si se añade una consulta nueva a estos repositorios hay que añadirla aquí
+ * (o a las excepciones, explicando por qué no puede usar un índice).
+ */
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "io.github.dainadb.improplan.RepositoryQueryPlanTest$SqlCaptor")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    //Tablas que crecen con el uso. En las de referencia (temáticas, municipios...) un recorrido completo no importa
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "app_events", "events_dates", "event_dates", "favorites", "users", "users_roles");
+
+    //Consultas que no pueden usar un índice, con el motivo
+    private static final Set<String> EXEMPT = Set.of(
+            "findAll",                         //Listado completo (solo administración)
+            "findAllSummaries",                //Igual que findAll, sin la descripción
+            "findByNameContainingIgnoreCase"); //LIKE '%texto%'; la búsqueda pública usa EventSearchIndex
+
+    //Plan de H2: "/* public.tabla.tableScan */" cuando recorre la tabla entera
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* public\\.(\\w+)\\.tableScan");
+
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 1);
+
+    /**
+     * Guarda el SQL que envía Hibernate a la BBDD.
+     */
+    public static class SqlCaptor implements StatementInspector {
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    //Consultas comprobadas en el test en curso (JUnit crea una instancia por test, así que no se mezclan repositorios)
+    private final Set<String> checked = new HashSet<>();
+
+    @Autowired
+    private IEventRepository eventRepository;
+
+    @Autowired
+    private IFavoriteRepository favoriteRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void eventFindersUseIndexes() {
+        PageRequest page = PageRequest.of(0, 20, Sort.by("id"));
+        List<StatusType> statuses = List.of(StatusType.PUBLISHED, StatusType.PENDING);
+
+        assertUsesIndex("findById", () -> eventRepository.findById(1L));
+        assertUsesIndex("findByStatus", () -> eventRepository.findByStatus(StatusType.PUBLISHED));
+        assertUsesIndex("findByStatus", () -> eventRepository.findByStatus(StatusType.PUBLISHED, page));
+        assertUsesIndex("findByInTime", () -> eventRepository.findByInTime(true));
+        assertUsesIndex("findByInTimeAndStatus", () -> eventRepository.findByInTimeAndStatus(true, StatusType.PUBLISHED));
+        assertUsesIndex("findByInTimeAndStatus", () -> eventRepository.findByInTimeAndStatus(true, StatusType.PUBLISHED, page));
+        assertUsesIndex("findByInTimeAndStatusIn", () -> eventRepository.findByInTimeAndStatusIn(false, statuses));
+        assertUsesIndex("findByInTimeAndStatusIn", () -> eventRepository.findByInTimeAndStatusIn(false, statuses, page));
+        assertUsesIndex("countByStatus", () -> eventRepository.countByStatus(StatusType.PENDING));
+        assertUsesIndex("countByInTime", () -> eventRepository.countByInTime(false));
+        assertUsesIndex("findByIsFree", () -> eventRepository.findByIsFree(true));
+        assertUsesIndex("findByPriceLessThanEqual", () -> eventRepository.findByPriceLessThanEqual(BigDecimal.TEN));
+        assertUsesIndex("findByMunicipalityNameIgnoreCase", () -> eventRepository.findByMunicipalityNameIgnoreCase("Málaga"));
+        assertUsesIndex("findByMunicipalityProvinceNameIgnoreCase", () -> eventRepository.findByMunicipalityProvinceNameIgnoreCase("Málaga"));
+        assertUsesIndex("findByThemeNameIgnoreCase", () -> eventRepository.findByThemeNameIgnoreCase("Música"));
+        assertUsesIndex("findByDatesFullDate", () -> eventRepository.findByDatesFullDate(DAY));
+        assertUsesIndex("findByUserEmail", () -> eventRepository.findByUserEmail("usuario@improplan.es"));
+        assertUsesIndex("findExpiredEventIds", () -> eventRepository.findExpiredEventIds(DAY, 0L, page));
+        assertUsesIndex("markAsNotInTime", () -> eventRepository.markAsNotInTime(List.of(1L, 2L)));
+        assertUsesIndex("findPublishedSummariesAfter", () -> eventRepository.findPublishedSummariesAfter(0L, page));
+        assertUsesIndex("findPublishedSummariesByIdIn", () -> eventRepository.findPublishedSummariesByIdIn(List.of(1L, 2L)));
+        assertUsesIndex("findSearchDocumentsAfter", () -> eventRepository.findSearchDocumentsAfter(0L, page));
+        assertUsesIndex("findSearchDocumentsByIdIn", () -> eventRepository.findSearchDocumentsByIdIn(List.of(1L, 2L)));
+        assertUsesIndex("findGeoDocumentsAfter", () -> eventRepository.findGeoDocumentsAfter(0L, page));
+        assertUsesIndex("findGeoDocumentsByIdIn", () -> eventRepository.findGeoDocumentsByIdIn(List.of(1L, 2L)));
+        assertUsesIndex("findDateLinksByEventIdIn", () -> eventRepository.findDateLinksByEventIdIn(List.of(1L, 2L)));
+        assertUsesIndex("findDatesByEventIds", () -> eventRepository.findDatesByEventIds(List.of(1L, 2L)));
+
+        assertAllFindersChecked(IEventRepository.class);
+    }
+
+    @Test
+    void favoriteFindersUseIndexes() {
+        assertUsesIndex("findByUserEmail", () -> favoriteRepository.findByUserEmail("usuario@improplan.es"));
+        assertUsesIndex("findByUserIdAndEventId", () -> favoriteRepository.findByUserIdAndEventId(1L, 1L));
+        assertUsesIndex("countByEventId", () -> favoriteRepository.countByEventId(1L));
+        assertUsesIndex("deleteByEventId", () -> favoriteRepository.deleteByEventId(1L));
+
+        assertAllFindersChecked(IFavoriteRepository.class);
+    }
+
+    @Test
+    void userFindersUseIndexes() {
+        PageRequest page = PageRequest.of(0, 20, Sort.by("id"));
+
+        assertUsesIndex("existsByEmail", () -> userRepository.existsByEmail("usuario@improplan.es"));
+        assertUsesIndex("findByEmail", () -> userRepository.findByEmail("usuario@improplan.es"));
+        assertUsesIndex("findByEmailAndEnabledTrue", () -> userRepository.findByEmailAndEnabledTrue("usuario@improplan.es"));
+        assertUsesIndex("findByRolesName", () -> userRepository.findByRolesName(RoleType.ROLE_USER));
+        assertUsesIndex("findByRolesName", () -> userRepository.findByRolesName(RoleType.ROLE_USER, page));
+        assertUsesIndex("findByEnabled", () -> userRepository.findByEnabled(false));
+        assertUsesIndex("findByEnabled", () -> userRepository.findByEnabled(false, page));
+
+        assertAllFindersChecked(IUserRepository.class);
+    }
+
+    @AfterAll
+    static void clear() {
+        SqlCaptor.STATEMENTS.clear();
+    }
+
+    private void assertUsesIndex(String finder, Runnable call) {
+        SqlCaptor.STATEMENTS.clear();
+        call.run();
+        List<String> statements = List.copyOf(SqlCaptor.STATEMENTS);
+        assertThat(statements).as("SQL de %s", finder).isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            Matcher scan = TABLE_SCAN.matcher(plan);
+            while (scan.find()) {
+                assertThat(LARGE_TABLES)
+                        .as("%s recorre la tabla %s entera:%n%s", finder, scan.group(1), plan)
+                        .doesNotContain(scan.group(1));
+            }
+        }
+        checked.add(finder);
+    }
+
+    //Todas las consultas declaradas en el repositorio deben estar comprobadas o exentas
+    private void assertAllFindersChecked(Class<?> repository) {
+        List<String> declared = Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isSynthetic()) //Lambdas de los métodos default
+                .map(Method::getName)
+                .filter(name -> !EXEMPT.contains(name))
+                .distinct()
+                .toList();
+        assertThat(checked).as("consultas de %s sin comprobar", repository.getSimpleName()).containsAll(declared);
+    }
+}
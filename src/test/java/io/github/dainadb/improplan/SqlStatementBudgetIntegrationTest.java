@@ -0,0 +1,164 @@
+package io.github.dainadb.improplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.github.dainadb.improplan.common.metrics.RequestMetricsFilter;
+import io.github.dainadb.improplan.common.metrics.SqlStatementCounter;
+import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.favorite.dto.FavoriteRequestDto;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Fija cuántas sentencias SQL puede enviar cada endpoint de eventos y favoritos.
+ * <p>
+ * Los límites son los valores medidos, así que una consulta N+1 nueva (o una relación que pasa a cargarse en un bucle)
+ * hace fallar la prueba del endpoint en lugar de notarse en producción. Si un cambio necesita de verdad una consulta
+ * más, se sube el límite del endpoint en el mismo cambio. Las consultas GET se miden en la segunda llamada, con el
+ * catálogo y los índices en memoria ya cargados; la autenticación la pone la prueba, así que no se cuenta la
+ * consulta del token.
+ */
+//Cada endpoint tiene aquí su propio límite; el general por petición se desactiva y el de transacción hace fallar
+@SpringBootTest(properties = {"improplan.sql-budget.fail=true", "improplan.sql-budget.per-request=0"})
+@ActiveProfiles("test")
+class SqlStatementBudgetIntegrationTest {
+
+    private static final String ADMIN = "usuario1@improplan.es";
+    private static final String USER = "usuario100@improplan.es";
+
+    //Evento 1 de los datos de prueba: publicado y vigente
+    private static final long PUBLISHED_EVENT = 1;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private RequestMetricsFilter requestMetricsFilter;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(requestMetricsFilter)
+                .apply(springSecurity())
+                .build();
+    }
+
+    //Servidos desde el catálogo en memoria y la caché de respuestas serializadas
+    @Test
+    void publicEventQueries() throws Exception {
+        String eventDate = LocalDate.now().plusDays(15).toString();
+        assertReadBudget(get("/api/events/{id}", PUBLISHED_EVENT), 0);
+        assertReadBudget(get("/api/events/filters").param("provinceName", "Provincia 3")
+                .param("eventDate", eventDate), 0);
+        assertReadBudget(get("/api/events/filters/page").param("provinceName", "Provincia 3")
+                .param("eventDate", eventDate).param("size", "5"), 0);
+        assertReadBudget(get("/api/events/search").param("q", "Evento"), 0);
+        assertReadBudget(get("/api/events/nearby").param("lat", "37.38").param("lon", "-5.98"), 0);
+    }
+
+    @Test
+    void adminEventQueries() throws Exception {
+        RequestPostProcessor admin = admin();
+        assertReadBudget(get("/api/events/intime/status").param("status", "PENDING").with(admin), 6);
+        assertReadBudget(get("/api/events/discarded").with(admin), 5);
+        //Las fechas se cargan en bloques de 500 eventos: sin paginar, crece con la tabla (por eso existe /outtime/page)
+        assertReadBudget(get("/api/events/outtime").with(admin), 29);
+        assertReadBudget(get("/api/events/intime/status/page").param("status", "PENDING").with(admin), 2);
+        assertReadBudget(get("/api/events/discarded/page").with(admin), 2);
+        assertReadBudget(get("/api/events/outtime/page").with(admin), 2);
+        assertReadBudget(get("/api/events/count/pending").with(admin), 1);
+        assertReadBudget(get("/api/events/count/discarded").with(admin), 1);
+        assertReadBudget(get("/api/events/count/outtime").with(admin), 1);
+        assertReadBudget(get("/api/events/user/{email}", USER).with(user(USER)), 2);
+    }
+
+    @Test
+    void eventLifecycle() throws Exception {
+        MvcResult created = assertBudget(post("/api/events/create").with(user(USER))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(event("Evento de prueba", null))), 10);
+        long id = jsonMapper.readTree(created.getResponse().getContentAsByteArray()).path("data").path("id").asLong();
+
+        assertBudget(put("/api/events/update/{id}", id).with(admin())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(event("Evento de prueba actualizado", StatusType.PENDING))), 8);
+        assertBudget(patch("/api/events/publish/{id}", id).with(admin()), 2);
+        assertBudget(delete("/api/events/softdelete/{id}", id).with(admin()), 3);
+        assertBudget(delete("/api/events/harddelete/{id}", id).with(admin()), 3);
+    }
+
+    @Test
+    void favorites() throws Exception {
+        assertBudget(post("/api/favorites/add").with(user(USER))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(new FavoriteRequestDto(PUBLISHED_EVENT))), 5);
+        assertReadBudget(get("/api/favorites/my-favorites").with(user(USER)), 2);
+        assertReadBudget(get("/api/favorites/count/{eventId}", PUBLISHED_EVENT).with(user(USER)), 1);
+        assertBudget(delete("/api/favorites/delete/{eventId}", PUBLISHED_EVENT).with(user(USER)), 4);
+    }
+
+    private void assertReadBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        mockMvc.perform(request); //Carga el catálogo, los índices y las cachés que se rellenan en la primera consulta
+        assertBudget(request, budget);
+    }
+
+    private MvcResult assertBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        int statements = SqlStatementCounter.current();
+        assertThat(result.getResponse().getStatus()).as(result.getResponse().getContentAsString()).isLessThan(300);
+        assertThat(statements).as("Sentencias SQL de " + result.getRequest().getRequestURI()).isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    private static RequestPostProcessor admin() {
+        return user(ADMIN).roles("ADMIN");
+    }
+
+    private static EventRequestDto event(String name, StatusType status) {
+        return EventRequestDto.builder()
+                .name(name)
+                .summary("Resumen")
+                .description("Descripción")
+                .placeName("Plaza Mayor")
+                .address("Calle Mayor 1")
+                .latitude(new BigDecimal("37.38"))
+                .longitude(new BigDecimal("-5.98"))
+                .isFree(false)
+                .price(new BigDecimal("10.00"))
+                .municipalityName("Municipio 1")
+                .themeName("Temática 1")
+                .status(status)
+                .eventDates(Set.of(LocalDate.now().plusDays(30), LocalDate.now().plusDays(31)))
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.dainadb.improplan.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache.MunicipalityRef;
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache.ProvinceRef;
+import io.github.dainadb.improplan.domain.autonomouscommunity.entity.AutonomousCommunity;
+import io.github.dainadb.improplan.domain.autonomouscommunity.repository.IAutonomousCommunityRepository;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.municipality.repository.IMunicipalityRepository;
+import io.github.dainadb.improplan.domain.province.entity.Province;
+import io.github.dainadb.improplan.domain.province.repository.IProvinceRepository;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+
+/**
+ * Comprueba las búsquedas de la caché geográfica por nombre (sin tildes ni mayúsculas), la carga perezosa
+ * y la recarga cuando cambian los datos de referencia.
+ */
+@ExtendWith(MockitoExtension.class)
+class GeoReferenceCacheTest {
+
+    @Mock
+    private IAutonomousCommunityRepository autCommunityRepository;
+
+    @Mock
+    private IProvinceRepository provinceRepository;
+
+    @Mock
+    private IMunicipalityRepository municipalityRepository;
+
+    @InjectMocks
+    private GeoReferenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        AutonomousCommunity andalucia = new AutonomousCommunity(1, "Andalucía");
+        AutonomousCommunity castilla = new AutonomousCommunity(2, "Castilla y León");
+        Province malaga = province(29, "Málaga", andalucia);
+        Province sevilla = province(41, "Sevilla", andalucia);
+        Province leon = province(24, "León", castilla);
+        when(autCommunityRepository.findAll()).thenReturn(List.of(castilla, andalucia));
+        when(provinceRepository.findAllWithAutonomousCommunity()).thenReturn(List.of(sevilla, malaga, leon));
+        when(municipalityRepository.findAllWithProvince()).thenReturn(List.of(
+                municipality(3, "Málaga", malaga),
+                municipality(1, "Benalmádena", malaga),
+                municipality(2, "Écija", sevilla),
+                municipality(4, "Ponferrada", leon)));
+    }
+
+    @Test
+    void findsByNameIgnoringAccentsAndCase() {
+        assertThat(cache.findProvinceByName(" MALAGA ")).map(ProvinceRef::id).contains(29);
+        assertThat(cache.findProvinceByName("leon")).map(ProvinceRef::communityName).contains("Castilla y León");
+        assertThat(cache.findMunicipalityByName("ecija")).map(MunicipalityRef::provinceName).contains("Sevilla");
+        assertThat(cache.findCommunityByNameContaining("CASTILLA Y LEON")).isPresent();
+    }
+
+    @Test
+    void unknownNamesReturnEmptyResults() {
+        assertThat(cache.findProvinceByName("Atlántida")).isEmpty();
+        assertThat(cache.findMunicipalityByName("Macondo")).isEmpty();
+        assertThat(cache.findProvincesByCommunityName("Narnia")).isEmpty();
+        assertThat(cache.findMunicipalitiesByProvinceName("Narnia")).isEmpty();
+        assertThat(cache.findProvinceByName(null)).isEmpty();
+        assertThat(cache.findMunicipalitiesByNameContaining(null)).isEmpty();
+    }
+
+    @Test
+    void listsAreOrderedById() {
+        assertThat(cache.findAllCommunities()).extracting(GeoReferenceCache.CommunityRef::id).containsExactly(1, 2);
+        assertThat(cache.findProvincesByCommunityName("andalucia")).extracting(ProvinceRef::id).containsExactly(29, 41);
+        assertThat(cache.findMunicipalitiesByProvinceName("Málaga")).extracting(MunicipalityRef::id)
+                .containsExactly(1, 3);
+        assertThat(cache.findMunicipalitiesByNameContaining("MA")).extracting(MunicipalityRef::name)
+                .containsExactly("Benalmádena", "Málaga");
+    }
+
+    @Test
+    void partialCommunityNamesMatchTheFirstCommunityContainingThem() {
+        assertThat(cache.findCommunityByNameContaining("castilla")).map(GeoReferenceCache.CommunityRef::id).contains(2);
+        assertThat(cache.findCommunityByNameContaining("galicia")).isEmpty();
+    }
+
+    @Test
+    void loadsOnceAndReloadsOnlyForGeographicChanges() {
+        cache.findAllProvinces();
+        cache.findMunicipalityById(2);
+        verify(provinceRepository, times(1)).findAllWithAutonomousCommunity();
+
+        cache.onReferenceDataChanged(new ReferenceDataChangedEvent(Theme.class));
+        verify(municipalityRepository, times(1)).findAllWithProvince();
+
+        cache.onReferenceDataChanged(new ReferenceDataChangedEvent(Municipality.class));
+        verify(municipalityRepository, times(2)).findAllWithProvince();
+    }
+
+    private static Province province(Integer id, String name, AutonomousCommunity community) {
+        Province province = new Province();
+        province.setId(id);
+        province.setName(name);
+        province.setLatitude(BigDecimal.ONE);
+        province.setLongitude(BigDecimal.ONE);
+        province.setAutonomousCommunity(community);
+        return province;
+    }
+
+    private static Municipality municipality(Integer id, String name, Province province) {
+        Municipality municipality = new Municipality();
+        municipality.setId(id);
+        municipality.setName(name);
+        municipality.setProvince(province);
+        return municipality;
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.dainadb.improplan.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+
+/**
+ * Comprueba que cada versión de los datos de referencia tiene un ETag y un Last-Modified distintos de la anterior.
+ */
+class ReferenceDataVersionTest {
+
+    private final ReferenceDataVersion version = new ReferenceDataVersion();
+
+    @Test
+    void bumpsInTheSameSecondGetLaterLastModified() {
+        ReferenceDataVersion.Stamp first = version.current();
+
+        version.onReferenceDataChanged(new ReferenceDataChangedEvent(Theme.class));
+        ReferenceDataVersion.Stamp second = version.current();
+        version.onReferenceDataChanged(new ReferenceDataChangedEvent(Theme.class));
+        ReferenceDataVersion.Stamp third = version.current();
+
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(third.etag()).isNotEqualTo(second.etag());
+        assertThat(second.lastModified()).isAfterOrEqualTo(first.lastModified().plusSeconds(1));
+        assertThat(third.lastModified()).isAfterOrEqualTo(second.lastModified().plusSeconds(1));
+    }
+
+    @Test
+    void followsTheClockOnceItCatchesUp() {
+        //Una versión de hace una hora: la siguiente lleva la hora actual, no la anterior más un segundo
+        Instant hourAgo = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+
+        ReferenceDataVersion.Stamp next = ReferenceDataVersion.next(new ReferenceDataVersion.Stamp(7, hourAgo));
+
+        assertThat(next.version()).isEqualTo(8);
+        assertThat(next.lastModified()).isAfter(hourAgo.plusSeconds(1))
+                .isEqualTo(next.lastModified().truncatedTo(ChronoUnit.SECONDS));
+    }
+}
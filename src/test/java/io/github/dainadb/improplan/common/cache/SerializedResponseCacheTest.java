@@ -0,0 +1,94 @@
+package io.github.dainadb.improplan.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.dainadb.improplan.common.response.ApiResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Comprueba la serialización, la compresión, el límite de entradas y la invalidación de la caché de respuestas.
+ */
+class SerializedResponseCacheTest {
+
+    private SerializedResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SerializedResponseCache(2);
+        ReflectionTestUtils.setField(cache, "jsonMapper", JsonMapper.builder().build());
+    }
+
+    @Test
+    void smallBodiesAreNotCompressed() {
+        SerializedResponseCache.Entry entry = cache.put("a", cache.generation(), new ApiResponse<>("hola", "ok"));
+
+        assertThat(new String(entry.json())).contains("\"success\":true", "\"message\":\"ok\"", "\"data\":\"hola\"");
+        assertThat(entry.gzip()).isNull();
+    }
+
+    @Test
+    void largeBodiesAreCompressedWithGzip() throws IOException {
+        SerializedResponseCache.Entry entry = cache.put("a", cache.generation(), new ApiResponse<>("x".repeat(5000), "ok"));
+
+        assertThat(entry.gzip()).isNotNull().hasSizeLessThan(entry.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(entry.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(entry.json());
+        }
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        cache.put("a", cache.generation(), "a");
+        cache.put("b", cache.generation(), "b");
+        cache.find("a");
+        cache.put("c", cache.generation(), "c");
+
+        assertThat(cache.find("a")).isPresent();
+        assertThat(cache.find("b")).isEmpty();
+        assertThat(cache.find("c")).isPresent();
+    }
+
+    @Test
+    void eventChangeRemovesDetailAndDiscardsResponsesBuiltBeforeIt() {
+        String key = SerializedResponseCache.eventKey(1L);
+        cache.put(key, cache.generation(), "antes");
+        long generation = cache.generation();
+
+        cache.onEventChanged(EventChangedEvent.of(1L));
+        cache.put(SerializedResponseCache.eventKey(2L), generation, "leído antes del cambio");
+
+        assertThat(cache.find(key)).isEmpty();
+        assertThat(cache.find(SerializedResponseCache.eventKey(2L))).isEmpty();
+    }
+
+    @Test
+    void referenceDataChangeDropsEveryEntry() {
+        String key = SerializedResponseCache.eventKey(1L);
+        cache.put(key, cache.generation(), "municipio anterior");
+        long generation = cache.generation();
+
+        cache.onReferenceDataChanged(new ReferenceDataChangedEvent(Object.class));
+        cache.put(SerializedResponseCache.eventKey(2L), generation, "leído antes del cambio");
+
+        assertThat(cache.find(key)).isEmpty();
+        assertThat(cache.find(SerializedResponseCache.eventKey(2L))).isEmpty();
+    }
+
+    @Test
+    void parsesAcceptEncoding() {
+        assertThat(SerializedResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(SerializedResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(SerializedResponseCache.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.dainadb.improplan.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que no se entregan más conexiones que permisos y que cada permiso se devuelve una sola vez al cerrar.
+ */
+class ConnectionAdmissionDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final ConnectionAdmissionDataSource dataSource =
+            new ConnectionAdmissionDataSource(target, 2, Duration.ofMillis(50));
+
+    @Test
+    void waitsForAFreePermitAndFailsAfterTimeout() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThat(dataSource.availablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close(); //Cerrar dos veces no devuelve dos permisos
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    void failedConnectionReleasesItsPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("BBDD caída"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("BBDD caída");
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void otherCallsReachTheRealConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(target.getConnection()).thenReturn(connection);
+
+        try (Connection admitted = dataSource.getConnection()) {
+            assertThat(admitted.getAutoCommit()).isFalse();
+        }
+        verify(connection).close();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.dainadb.improplan.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.github.dainadb.improplan.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que el hash se calcula en el pool propio, que los errores llegan al hilo que lo pidió
+ * y que con la cola llena se rechaza en lugar de esperar.
+ */
+class OffloadedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            throw new IllegalArgumentException("Hash no válido");
+        }
+    };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OffloadedPasswordEncoder encoder =
+            new OffloadedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofMillis(1500), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void hashesOnTheDedicatedPool() {
+        release.countDown();
+
+        assertThat(encoder.encode("secreto")).startsWith("password-hash-");
+        assertThat(meterRegistry.get(OffloadedPasswordEncoder.QUEUE_WAIT_METRIC).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void exceptionsReachTheCaller() {
+        assertThatThrownBy(() -> encoder.matches("secreto", "x"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Hash no válido");
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("uno"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("dos"));
+        while (meterRegistry.get("executor.queued").tag("name", OffloadedPasswordEncoder.POOL_NAME).gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.encode("tres"))
+                .isInstanceOfSatisfying(ServiceUnavailableException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.retryAfterHeader()).isEqualTo("2");
+                });
+        assertThat(meterRegistry.get(OffloadedPasswordEncoder.REJECTED_METRIC).counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("password-hash-");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("password-hash-");
+    }
+}
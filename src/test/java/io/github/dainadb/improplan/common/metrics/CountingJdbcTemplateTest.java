@@ -0,0 +1,44 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que las sentencias enviadas con JdbcTemplate se suman al contador por petición.
+ */
+class CountingJdbcTemplateTest {
+
+    private CountingJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:counting_jdbc_template;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new CountingJdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS counters (id INT PRIMARY KEY, total INT)");
+        jdbcTemplate.update("DELETE FROM counters");
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void countsEachStatement() {
+        jdbcTemplate.update("INSERT INTO counters VALUES (?, ?)", 1, 10);
+        jdbcTemplate.queryForObject("SELECT total FROM counters WHERE id = ?", Integer.class, 1);
+        jdbcTemplate.execute("UPDATE counters SET total = total + 1");
+
+        assertThat(SqlStatementCounter.current()).isEqualTo(3);
+    }
+
+    @Test
+    void countsABatchAsOneStatement() {
+        jdbcTemplate.batchUpdate("INSERT INTO counters VALUES (?, ?)",
+                List.of(new Object[] { 1, 1 }, new Object[] { 2, 2 }, new Object[] { 3, 3 }));
+
+        assertThat(SqlStatementCounter.current()).isEqualTo(1);
+    }
+}
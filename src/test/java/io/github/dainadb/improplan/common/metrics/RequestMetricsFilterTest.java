@@ -0,0 +1,69 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Comprueba que se registran las sentencias SQL de cada petición con el patrón del endpoint
+ * y que se avisa cuando superan el límite.
+ */
+class RequestMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final RequestMetricsFilter filter = new RequestMetricsFilter();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "sqlStatementBudget", new SqlStatementBudget(2, 0, true));
+    }
+
+    @Test
+    void recordsStatementsPerRequestAndEnforcesBudget() throws Exception {
+        counter.inspect("select antes de la petición"); //No debe contar
+
+        assertThatThrownBy(() -> run("/api/events/7", 3)).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("GET /api/events/{id}").hasMessageContaining("3 sentencias");
+        run("/api/events/8", 1);
+
+        DistributionSummary summary = meterRegistry.get(RequestMetricsFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/events/{id}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(4);
+        assertThat(summary.max()).isEqualTo(3);
+    }
+
+    @Test
+    void requestWithoutHandlerIsTaggedUnknown() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/no-existe"), new MockHttpServletResponse(),
+                (request, response) -> { });
+
+        assertThat(meterRegistry.get(RequestMetricsFilter.METRIC_NAME).tag("uri", "UNKNOWN").summary().totalAmount())
+                .isZero();
+    }
+
+    private void run(String uri, int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        FilterChain chain = (req, res) -> {
+            for (int i = 0; i < statements; i++) {
+                counter.inspect("select " + i);
+            }
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/events/{id}");
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+}
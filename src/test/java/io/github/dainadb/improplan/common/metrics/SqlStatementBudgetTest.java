@@ -0,0 +1,68 @@
+package io.github.dainadb.improplan.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Comprueba que cada transacción cuenta solo sus propias sentencias y que las que se unen a otra
+ * cuentan en la exterior.
+ */
+class SqlStatementBudgetTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final SqlStatementBudget budget = new SqlStatementBudget(0, 2, true);
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    void countsOnlyStatementsInsideTheTransaction() {
+        execute(3); //Antes de la transacción: no cuentan
+        DefaultTransactionStatus transaction = transaction("EventServiceImpl.publishEvent", true);
+
+        budget.afterBegin(transaction, null);
+        execute(2);
+
+        assertThatCode(() -> budget.afterCommit(transaction, null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void participatingTransactionCountsInTheOuterOne() {
+        DefaultTransactionStatus outer = transaction("EventServiceImpl.updateEvent", true);
+        DefaultTransactionStatus inner = transaction("EventServiceImpl.updateEvent", false);
+
+        budget.afterBegin(outer, null);
+        budget.afterBegin(inner, null);
+        execute(3);
+        budget.afterCommit(inner, null);
+
+        assertThatThrownBy(() -> budget.afterCommit(outer, null)).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("EventServiceImpl.updateEvent").hasMessageContaining("3 sentencias");
+    }
+
+    @Test
+    void rollbackIsNotChecked() {
+        DefaultTransactionStatus transaction = transaction("FavoriteServiceImpl.addFavorite", true);
+
+        budget.afterBegin(transaction, null);
+        execute(5);
+
+        assertThatCode(() -> budget.afterRollback(transaction, null)).doesNotThrowAnyException();
+    }
+
+    private void execute(int statements) {
+        for (int i = 0; i < statements; i++) {
+            counter.inspect("select " + i);
+        }
+    }
+
+    private static DefaultTransactionStatus transaction(String name, boolean newTransaction) {
+        return new DefaultTransactionStatus(name, new Object(), newTransaction, false, false, false, false, null);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.dainadb.improplan.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba el límite de la ventana deslizante, el peso de la ventana anterior, la limpieza de claves
+ * y que el límite se respeta con intentos simultáneos.
+ */
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW = 60_000;
+
+    private final AtomicLong now = new AtomicLong(10 * WINDOW);
+    private final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 2, now::get);
+
+    @Test
+    void rejectsAboveLimitUntilTheWindowSlides() {
+        now.addAndGet(15_000);
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+
+        assertThat(limiter.tryAcquire("1.2.3.4")).isEqualTo(45_000); //Hasta la siguiente ventana
+        assertThat(limiter.tryAcquire("5.6.7.8")).isZero(); //Cada clave tiene su límite
+
+        //Al empezar la ventana siguiente los 3 intentos pesan enteros
+        now.addAndGet(45_000);
+        assertThat(limiter.tryAcquire("1.2.3.4")).isPositive();
+
+        //A mitad de ventana pesan 1,5: caben dos intentos más
+        now.addAndGet(30_000);
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isPositive();
+    }
+
+    @Test
+    void checkDoesNotCountAsAnAttempt() {
+        assertThat(limiter.check("1.2.3.4")).isZero();
+        assertThat(limiter.size()).as("Comprobar no crea la clave").isZero();
+
+        limiter.tryAcquire("1.2.3.4");
+        limiter.tryAcquire("1.2.3.4");
+        assertThat(limiter.check("1.2.3.4")).isZero();
+        assertThat(limiter.check("1.2.3.4")).isZero();
+
+        limiter.tryAcquire("1.2.3.4");
+        assertThat(limiter.check("1.2.3.4")).isPositive();
+    }
+
+    @Test
+    void idleKeysArePurgedAndMemoryIsBounded() {
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        assertThat(limiter.tryAcquire("c")).as("Sin sitio: se permite sin registrar la clave").isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.untrackedAttempts()).isEqualTo(1);
+
+        now.addAndGet(2 * WINDOW);
+        assertThat(limiter.tryAcquire("c")).as("Se limpian las inactivas para hacer sitio").isZero();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void knownKeysStayLimitedWhenTheMapIsFull() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+        limiter.tryAcquire("b");
+
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("a")).as("Llenar el mapa no libera a las claves ya limitadas").isPositive();
+    }
+
+    @Test
+    void concurrentAttemptsNeverExceedTheLimit() throws Exception {
+        SlidingWindowRateLimiter shared = new SlidingWindowRateLimiter(100, WINDOW, 10, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    int allowed = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (shared.tryAcquire("usuario@improplan.es") == 0) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertThat(total).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.dainadb.improplan.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import io.github.dainadb.improplan.exception.BadRequestException;
+
+/**
+ * Comprueba los valores por defecto y los límites de los parámetros de paginación.
+ */
+class PaginationTest {
+
+    @Test
+    void appliesDefaultAndMaximumPageSize() {
+        assertThat(Pagination.resolvePageSize(null)).isEqualTo(Pagination.DEFAULT_PAGE_SIZE);
+        assertThat(Pagination.resolvePageSize(7)).isEqualTo(7);
+        assertThat(Pagination.resolvePageSize(10_000)).isEqualTo(Pagination.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    void ordersPagesById() {
+        PageRequest request = Pagination.byId(null, null);
+
+        assertThat(request.getPageNumber()).isZero();
+        assertThat(request.getPageSize()).isEqualTo(Pagination.DEFAULT_PAGE_SIZE);
+        assertThat(request.getSort()).isEqualTo(Sort.by("id"));
+    }
+
+    @Test
+    void rejectsNegativePagesAndEmptySizes() {
+        assertThatThrownBy(() -> Pagination.byId(-1, 10)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> Pagination.resolvePageSize(0)).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.dainadb.improplan.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Comprueba que la normalización sigue el criterio de la collation de la BBDD: sin tildes, mayúsculas ni espacios
+ * en los extremos.
+ */
+class TextNormalizerTest {
+
+    @Test
+    void removesAccentsAndDiaeresis() {
+        assertThat(TextNormalizer.normalize("Málaga")).isEqualTo("malaga");
+        assertThat(TextNormalizer.normalize("Güímar")).isEqualTo("guimar");
+        assertThat(TextNormalizer.normalize("A Coruña")).isEqualTo("a coruna");
+    }
+
+    @Test
+    void ignoresCaseAndSurroundingSpaces() {
+        assertThat(TextNormalizer.normalize("  SEVILLA ")).isEqualTo("sevilla");
+        assertThat(TextNormalizer.normalize("Castilla y León")).isEqualTo(TextNormalizer.normalize("CASTILLA Y LEON"));
+    }
+
+    @Test
+    void keepsInnerSpacesAndPunctuation() {
+        assertThat(TextNormalizer.normalize("Valencia/València")).isEqualTo("valencia/valencia");
+        assertThat(TextNormalizer.normalize("Santa Cruz de  Tenerife")).isEqualTo("santa cruz de  tenerife");
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertThat(TextNormalizer.normalize(null)).isNull();
+        assertThat(TextNormalizer.normalize("   ")).isEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.dainadb.improplan.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compara Validator con las expresiones regulares que usaba antes (entradas aleatorias con semilla fija)
+ * y comprueba que las entradas patológicas se rechazan rápido.
+ */
+class ValidatorTest {
+
+    private static final Pattern LEGACY_EMAIL =
+            Pattern.compile("^([0-9a-zA-Z]([-.\\w]*[0-9a-zA-Z])*@([0-9a-zA-Z][-\\w]*[0-9a-zA-Z]\\.)+[a-zA-Z]{2,9})$");
+    private static final Pattern LEGACY_URL = Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$");
+
+    //Caracteres con significado para las expresiones, más algunos que deben rechazarse
+    private static final String EMAIL_ALPHABET = "aZ9_-.@ .@@aaaz0Ñé!+\t";
+    private static final String URL_ALPHABET = "htpsf:/.?#$ a9-_=&%\tñ";
+    private static final String[] URL_PREFIXES = { "http://", "https://", "ftp://", "htp://", "" };
+
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    void emailMatchesLegacyRegexOnRandomInput() {
+        Random random = new Random(20240501L);
+        for (int i = 0; i < ITERATIONS; i++) {
+            String email = randomString(random, EMAIL_ALPHABET, 24);
+            assertThat(Validator.isValidEmail(email)).as("email '%s'", email).isEqualTo(legacyIsValidEmail(email));
+        }
+    }
+
+    @Test
+    void emailMatchesLegacyRegexOnStructuredInput() {
+        Random random = new Random(20240502L);
+        for (int i = 0; i < ITERATIONS; i++) {
+            String email = randomString(random, EMAIL_ALPHABET, 8) + "@"
+                    + randomString(random, EMAIL_ALPHABET, 8) + "." + randomString(random, "comES.x-", 11);
+            assertThat(Validator.isValidEmail(email)).as("email '%s'", email).isEqualTo(legacyIsValidEmail(email));
+        }
+    }
+
+    @Test
+    void urlMatchesLegacyRegexOnRandomInput() {
+        Random random = new Random(20240503L);
+        for (int i = 0; i < ITERATIONS; i++) {
+            String url = URL_PREFIXES[random.nextInt(URL_PREFIXES.length)] + randomString(random, URL_ALPHABET, 16);
+            assertThat(Validator.isValidUrl(url)).as("url '%s'", url).isEqualTo(legacyIsValidUrl(url));
+        }
+    }
+
+    @Test
+    void knownEmails() {
+        assertThat(Validator.isValidEmail("ana.garcia@example.com")).isTrue();
+        assertThat(Validator.isValidEmail("  ana_garcia-1@mail.example.es ")).isTrue();
+        assertThat(Validator.isValidEmail("a@bc.de")).isTrue();
+        assertThat(Validator.isValidEmail(null)).isFalse();
+        assertThat(Validator.isValidEmail("")).isFalse();
+        assertThat(Validator.isValidEmail("ana@example")).isFalse();
+        assertThat(Validator.isValidEmail("ana@example.com.")).isFalse();
+        assertThat(Validator.isValidEmail("ana.@example.com")).isFalse();
+        assertThat(Validator.isValidEmail("ana@e.com")).isFalse();
+        assertThat(Validator.isValidEmail("ana@example.abcdefghij")).isFalse();
+        assertThat(Validator.isValidEmail("ana@@example.com")).isFalse();
+    }
+
+    @Test
+    void emailLongerThanLimitIsRejected() {
+        String local = "a".repeat(Validator.MAX_EMAIL_LENGTH - "@example.com".length());
+        assertThat(Validator.isValidEmail(local + "@example.com")).isTrue();
+        assertThat(Validator.isValidEmail(local + "a@example.com")).isFalse();
+    }
+
+    @Test
+    void pathologicalInputIsRejectedQuickly() {
+        String backtracking = "a-".repeat(120) + "!";
+        String huge = "a".repeat(1_000_000) + "@example.com";
+        String hugeUrl = "http://" + "a".repeat(1_000_000);
+
+        assertTimeoutPreemptively(Duration.ofMillis(500), () -> {
+            for (int i = 0; i < 1_000; i++) {
+                assertThat(Validator.isValidEmail(backtracking)).isFalse();
+                assertThat(Validator.isValidEmail(huge)).isFalse();
+                assertThat(Validator.isValidUrl(hugeUrl)).isFalse();
+            }
+        });
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static boolean legacyIsValidEmail(String email) {
+        String trimmed = email.trim();
+        return !trimmed.endsWith(".") && LEGACY_EMAIL.matcher(trimmed).matches();
+    }
+
+    private static boolean legacyIsValidUrl(String url) {
+        String trimmed = url.trim();
+        return !trimmed.endsWith(".") && LEGACY_URL.matcher(trimmed).matches();
+    }
+}
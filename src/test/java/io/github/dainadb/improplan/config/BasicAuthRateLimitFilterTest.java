@@ -0,0 +1,80 @@
+package io.github.dainadb.improplan.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Comprueba que las credenciales httpBasic rechazadas cuentan para el límite de intentos
+ * y que, una vez agotado, la petición recibe un 429 sin llegar a comprobar la contraseña.
+ */
+@SpringBootTest(properties = {"improplan.security.login-rate.per-email=3", "improplan.security.login-rate.per-ip=6"})
+@ActiveProfiles("test")
+class BasicAuthRateLimitFilterTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void failedBasicAttemptsAreLimitedPerEmailAndIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(basic("10.1.0.1", "usuario300@improplan.es").getStatus()).isEqualTo(401);
+        }
+        MockHttpServletResponse limited = basic("10.1.0.1", "USUARIO300@improplan.es");
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+
+        //La misma IP aún puede probar otras cuentas hasta agotar su propio límite
+        for (int i = 0; i < 3; i++) {
+            assertThat(basic("10.1.0.1", "usuario32" + i + "@improplan.es").getStatus()).isEqualTo(401);
+        }
+        assertThat(basic("10.1.0.1", "usuario310@improplan.es").getStatus()).isEqualTo(429);
+        assertThat(basic("10.1.0.2", "usuario310@improplan.es").getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void requestsWithoutBasicCredentialsAreNotCounted() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(mockMvc.perform(get("/api/auth/me").with(remoteAddr("10.2.0.1"))).andReturn()
+                    .getResponse().getStatus()).isEqualTo(401);
+        }
+        assertThat(basic("10.2.0.1", "usuario400@improplan.es").getStatus()).isEqualTo(401);
+    }
+
+    private MockHttpServletResponse basic(String ip, String email) throws Exception {
+        String credentials = Base64.getEncoder().encodeToString((email + ":incorrecta").getBytes(StandardCharsets.UTF_8));
+        return mockMvc.perform(get("/api/auth/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+                        .with(remoteAddr(ip)))
+                .andReturn().getResponse();
+    }
+
+    private static RequestPostProcessor remoteAddr(String ip) {
+        return request -> {
+            request.setRemoteAddr(ip);
+            return request;
+        };
+    }
+}
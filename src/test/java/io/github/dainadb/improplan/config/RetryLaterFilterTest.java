@@ -0,0 +1,58 @@
+package io.github.dainadb.improplan.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.github.dainadb.improplan.exception.ServiceUnavailableException;
+import io.github.dainadb.improplan.exception.TooManyRequestsException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Comprueba que los rechazos temporales dentro de la cadena de seguridad llegan al cliente con su estado y Retry-After.
+ */
+class RetryLaterFilterTest {
+
+    private final RetryLaterFilter filter = new RetryLaterFilter(JsonMapper.builder().build());
+
+    @Test
+    void rejectionBecomesServiceUnavailable() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/auth/me"), response, (req, res) -> {
+            throw new ServiceUnavailableException("Saturado", Duration.ofSeconds(3));
+        });
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getContentAsString()).contains("\"success\":false").contains("\"message\":\"Saturado\"");
+    }
+
+    @Test
+    void rateLimitBecomesTooManyRequests() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/auth/me"), response, (req, res) -> {
+            throw new TooManyRequestsException("Demasiados intentos", Duration.ofMillis(1500));
+        });
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    }
+
+    @Test
+    void otherRequestsPassThrough() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events/1"), response,
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(200));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNull();
+    }
+}
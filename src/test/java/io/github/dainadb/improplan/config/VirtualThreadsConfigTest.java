@@ -0,0 +1,39 @@
+package io.github.dainadb.improplan.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.github.dainadb.improplan.common.concurrent.ConnectionAdmissionDataSource;
+
+/**
+ * Comprueba que, con el acceso a la BBDD limitado, una petición no espera más que el connection-timeout del pool.
+ */
+class VirtualThreadsConfigTest {
+
+    @Test
+    void waitingForAConnectionTakesOneTimeoutAtMost() throws Exception {
+        try (HikariDataSource hikari = new HikariDataSource()) {
+            hikari.setJdbcUrl("jdbc:h2:mem:virtual_threads_config;DB_CLOSE_DELAY=-1");
+            hikari.setMaximumPoolSize(1);
+            hikari.setConnectionTimeout(1000);
+
+            ConnectionAdmissionDataSource dataSource = VirtualThreadsConfig.admit(hikari);
+            assertThat(hikari.getConnectionTimeout()).isEqualTo(250);
+            assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+            try (Connection busy = dataSource.getConnection()) {
+                long start = System.nanoTime();
+                assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+                long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+                assertThat(waitedMillis).isBetween(700L, 999L);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.dainadb.improplan.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Comprueba que las respuestas ya serializadas se envían tal cual como JSON y que la documentación OpenAPI
+ * sigue mostrando el ApiResponse que declaran los endpoints.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WebMvcConfigTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void writesSerializedBodiesAsJson() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/themes")).andReturn().getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(MediaType.parseMediaType(response.getContentType()).isCompatibleWith(MediaType.APPLICATION_JSON)).isTrue();
+        JsonNode body = jsonMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.path("success").asBoolean()).isTrue();
+        assertThat(body.path("data").size()).isEqualTo(12);
+    }
+
+    @Test
+    void documentsTheDeclaredResponseType() throws Exception {
+        JsonNode docs = jsonMapper.readTree(mockMvc.perform(get("/v3/api-docs")).andReturn().getResponse()
+                .getContentAsByteArray());
+
+        assertThat(schema(docs, "/api/themes")).isEqualTo("#/components/schemas/ApiResponseListThemeResponseDto");
+        assertThat(schema(docs, "/api/provinces/{id}")).isEqualTo("#/components/schemas/ApiResponseProvinceResponseDto");
+        assertThat(schema(docs, "/api/events/{id}")).isEqualTo("#/components/schemas/ApiResponseEventResponseDto");
+    }
+
+    private static String schema(JsonNode docs, String path) {
+        return docs.path("paths").path(path).path("get").path("responses").path("200").path("content")
+                .path("*/*").path("schema").path("$ref").asString();
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.dainadb.improplan.domain.auth.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.dainadb.improplan.domain.auth.dto.LoginRequestDto;
+import io.github.dainadb.improplan.domain.auth.dto.LoginResponseDto;
+import io.github.dainadb.improplan.domain.auth.dto.RegisterUserDto;
+import io.github.dainadb.improplan.domain.auth.ratelimit.LoginRateLimiterImpl;
+import io.github.dainadb.improplan.domain.auth.service.IAuthService;
+import io.github.dainadb.improplan.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que los intentos que superan el límite se rechazan antes de llegar al servicio
+ * (sin consultar la BBDD ni calcular BCrypt).
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthRestControllerTest {
+
+    @Mock
+    private IAuthService authService;
+
+    @InjectMocks
+    private AuthRestController controller;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        //3 intentos por IP y 2 por email
+        ReflectionTestUtils.setField(controller, "loginRateLimiter",
+                new LoginRateLimiterImpl(3, 2, Duration.ofMinutes(1), 100, meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void emailLimitStopsAttemptsBeforeTheService() {
+        LoginResponseDto response = new LoginResponseDto();
+        response.setRoles(Set.of("ROLE_USER"));
+        when(authService.authenticateUser(any())).thenReturn(response);
+
+        controller.login(login("Usuario1@improplan.es"), request("10.0.0.1"));
+        controller.login(login("usuario1@improplan.es"), request("10.0.0.2"));
+
+        assertThatThrownBy(() -> controller.login(login("usuario1@improplan.es"), request("10.0.0.3")))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        verify(authService, times(2)).authenticateUser(any());
+        assertThat(meterRegistry.get("improplan.auth.rate.limited").tag("limit", "email").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ipLimitIsSharedWithRegistration() {
+        controller.register(new RegisterUserDto(), request("10.0.0.9"));
+        controller.register(new RegisterUserDto(), request("10.0.0.9"));
+        controller.register(new RegisterUserDto(), request("10.0.0.9"));
+
+        assertThatThrownBy(() -> controller.login(login("otro@improplan.es"), request("10.0.0.9")))
+                .isInstanceOf(TooManyRequestsException.class);
+        verify(authService, times(3)).registerUser(any());
+        verify(authService, times(0)).authenticateUser(any());
+    }
+
+    private static LoginRequestDto login(String email) {
+        return new LoginRequestDto(email, "secreto");
+    }
+
+    private static MockHttpServletRequest request(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+}
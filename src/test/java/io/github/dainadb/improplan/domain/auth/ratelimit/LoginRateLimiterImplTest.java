@@ -0,0 +1,62 @@
+package io.github.dainadb.improplan.domain.auth.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.dainadb.improplan.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba cómo se agrupan las direcciones en el límite por IP.
+ */
+class LoginRateLimiterImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    //2 intentos por IP; el límite por email no interviene
+    private final LoginRateLimiterImpl limiter =
+            new LoginRateLimiterImpl(2, 100, Duration.ofMinutes(1), 100, meterRegistry);
+
+    @Test
+    void ipv6AddressesInTheSame64ShareTheLimit() {
+        limiter.checkRegistration("2001:db8:1:2::1");
+        limiter.checkRegistration("2001:db8:1:2:aaaa:bbbb:cccc:dddd");
+
+        assertThatThrownBy(() -> limiter.checkRegistration("2001:0db8:0001:0002:ffff::"))
+                .isInstanceOf(TooManyRequestsException.class);
+        limiter.checkRegistration("2001:db8:1:3::1"); //Otro /64
+    }
+
+    @Test
+    void ipv4AddressesAreKeptAsTheyAre() {
+        limiter.checkRegistration("10.0.0.1");
+        limiter.checkRegistration("10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.checkRegistration("10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        limiter.checkRegistration("10.0.0.2");
+    }
+
+    @Test
+    void ipKeyNormalisesTheAddress() {
+        assertThat(LoginRateLimiterImpl.ipKey("2001:db8::1")).isEqualTo("20010db800000000::/64");
+        assertThat(LoginRateLimiterImpl.ipKey("::ffff:192.168.1.5")).isEqualTo("192.168.1.5");
+        assertThat(LoginRateLimiterImpl.ipKey("192.168.1.5")).isEqualTo("192.168.1.5");
+    }
+
+    @Test
+    void newClientsAreAllowedWhenTheLimiterIsFull() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LoginRateLimiterImpl small = new LoginRateLimiterImpl(2, 100, Duration.ofMinutes(1), 1, registry);
+        small.checkRegistration("10.0.0.1");
+
+        small.checkRegistration("10.0.0.2");
+
+        assertThat(registry.get(LoginRateLimiterImpl.UNTRACKED_METRIC_NAME).tag("limit", "ip")
+                .functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.dainadb.improplan.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.dainadb.improplan.domain.auth.dto.RegisterUserDto;
+import io.github.dainadb.improplan.domain.user.entity.User;
+import io.github.dainadb.improplan.domain.user.repository.IUserRepository;
+
+/**
+ * Comprueba que el registro calcula el hash de la contraseña sin ocupar una transacción (ni su conexión).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceImplTest {
+
+    @Autowired
+    private IAuthService authService;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void registerHashesOutsideTheTransaction() {
+        AtomicBoolean hashedInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            hashedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+
+        authService.registerUser(new RegisterUserDto("registro-hash@improplan.es", "Nombre", "Apellidos", "clave-segura"));
+
+        assertThat(hashedInTransaction).isFalse();
+        User user = userRepository.findByEmail("registro-hash@improplan.es").orElseThrow();
+        assertThat(passwordEncoder.matches("clave-segura", user.getPassword())).isTrue();
+        assertThat(user.getRoles()).extracting(role -> role.getName().name()).containsExactly("ROLE_USER");
+    }
+}
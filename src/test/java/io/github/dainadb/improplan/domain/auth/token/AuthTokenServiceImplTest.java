@@ -0,0 +1,146 @@
+package io.github.dainadb.improplan.domain.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.dainadb.improplan.domain.role.entity.Role;
+import io.github.dainadb.improplan.domain.user.entity.User;
+
+/**
+ * Pruebas de la firma, la caducidad, la revocación y la purga de los tokens de acceso.
+ */
+class AuthTokenServiceImplTest {
+
+    private static final String SECRET = "secreto-de-pruebas-con-longitud-suficiente";
+
+    private final AuthTokenServiceImpl service = new AuthTokenServiceImpl(SECRET, Duration.ofHours(2));
+
+    @Test
+    void issuedTokenVerifiesWithItsClaims() {
+        AuthToken token = service.issueToken(user(7L, Role.RoleType.ROLE_ADMIN));
+
+        assertThat(service.verify(token.value())).hasValueSatisfying(verified -> {
+            assertThat(verified.userId()).isEqualTo(7L);
+            assertThat(verified.email()).isEqualTo("usuario7@improplan.es");
+            assertThat(verified.roles()).containsExactly("ROLE_ADMIN");
+            assertThat(verified.tokenId()).isEqualTo(token.tokenId());
+        });
+    }
+
+    @Test
+    void tamperedTokensAreRejected() {
+        String value = service.issueToken(user(7L, Role.RoleType.ROLE_USER)).value();
+        int dot = value.indexOf('.');
+        String payload = new String(Base64.getUrlDecoder().decode(value.substring(0, dot)), StandardCharsets.UTF_8);
+
+        //Mismo payload con otro rol y la firma original
+        String elevated = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replace("ROLE_USER", "ROLE_ADMIN").getBytes(StandardCharsets.UTF_8));
+        assertThat(service.verify(elevated + value.substring(dot))).isEmpty();
+
+        //Firma alterada (el primer carácter: los bits bajos del último no cuentan al decodificar sin relleno)
+        char first = value.charAt(dot + 1);
+        assertThat(service.verify(value.substring(0, dot + 1) + (first == 'A' ? 'B' : 'A') + value.substring(dot + 2)))
+                .isEmpty();
+
+        //Firmado con otra clave
+        AuthTokenServiceImpl other = new AuthTokenServiceImpl("otro-secreto-de-pruebas-distinto-al-primero", Duration.ofHours(2));
+        assertThat(service.verify(other.issueToken(user(7L, Role.RoleType.ROLE_USER)).value())).isEmpty();
+
+        //Formatos inválidos
+        assertThat(service.verify(null)).isEmpty();
+        assertThat(service.verify("")).isEmpty();
+        assertThat(service.verify("sin-punto")).isEmpty();
+        assertThat(service.verify(value + ".extra")).isEmpty();
+        assertThat(service.verify("%%%." + value.substring(dot + 1))).isEmpty();
+    }
+
+    @Test
+    void expiredTokensAreRejected() {
+        AuthTokenServiceImpl expiring = new AuthTokenServiceImpl(SECRET, Duration.ofMillis(-1));
+
+        assertThat(expiring.verify(expiring.issueToken(user(7L, Role.RoleType.ROLE_USER)).value())).isEmpty();
+    }
+
+    @Test
+    void revokeTokenOnlyAffectsThatToken() {
+        AuthToken first = service.issueToken(user(7L, Role.RoleType.ROLE_USER));
+        AuthToken second = service.issueToken(user(7L, Role.RoleType.ROLE_USER));
+
+        service.revokeToken(first.value());
+
+        assertThat(service.verify(first.value())).isEmpty();
+        assertThat(service.verify(second.value())).isPresent();
+    }
+
+    @Test
+    void revokeUserTokensAffectsEarlierTokensOfThatUserOnly() throws InterruptedException {
+        AuthToken revoked = service.issueToken(user(7L, Role.RoleType.ROLE_USER));
+        AuthToken otherUser = service.issueToken(user(8L, Role.RoleType.ROLE_USER));
+
+        service.revokeUserTokens(7L);
+        Thread.sleep(5); //El siguiente token se emite en un milisegundo posterior a la revocación
+        AuthToken reissued = service.issueToken(user(7L, Role.RoleType.ROLE_USER));
+
+        assertThat(service.verify(revoked.value())).isEmpty();
+        assertThat(service.verify(otherUser.value())).isPresent();
+        assertThat(service.verify(reissued.value())).isPresent();
+    }
+
+    @Test
+    void purgeKeepsRevocationsThatCanStillAffectValidTokens() {
+        AuthToken token = service.issueToken(user(7L, Role.RoleType.ROLE_USER));
+        AuthToken userToken = service.issueToken(user(8L, Role.RoleType.ROLE_USER));
+        service.revokeToken(token.value());
+        service.revokeUserTokens(8L);
+
+        service.purgeRevocations();
+
+        assertThat(service.verify(token.value())).isEmpty();
+        assertThat(service.verify(userToken.value())).isEmpty();
+        assertThat(revokedTokens(service)).hasSize(1);
+        assertThat(userRevokedBefore(service)).hasSize(1);
+    }
+
+    @Test
+    void purgeDropsRevocationsOnceTheTokensHaveExpired() throws InterruptedException {
+        AuthTokenServiceImpl shortLived = new AuthTokenServiceImpl(SECRET, Duration.ofMillis(200));
+        AuthToken token = shortLived.issueToken(user(7L, Role.RoleType.ROLE_USER));
+        shortLived.revokeToken(token.value());
+        shortLived.revokeUserTokens(8L);
+
+        Thread.sleep(300);
+        shortLived.purgeRevocations();
+
+        assertThat(revokedTokens(shortLived)).isEmpty();
+        assertThat(userRevokedBefore(shortLived)).isEmpty();
+    }
+
+    // MÉTODOS PRIVADOS AUXILIARES
+
+    private static User user(Long id, Role.RoleType role) {
+        return User.builder()
+                .id(id)
+                .email("usuario" + id + "@improplan.es")
+                .roles(Set.of(Role.builder().name(role).build()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> revokedTokens(AuthTokenServiceImpl service) {
+        return (Map<String, Long>) ReflectionTestUtils.getField(service, "revokedTokens");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Long> userRevokedBefore(AuthTokenServiceImpl service) {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(service, "userRevokedBefore");
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.dainadb.improplan.domain.event.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.dainadb.improplan.exception.BadRequestException;
+
+/**
+ * Comprueba que el cursor de la búsqueda se codifica de forma opaca y que los tokens mal formados se rechazan.
+ */
+class EventSearchCursorTest {
+
+    @Test
+    void roundTripsThroughAnUrlSafeToken() {
+        EventSearchCursor cursor = new EventSearchCursor(LocalDate.of(2026, 12, 31), 123_456L);
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(EventSearchCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> EventSearchCursor.decode("no es base64!")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> EventSearchCursor.decode(encode("v1:abc:1"))).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> EventSearchCursor.decode(encode("v1:20000"))).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> EventSearchCursor.decode(encode("v2:20000:1"))).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> EventSearchCursor.decode(encode("v1:999999999999:1")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+}
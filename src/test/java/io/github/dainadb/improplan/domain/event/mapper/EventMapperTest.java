@@ -0,0 +1,101 @@
+package io.github.dainadb.improplan.domain.event.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import io.github.dainadb.improplan.config.ModelMapperConfig;
+import io.github.dainadb.improplan.domain.event.dto.EventResponseDto;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
+import io.github.dainadb.improplan.domain.event.entity.Event;
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.event.search.EventSummaryRow;
+import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que EventMapper produce el mismo DTO que la configuración de ModelMapper, y la conversión de los listados.
+ */
+class EventMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapperConfig().modelMapper(new SimpleMeterRegistry());
+    private final EventMapper eventMapper = new EventMapper();
+
+    @Test
+    void fullEventMatchesModelMapper() {
+        Event event = Event.builder()
+                .id(7L)
+                .name("Concierto")
+                .summary("Resumen")
+                .description("Descripción larga")
+                .placeName("Plaza Mayor")
+                .address("Calle Falsa 123")
+                .latitude(new BigDecimal("40.41677500"))
+                .longitude(new BigDecimal("-3.70379000"))
+                .image("https://img.example.com/a.png")
+                .infoUrl("https://example.com")
+                .isFree(false)
+                .price(new BigDecimal("12.50"))
+                .inTime(true)
+                .status(StatusType.PUBLISHED)
+                .municipality(Municipality.builder().id(1).name("Madrid").build())
+                .theme(Theme.builder().id(2).name("Música").build())
+                .dates(new HashSet<>(Set.of(
+                        EventDate.builder().id(1L).fullDate(LocalDate.of(2030, 5, 1)).build(),
+                        EventDate.builder().id(2L).fullDate(LocalDate.of(2030, 5, 2)).build())))
+                .build();
+
+        assertEquivalent(event);
+    }
+
+    @Test
+    void eventWithoutRelationsMatchesModelMapper() {
+        Event event = Event.builder()
+                .id(8L)
+                .name("Sin relaciones")
+                .status(StatusType.PENDING)
+                .build();
+
+        assertEquivalent(event);
+    }
+
+    @Test
+    void eventWithNullFieldsMatchesModelMapper() {
+        Event event = new Event();
+        event.setId(9L);
+        event.setLatitude(null);
+        event.setLongitude(null);
+        event.setInTime(null);
+        event.setStatus(null);
+
+        assertEquivalent(event);
+    }
+
+    @Test
+    void summaryRowKeepsListFieldsAndCopiesDates() {
+        Set<LocalDate> dates = Set.of(LocalDate.of(2030, 5, 1));
+        EventSummaryRow row = new EventSummaryRow(7L, "Concierto", "Resumen", "https://img.example.com/a.png", false,
+                new BigDecimal("12.50"), 1, "Madrid", "Música");
+
+        EventSummaryDto dto = eventMapper.toSummaryDto(row, dates);
+
+        assertThat(dto).isEqualTo(new EventSummaryDto(7L, "Concierto", "Resumen", "https://img.example.com/a.png",
+                false, new BigDecimal("12.50"), "Madrid", "Música", dates));
+        dto.getEventDates().clear(); //Copia modificable, independiente del conjunto recibido
+        assertThat(eventMapper.toSummaryDto(row, null).getEventDates()).isEmpty();
+    }
+
+    private void assertEquivalent(Event event) {
+        EventResponseDto expected = modelMapper.map(event, EventResponseDto.class);
+        EventResponseDto actual = eventMapper.toResponseDto(event);
+        assertThat(actual).isEqualTo(expected);
+    }
+}
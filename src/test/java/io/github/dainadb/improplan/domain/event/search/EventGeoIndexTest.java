@@ -0,0 +1,108 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import io.github.dainadb.improplan.common.cache.EventChangedEvent;
+import io.github.dainadb.improplan.common.cache.ReferenceDataChangedEvent;
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+
+/**
+ * Comprueba el radio, el orden por distancia, los filtros y las actualizaciones incrementales del índice geográfico.
+ */
+@ExtendWith(MockitoExtension.class)
+class EventGeoIndexTest {
+
+    //Plaza de la Constitución (Málaga)
+    private static final double MALAGA_LAT = 36.7213;
+    private static final double MALAGA_LON = -4.4214;
+
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 1);
+
+    @Mock
+    private IEventRepository eventRepository;
+
+    @InjectMocks
+    private EventGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findGeoDocumentsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                document(1L, "36.7196", "-4.4200", "Música", "0.00"),      //Centro de Málaga, a ~0,2 km
+                document(2L, "36.6950", "-4.4450", "Teatro", "15.00"),     //Málaga, a ~3,6 km
+                document(3L, "36.5100", "-4.8860", "Música", "30.00"),     //Marbella, a ~47 km
+                document(4L, "37.3891", "-5.9845", "Música", "5.00"),      //Sevilla
+                document(5L, "0", "0", "Música", "0.00")));                //Sin coordenadas
+        when(eventRepository.findDateLinksByEventIdIn(anyCollection())).thenReturn(List.of(
+                new EventDateLink(1L, DAY),
+                new EventDateLink(2L, DAY.plusDays(1)),
+                new EventDateLink(3L, DAY)));
+        index.rebuild();
+    }
+
+    @Test
+    void returnsEventsInsideRadiusByDistance() {
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 10, null, null, null, 10)).containsExactly(1L, 2L);
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 50, null, null, null, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 50, null, null, null, 1)).containsExactly(1L);
+    }
+
+    @Test
+    void skipsEventsWithoutCoordinates() {
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.findNearby(0, 0, 50, null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void appliesThemePriceAndDateFilters() {
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 50, "musica", null, null, 10)).containsExactly(1L, 3L);
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 50, null, new BigDecimal("15"), null, 10)).containsExactly(1L, 2L);
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 50, null, null, DAY, 10)).containsExactly(1L, 3L);
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 50, "Música", new BigDecimal("20"), DAY, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void appliesChangesIncrementally() {
+        //El 1 se descarta (ya no vuelve) y el 4 se traslada a Málaga
+        when(eventRepository.findGeoDocumentsByIdIn(anyCollection())).thenReturn(List.of(
+                document(4L, "36.7200", "-4.4210", "Música", "5.00")));
+
+        index.onEventChanged(new EventChangedEvent(List.of(1L, 4L)));
+
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 10, null, null, null, 10)).containsExactly(4L, 2L);
+        assertThat(index.findNearby(37.3891, -5.9845, 10, null, null, null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void rebuildsWhenAThemeIsRenamed() {
+        when(eventRepository.findGeoDocumentsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                document(1L, "36.7196", "-4.4200", "Música en vivo", "0.00"),
+                document(2L, "36.6950", "-4.4450", "Teatro", "15.00")));
+
+        index.onReferenceDataChanged(new ReferenceDataChangedEvent(Theme.class));
+
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 10, "Música", null, null, 10)).isEmpty();
+        assertThat(index.findNearby(MALAGA_LAT, MALAGA_LON, 10, "musica en vivo", null, null, 10)).containsExactly(1L);
+    }
+
+    private static EventGeoDocument document(Long id, String latitude, String longitude, String theme, String price) {
+        return new EventGeoDocument(id, new BigDecimal(latitude), new BigDecimal(longitude), theme, new BigDecimal(price));
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import io.github.dainadb.improplan.common.cache.EventChangedEvent;
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+
+/**
+ * Comprueba la normalización, el orden de relevancia y las actualizaciones incrementales del índice de búsqueda.
+ */
+@ExtendWith(MockitoExtension.class)
+class EventSearchIndexTest {
+
+    @Mock
+    private IEventRepository eventRepository;
+
+    @InjectMocks
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findSearchDocumentsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                document(1L, "Concierto de jazz", "Música en directo", "Teatro Cervantes", StatusType.PUBLISHED),
+                document(2L, "Feria del libro", "Concierto de clausura", "Parque de María Luisa", StatusType.PUBLISHED),
+                document(3L, "Ruta por Málaga", "Visita guiada", "Centro histórico", StatusType.PUBLISHED),
+                document(4L, "Concierto benéfico", "Pendiente de revisión", "Auditorio", StatusType.PENDING)));
+        index.rebuild();
+    }
+
+    @Test
+    void ignoresAccentsAndCase() {
+        assertThat(index.search("MALAGA", 10, true)).containsExactly(3L);
+        assertThat(index.search("maría", 10, true)).containsExactly(2L);
+    }
+
+    @Test
+    void matchesWordPrefixes() {
+        assertThat(index.search("conci", 10, true)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void requiresAllWordsAndIgnoresStopWords() {
+        assertThat(index.search("concierto de jazz", 10, true)).containsExactly(1L);
+        assertThat(index.search("de la", 10, true)).isEmpty();
+    }
+
+    @Test
+    void ranksNameAboveSummary() {
+        assertThat(index.search("concierto", 10, true)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void filtersNonPublishedEvents() {
+        assertThat(index.search("benefico", 10, true)).isEmpty();
+        assertThat(index.search("benefico", 10, false)).containsExactly(4L);
+    }
+
+    @Test
+    void appliesChangesIncrementally() {
+        when(eventRepository.findSearchDocumentsByIdIn(anyCollection())).thenReturn(List.of(
+                document(3L, "Ruta por Sevilla", "Visita guiada", "Centro histórico", StatusType.PUBLISHED)));
+
+        index.onEventChanged(new EventChangedEvent(List.of(3L, 4L))); //El 4 ya no existe
+
+        assertThat(index.search("malaga", 10, true)).isEmpty();
+        assertThat(index.search("sevilla", 10, true)).containsExactly(3L);
+        assertThat(index.search("benefico", 10, false)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void interleavedChangesApplyTheLatestRead() throws Exception {
+        //El primer listener lee la versión anterior del evento y tarda en aplicarla; el segundo lee la nueva.
+        //Si el segundo pudiera leer y aplicar entretanto, el primero dejaría en el índice la versión antigua.
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        when(eventRepository.findSearchDocumentsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            if (reads.incrementAndGet() == 1) {
+                firstReading.countDown();
+                secondDone.await(500, TimeUnit.MILLISECONDS);
+                return List.of(document(3L, "Ruta por Granada", "Visita guiada", "Centro histórico", StatusType.PUBLISHED));
+            }
+            return List.of(document(3L, "Ruta por Sevilla", "Visita guiada", "Centro histórico", StatusType.PUBLISHED));
+        });
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(
+                () -> index.onEventChanged(new EventChangedEvent(List.of(3L))));
+        assertThat(firstReading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            index.onEventChanged(new EventChangedEvent(List.of(3L)));
+            secondDone.countDown();
+        });
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertThat(index.search("sevilla", 10, true)).containsExactly(3L);
+        assertThat(index.search("granada", 10, true)).isEmpty();
+    }
+
+    private static EventSearchDocument document(Long id, String name, String summary, String placeName, StatusType status) {
+        return new EventSearchDocument(id, name, summary, placeName, status, true);
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.dainadb.improplan.domain.event.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import io.github.dainadb.improplan.common.cache.EventChangedEvent;
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache;
+import io.github.dainadb.improplan.common.cache.GeoReferenceCache.MunicipalityRef;
+import io.github.dainadb.improplan.common.cache.ReferenceDataChangedEvent;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
+import io.github.dainadb.improplan.domain.event.repository.IEventRepository;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.role.entity.Role;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+
+/**
+ * Comprueba los filtros, la paginación por ID y las actualizaciones copia-en-escritura del catálogo de eventos publicados.
+ */
+@ExtendWith(MockitoExtension.class)
+class PublishedEventCatalogueTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 5, 1);
+
+    private static final Municipality MALAGA = Municipality.builder().id(1).name("Málaga").build();
+    private static final Municipality MARBELLA = Municipality.builder().id(2).name("Marbella").build();
+    private static final Municipality SEVILLA = Municipality.builder().id(3).name("Sevilla").build();
+    private static final Theme MUSIC = Theme.builder().id(1).name("Música").build();
+    private static final Theme THEATRE = Theme.builder().id(2).name("Teatro").build();
+
+    @Mock
+    private IEventRepository eventRepository;
+
+    @Mock
+    private GeoReferenceCache geoReferenceCache;
+
+    @InjectMocks
+    private PublishedEventCatalogue catalogue;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(geoReferenceCache.findMunicipalityById(anyInt())).thenAnswer(invocation -> {
+            int id = invocation.getArgument(0);
+            String province = id == 3 ? "Sevilla" : "Málaga";
+            return Optional.of(new MunicipalityRef(id, "", null, null, id == 3 ? 2 : 1, province));
+        });
+        when(eventRepository.findPublishedSummariesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                row(1L, MALAGA, MUSIC, "0.00"),
+                row(2L, MARBELLA, THEATRE, "20.00"),
+                row(3L, MALAGA, THEATRE, "10.00"),
+                row(4L, SEVILLA, MUSIC, "5.00")));
+        when(eventRepository.findDatesByEventIds(anyList())).thenCallRealMethod();
+        when(eventRepository.findDateLinksByEventIdIn(anyCollection())).thenReturn(List.of(
+                new EventDateLink(1L, DAY),
+                new EventDateLink(2L, DAY),
+                new EventDateLink(3L, DAY),
+                new EventDateLink(3L, DAY.plusDays(1)),
+                new EventDateLink(4L, DAY)));
+        catalogue.rebuild();
+    }
+
+    @Test
+    void filtersByProvinceAndDate() {
+        assertThat(ids(catalogue.search("malaga", DAY, null, null, null, 0L, 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(catalogue.search("Málaga", DAY.plusDays(1), null, null, null, 0L, 10))).containsExactly(3L);
+        assertThat(catalogue.search("Cádiz", DAY, null, null, null, 0L, 10)).isEmpty();
+    }
+
+    @Test
+    void appliesOptionalFilters() {
+        assertThat(ids(catalogue.search("Málaga", DAY, "teatro", null, null, 0L, 10))).containsExactly(2L, 3L);
+        assertThat(ids(catalogue.search("Málaga", DAY, null, "MALAGA", null, 0L, 10))).containsExactly(1L, 3L);
+        assertThat(ids(catalogue.search("Málaga", DAY, null, null, new BigDecimal("10"), 0L, 10))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void pagesByIdAfterCursor() {
+        assertThat(ids(catalogue.search("Málaga", DAY, null, null, null, 0L, 2))).containsExactly(1L, 2L);
+        assertThat(ids(catalogue.search("Málaga", DAY, null, null, null, 2L, 2))).containsExactly(3L);
+    }
+
+    @Test
+    void returnsEventsByIdInRequestedOrder() {
+        assertThat(ids(catalogue.findAllById(List.of(4L, 9L, 1L)))).containsExactly(4L, 1L);
+        assertThat(catalogue.contains(2L)).isTrue();
+        assertThat(catalogue.contains(9L)).isFalse();
+    }
+
+    @Test
+    void returnsIndependentCopies() {
+        EventSummaryDto first = catalogue.findAllById(List.of(1L)).get(0);
+        first.setName("Modificado");
+        first.getEventDates().clear();
+
+        EventSummaryDto second = catalogue.findAllById(List.of(1L)).get(0);
+        assertThat(second.getName()).isEqualTo("Evento 1");
+        assertThat(second.getEventDates()).containsExactly(DAY);
+    }
+
+    @Test
+    void appliesChangesCopyOnWrite() {
+        //El 1 deja de ser público (la consulta ya no lo devuelve) y el 3 cambia de precio
+        when(eventRepository.findPublishedSummariesByIdIn(anyCollection())).thenReturn(List.of(row(3L, MALAGA, THEATRE, "50.00")));
+
+        catalogue.onEventChanged(new EventChangedEvent(List.of(1L, 3L)));
+
+        assertThat(catalogue.contains(1L)).isFalse();
+        assertThat(catalogue.findAllById(List.of(3L))).map(EventSummaryDto::getPrice).containsExactly(new BigDecimal("50.00"));
+        assertThat(ids(catalogue.search("Málaga", DAY, null, null, new BigDecimal("30"), 0L, 10))).containsExactly(2L);
+        assertThat(catalogue.size()).isEqualTo(3);
+    }
+
+    @Test
+    void incrementalChangesMatchAFullReload() {
+        //Estado de la BBDD que devuelven las consultas; se modifica al azar (con semilla fija) entre cambios
+        Map<Long, EventSummaryRow> rows = new TreeMap<>();
+        Map<Long, Set<LocalDate>> dates = new HashMap<>();
+        when(eventRepository.findPublishedSummariesAfter(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> List.copyOf(rows.values()));
+        when(eventRepository.findPublishedSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+        });
+        when(eventRepository.findDateLinksByEventIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .flatMap(id -> dates.getOrDefault(id, Set.of()).stream().map(date -> new EventDateLink(id, date)))
+                    .toList();
+        });
+        Random random = new Random(7);
+        for (long id = 1; id <= 40; id++) {
+            randomChange(random, id, rows, dates);
+        }
+        catalogue.rebuild();
+
+        for (int round = 0; round < 300; round++) {
+            List<Long> changed = new ArrayList<>();
+            for (int i = random.nextInt(3); i >= 0; i--) {
+                long id = 1 + random.nextInt(60);
+                randomChange(random, id, rows, dates);
+                changed.add(id);
+            }
+            catalogue.onEventChanged(new EventChangedEvent(changed));
+        }
+        List<Long> allIds = LongStream.rangeClosed(1, 60).boxed().toList();
+        List<List<Long>> incremental = allSearches();
+        List<EventSummaryDto> incrementalEvents = catalogue.findAllById(allIds);
+        int incrementalSize = catalogue.size();
+
+        catalogue.rebuild();
+
+        assertThat(incremental).isEqualTo(allSearches());
+        assertThat(incrementalEvents).isEqualTo(catalogue.findAllById(allIds));
+        assertThat(incrementalSize).isEqualTo(catalogue.size()).isEqualTo(rows.size());
+    }
+
+    @Test
+    void reloadsWhenReferenceDataIsRenamed() {
+        //La temática 2 pasa a llamarse "Artes escénicas"
+        Theme renamed = Theme.builder().id(2).name("Artes escénicas").build();
+        when(eventRepository.findPublishedSummariesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                row(1L, MALAGA, MUSIC, "0.00"),
+                row(2L, MARBELLA, renamed, "20.00"),
+                row(3L, MALAGA, renamed, "10.00"),
+                row(4L, SEVILLA, MUSIC, "5.00")));
+
+        catalogue.onReferenceDataChanged(new ReferenceDataChangedEvent(Theme.class));
+
+        assertThat(catalogue.search("Málaga", DAY, "Teatro", null, null, 0L, 10)).isEmpty();
+        assertThat(ids(catalogue.search("Málaga", DAY, "artes escenicas", null, null, 0L, 10))).containsExactly(2L, 3L);
+        assertThat(catalogue.findAllById(List.of(3L))).map(EventSummaryDto::getThemeName).containsExactly("Artes escénicas");
+    }
+
+    @Test
+    void ignoresUnrelatedReferenceData() {
+        catalogue.onReferenceDataChanged(new ReferenceDataChangedEvent(Role.class));
+
+        verify(eventRepository, times(1)).findPublishedSummariesAfter(anyLong(), any(Pageable.class));
+    }
+
+    //El evento deja de ser público o cambia de municipio, temática, precio y fechas
+    private static void randomChange(Random random, long id, Map<Long, EventSummaryRow> rows,
+                                     Map<Long, Set<LocalDate>> dates) {
+        if (random.nextInt(4) == 0) {
+            rows.remove(id);
+            dates.remove(id);
+            return;
+        }
+        Municipality[] municipalities = { MALAGA, MARBELLA, SEVILLA };
+        Theme[] themes = { MUSIC, THEATRE };
+        rows.put(id, row(id, municipalities[random.nextInt(3)], themes[random.nextInt(2)],
+                String.valueOf(random.nextInt(30))));
+        Set<LocalDate> eventDates = new HashSet<>();
+        for (int day = 0; day < 3; day++) {
+            if (random.nextBoolean()) {
+                eventDates.add(DAY.plusDays(day));
+            }
+        }
+        dates.put(id, eventDates);
+    }
+
+    //Resultados de todas las combinaciones de filtros, para comparar dos estados del catálogo
+    private List<List<Long>> allSearches() {
+        List<List<Long>> results = new ArrayList<>();
+        for (String province : List.of("Málaga", "Sevilla")) {
+            for (int day = 0; day < 3; day++) {
+                for (String theme : new String[] { null, "Música", "Teatro" }) {
+                    for (String municipality : new String[] { null, "Marbella" }) {
+                        results.add(ids(catalogue.search(province, DAY.plusDays(day), theme, municipality,
+                                null, 0L, 100)));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private static EventSummaryRow row(Long id, Municipality municipality, Theme theme, String price) {
+        return new EventSummaryRow(id, "Evento " + id, "Resumen", null, new BigDecimal(price).signum() == 0,
+                new BigDecimal(price), municipality.getId(), municipality.getName(), theme.getName());
+    }
+
+    private static List<Long> ids(List<EventSummaryDto> events) {
+        return events.stream().map(EventSummaryDto::getId).toList();
+    }
+}
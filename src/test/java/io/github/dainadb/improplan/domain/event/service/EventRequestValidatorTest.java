@@ -0,0 +1,58 @@
+package io.github.dainadb.improplan.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.dainadb.improplan.domain.event.dto.EventRequestDto;
+import io.github.dainadb.improplan.exception.ValidationException;
+
+/**
+ * Comprueba las reglas de validación de una solicitud de evento.
+ */
+class EventRequestValidatorTest {
+
+    private final EventRequestValidator validator = new EventRequestValidator();
+
+    @Test
+    void acceptsAValidRequest() {
+        assertThatCode(() -> validator.validate(request().build())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void freeEventsCannotHaveAPrice() {
+        assertThatThrownBy(() -> validator.validate(request().isFree(true).build()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("gratuito");
+    }
+
+    @Test
+    void rejectsAnInvalidInfoUrl() {
+        assertThatThrownBy(() -> validator.validate(request().infoUrl("no es una url").build()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("URL");
+    }
+
+    @Test
+    void requiresFutureDates() {
+        assertThatThrownBy(() -> validator.validate(request().eventDates(Set.of()).build()))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> validator.validate(request().eventDates(Set.of(LocalDate.now())).build()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("fechas pasadas");
+    }
+
+    private static EventRequestDto.EventRequestDtoBuilder request() {
+        return EventRequestDto.builder()
+                .name("Concierto")
+                .infoUrl("https://www.example.com/eventos/concierto")
+                .isFree(false)
+                .price(new BigDecimal("12.50"))
+                .eventDates(Set.of(LocalDate.now().plusDays(10)));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.dainadb.improplan.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba que la caducidad por lotes marca como no vigentes exactamente los eventos sin fechas futuras.
+ * La tarea se ejecuta dentro de una transacción que se deshace al terminar, para no cambiar los datos de prueba.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventSchedulerServiceTest {
+
+    private static final String EXPIRED_IN_TIME = """
+            SELECT COUNT(*) FROM app_events e
+            WHERE e.in_time = TRUE
+              AND NOT EXISTS (SELECT 1 FROM events_dates ed JOIN event_dates d ON d.id_date = ed.id_date
+                              WHERE ed.id_event = e.id_event AND d.full_date >= CURRENT_DATE)
+            """;
+    private static final String IN_TIME = "SELECT COUNT(*) FROM app_events WHERE in_time = TRUE";
+
+    @Autowired
+    private EventSchedulerService eventSchedulerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void expiresEveryEventWithoutFutureDatesAcrossBatches() {
+        transactionTemplate.executeWithoutResult(status -> {
+            int expired = count(EXPIRED_IN_TIME);
+            int inTime = count(IN_TIME);
+            //Más eventos caducados que el tamaño de lote (500), para que la tarea recorra varios lotes
+            assertThat(expired).isGreaterThan(1000);
+
+            int updated = eventSchedulerService.updateExpiredEventsStatus();
+
+            assertThat(updated).isEqualTo(expired);
+            assertThat(count(EXPIRED_IN_TIME)).isZero();
+            assertThat(count(IN_TIME)).isEqualTo(inTime - expired);
+            //Una segunda pasada no encuentra nada que caducar
+            assertThat(eventSchedulerService.updateExpiredEventsStatus()).isZero();
+            status.setRollbackOnly();
+        });
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.dainadb.improplan.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.dainadb.improplan.common.response.CursorPage;
+import io.github.dainadb.improplan.common.response.SliceResponse;
+import io.github.dainadb.improplan.domain.event.dto.EventSummaryDto;
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.exception.BadRequestException;
+
+/**
+ * Comprueba las consultas paginadas (por cursor y por Slice) del servicio de eventos sobre los datos de prueba.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventServiceImplTest {
+
+    //Fecha con eventos publicados y vigentes en los datos de prueba (id_date 402, enlazada a los eventos 401 + 730n)
+    private static final LocalDate SEARCH_DATE = LocalDate.now().plusDays(37);
+
+    @Autowired
+    private IEventService eventService;
+
+    @Test
+    void cursorPagesCoverTheSearchOnceInIdOrder() {
+        String province = busiestProvince();
+        List<Long> expected = eventService.searchPublishedEvents(province, SEARCH_DATE, null, null, null).stream()
+                .map(EventSummaryDto::getId)
+                .sorted()
+                .toList();
+        assertThat(expected).hasSizeGreaterThan(2);
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        CursorPage<EventSummaryDto> page;
+        do {
+            page = eventService.searchPublishedEvents(province, SEARCH_DATE, null, null, null, cursor, 2);
+            assertThat(page.getSize()).isEqualTo(page.getItems().size()).isLessThanOrEqualTo(2);
+            page.getItems().forEach(event -> paged.add(event.getId()));
+            cursor = page.getNextCursor();
+            assertThat(cursor == null).isEqualTo(!page.isHasNext());
+        } while (page.isHasNext());
+
+        assertThat(paged).isEqualTo(expected);
+    }
+
+    @Test
+    void rejectsACursorFromAnotherDate() {
+        String province = busiestProvince();
+        String cursor = eventService.searchPublishedEvents(province, SEARCH_DATE, null, null, null, null, 1)
+                .getNextCursor();
+
+        assertThatThrownBy(() -> eventService.searchPublishedEvents(province, SEARCH_DATE.plusDays(1),
+                null, null, null, cursor, 1))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> eventService.searchPublishedEvents(province, SEARCH_DATE, null, null, null,
+                "cursor-inventado", 1))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void slicesFollowEachOtherInIdOrder() {
+        List<Long> all = eventService.findByStatus(StatusType.DISCARDED.name()).stream()
+                .map(EventSummaryDto::getId)
+                .sorted()
+                .toList();
+        int lastPage = (all.size() - 1) / 50;
+
+        SliceResponse<EventSummaryDto> first = eventService.findByStatus(StatusType.DISCARDED.name(), 0, 50);
+        SliceResponse<EventSummaryDto> second = eventService.findByStatus(StatusType.DISCARDED.name(), 1, 50);
+        SliceResponse<EventSummaryDto> last = eventService.findByStatus(StatusType.DISCARDED.name(), lastPage, 50);
+
+        assertThat(first.getItems()).extracting(EventSummaryDto::getId).isEqualTo(all.subList(0, 50));
+        assertThat(second.getItems()).extracting(EventSummaryDto::getId).isEqualTo(all.subList(50, 100));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getPage()).isEqualTo(1);
+        assertThat(last.getItems()).extracting(EventSummaryDto::getId).isEqualTo(all.subList(lastPage * 50, all.size()));
+        assertThat(last.isHasNext()).isFalse();
+    }
+
+    //Provincia con más eventos en la fecha de búsqueda, para que haya varias páginas
+    private String busiestProvince() {
+        return IntStream.rangeClosed(1, 8)
+                .mapToObj(id -> "Provincia " + id)
+                .max(Comparator.comparingInt(name ->
+                        eventService.searchPublishedEvents(name, SEARCH_DATE, null, null, null).size()))
+                .orElseThrow();
+    }
+}
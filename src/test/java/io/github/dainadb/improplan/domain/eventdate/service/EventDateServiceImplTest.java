@@ -0,0 +1,63 @@
+package io.github.dainadb.improplan.domain.eventdate.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.dainadb.improplan.common.cache.EventDateDictionary;
+import io.github.dainadb.improplan.domain.eventdate.entity.EventDate;
+import io.github.dainadb.improplan.domain.eventdate.repository.IEventDateRepository;
+
+/**
+ * Comprueba que el diccionario de fechas solo recibe IDs de filas confirmadas en la BBDD.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventDateServiceImplTest {
+
+    @Autowired
+    private IEventDateService eventDateService;
+
+    @Autowired
+    private EventDateDictionary eventDateDictionary;
+
+    @Autowired
+    private IEventDateRepository eventDateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rolledBackDatesAreNotRemembered() {
+        //Fechas lejanas, dentro de la ventana del diccionario y sin filas en los datos de prueba
+        LocalDate date = LocalDate.now().plusDays(2000);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<EventDate> created = eventDateService.findOrCreateDates(Set.of(date));
+            assertThat(created).singleElement().extracting(EventDate::getId).isNotNull();
+            //Dentro de la transacción todavía no se publica nada
+            assertThat(eventDateDictionary.find(date)).isEqualTo(EventDateDictionary.UNKNOWN);
+            status.setRollbackOnly();
+        });
+
+        assertThat(eventDateRepository.findByFullDate(date)).isEmpty();
+        assertThat(eventDateDictionary.find(date)).isEqualTo(EventDateDictionary.UNKNOWN);
+    }
+
+    @Test
+    void committedDatesAreRemembered() {
+        LocalDate date = LocalDate.now().plusDays(2001);
+
+        Set<EventDate> created = transactionTemplate.execute(status -> eventDateService.findOrCreateDates(Set.of(date)));
+
+        long id = created.iterator().next().getId();
+        assertThat(eventDateDictionary.find(date)).isEqualTo(id);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.dainadb.improplan.domain.favorite.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import io.github.dainadb.improplan.config.ModelMapperConfig;
+import io.github.dainadb.improplan.domain.event.entity.Event;
+import io.github.dainadb.improplan.domain.event.entity.Event.StatusType;
+import io.github.dainadb.improplan.domain.favorite.dto.FavoriteResponseDto;
+import io.github.dainadb.improplan.domain.favorite.entity.Favorite;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+import io.github.dainadb.improplan.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que FavoriteMapper produce el mismo DTO que la configuración de ModelMapper.
+ */
+class FavoriteMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapperConfig().modelMapper(new SimpleMeterRegistry());
+    private final FavoriteMapper favoriteMapper = new FavoriteMapper();
+
+    @Test
+    void fullFavoriteMatchesModelMapper() {
+        Event event = Event.builder()
+                .id(3L)
+                .name("Feria")
+                .image("feria.png")
+                .price(new BigDecimal("5.00"))
+                .inTime(false)
+                .status(StatusType.PUBLISHED)
+                .theme(Theme.builder().id(1).name("Cultura").build())
+                .municipality(Municipality.builder().id(4).name("Sevilla").build())
+                .build();
+        Favorite favorite = Favorite.builder()
+                .id(11L)
+                .favoriteDate(LocalDateTime.of(2030, 1, 2, 10, 30))
+                .user(User.builder().id(5L).email("ana@example.com").build())
+                .event(event)
+                .build();
+
+        assertEquivalent(favorite);
+    }
+
+    @Test
+    void favoriteWithNullStatusMatchesModelMapper() {
+        Event event = Event.builder()
+                .id(3L)
+                .theme(Theme.builder().id(1).name("Cultura").build())
+                .municipality(Municipality.builder().id(4).name("Sevilla").build())
+                .build();
+        event.setStatus(null);
+        Favorite favorite = Favorite.builder()
+                .id(12L)
+                .user(User.builder().id(5L).email("ana@example.com").build())
+                .event(event)
+                .build();
+
+        assertEquivalent(favorite);
+    }
+
+    private void assertEquivalent(Favorite favorite) {
+        FavoriteResponseDto expected = modelMapper.map(favorite, FavoriteResponseDto.class);
+        FavoriteResponseDto actual = favoriteMapper.toResponseDto(favorite);
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.dainadb.improplan.domain.favorite.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Comprueba que los contadores de favoritos coinciden con la tabla de favoritos cuando los volcados
+ * y las reconciliaciones se ejecutan mientras otras transacciones añaden, quitan o deshacen favoritos.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FavoriteCounterServiceTest {
+
+    //Eventos de los datos de prueba (cada uno empieza con un favorito) e IDs de favorito que no usan los datos de prueba
+    private static final long[] EVENTS = { 101, 102, 103 };
+    private static final long FIRST_ID = 900_000;
+
+    private static final int WRITERS = 6;
+    private static final int OPERATIONS = 150;
+
+    @Autowired
+    private FavoriteCounterService counterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void removeTestFavorites() {
+        jdbcTemplate.update("DELETE FROM favorites WHERE id_favorite >= ?", FIRST_ID);
+        counterService.reconcile();
+    }
+
+    @Test
+    void countersMatchFavoritesAfterConcurrentFlushAndReconcile() throws Exception {
+        counterService.reconcile();
+        AtomicLong nextId = new AtomicLong(FIRST_ID);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        try {
+            Future<?> maintenance = executor.submit(() -> {
+                int round = 0;
+                while (writing.get()) {
+                    if (round++ % 4 == 0) {
+                        counterService.reconcile();
+                    } else {
+                        counterService.flush();
+                    }
+                }
+            });
+
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        long eventId = EVENTS[i % EVENTS.length];
+                        //Usuarios propios de cada hilo y operación, para no chocar con la clave única (usuario, evento)
+                        long userId = 1000 + writer * OPERATIONS + i;
+                        long id = nextId.getAndIncrement();
+                        boolean rollback = i % 5 == 0;
+                        transactionTemplate.executeWithoutResult(status -> {
+                            jdbcTemplate.update("INSERT INTO favorites (id_favorite, favorite_date, user_id, event_id) "
+                                    + "VALUES (?, CURRENT_TIMESTAMP, ?, ?)", id, userId, eventId);
+                            counterService.favoriteAdded(eventId);
+                            if (rollback) {
+                                status.setRollbackOnly();
+                            }
+                        });
+                        if (!rollback && i % 4 == 1) {
+                            transactionTemplate.executeWithoutResult(status -> {
+                                jdbcTemplate.update("DELETE FROM favorites WHERE id_favorite = ?", id);
+                                counterService.favoriteRemoved(eventId);
+                            });
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            maintenance.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (long eventId : EVENTS) {
+            long actual = favorites(eventId);
+            assertThat(actual).isGreaterThan(1);
+            assertThat(counterService.getCount(eventId)).as("evento %d antes de volcar", eventId).isEqualTo(actual);
+        }
+        counterService.flush();
+        for (long eventId : EVENTS) {
+            assertThat(stored(eventId)).as("evento %d tras volcar", eventId).isEqualTo(favorites(eventId));
+        }
+    }
+
+    private long favorites(long eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM favorites WHERE event_id = ?", Long.class, eventId);
+    }
+
+    private long stored(long eventId) {
+        return jdbcTemplate.queryForObject("SELECT favorite_count FROM event_favorite_counts WHERE event_id = ?",
+                Long.class, eventId);
+    }
+}
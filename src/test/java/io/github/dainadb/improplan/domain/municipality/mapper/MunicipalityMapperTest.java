@@ -0,0 +1,45 @@
+package io.github.dainadb.improplan.domain.municipality.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import io.github.dainadb.improplan.config.ModelMapperConfig;
+import io.github.dainadb.improplan.domain.municipality.dto.MunicipalityResponseDto;
+import io.github.dainadb.improplan.domain.municipality.entity.Municipality;
+import io.github.dainadb.improplan.domain.province.entity.Province;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que MunicipalityMapper produce el mismo DTO que la configuración de ModelMapper.
+ */
+class MunicipalityMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapperConfig().modelMapper(new SimpleMeterRegistry());
+    private final MunicipalityMapper municipalityMapper = new MunicipalityMapper();
+
+    @Test
+    void municipalityMatchesModelMapper() {
+        Municipality municipality = Municipality.builder()
+                .id(28079)
+                .name("Madrid")
+                .latitude(new BigDecimal("40.4167"))
+                .longitude(new BigDecimal("-3.7037"))
+                .province(Province.builder().id(28).name("Madrid").build())
+                .build();
+
+        assertThat(municipalityMapper.toResponseDto(municipality))
+                .isEqualTo(modelMapper.map(municipality, MunicipalityResponseDto.class));
+    }
+
+    @Test
+    void municipalityWithoutProvinceMatchesModelMapper() {
+        Municipality municipality = Municipality.builder().id(1).name("Sin provincia").build();
+
+        assertThat(municipalityMapper.toResponseDto(municipality))
+                .isEqualTo(modelMapper.map(municipality, MunicipalityResponseDto.class));
+    }
+}
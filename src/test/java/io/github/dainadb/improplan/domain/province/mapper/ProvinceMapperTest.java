@@ -0,0 +1,45 @@
+package io.github.dainadb.improplan.domain.province.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import io.github.dainadb.improplan.config.ModelMapperConfig;
+import io.github.dainadb.improplan.domain.autonomouscommunity.entity.AutonomousCommunity;
+import io.github.dainadb.improplan.domain.province.dto.ProvinceResponseDto;
+import io.github.dainadb.improplan.domain.province.entity.Province;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que ProvinceMapper produce el mismo DTO que la configuración de ModelMapper.
+ */
+class ProvinceMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapperConfig().modelMapper(new SimpleMeterRegistry());
+    private final ProvinceMapper provinceMapper = new ProvinceMapper();
+
+    @Test
+    void provinceMatchesModelMapper() {
+        Province province = Province.builder()
+                .id(41)
+                .name("Sevilla")
+                .latitude(new BigDecimal("37.3886"))
+                .longitude(new BigDecimal("-5.9823"))
+                .autonomousCommunity(AutonomousCommunity.builder().id(1).name("Andalucía").build())
+                .build();
+
+        assertThat(provinceMapper.toResponseDto(province))
+                .isEqualTo(modelMapper.map(province, ProvinceResponseDto.class));
+    }
+
+    @Test
+    void provinceWithoutCommunityMatchesModelMapper() {
+        Province province = Province.builder().id(2).name("Sin comunidad").build();
+
+        assertThat(provinceMapper.toResponseDto(province))
+                .isEqualTo(modelMapper.map(province, ProvinceResponseDto.class));
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.dainadb.improplan.domain.theme.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import io.github.dainadb.improplan.common.cache.ReferenceDataChangedEvent;
+import io.github.dainadb.improplan.common.cache.ReferenceDataVersion;
+import io.github.dainadb.improplan.common.cache.SerializedResponseCache;
+import io.github.dainadb.improplan.common.response.SerializedJson;
+import io.github.dainadb.improplan.domain.theme.dto.ThemeResponseDto;
+import io.github.dainadb.improplan.domain.theme.entity.Theme;
+import io.github.dainadb.improplan.domain.theme.service.IThemeService;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Comprueba las cabeceras de caché HTTP, las respuestas 304 y la caché de respuestas serializadas de los datos de referencia,
+ * con las temáticas como ejemplo.
+ */
+@ExtendWith(MockitoExtension.class)
+class ThemeRestControllerTest {
+
+    @Mock
+    private IThemeService themeService;
+
+    @InjectMocks
+    private ThemeRestController controller;
+
+    private final ReferenceDataVersion version = new ReferenceDataVersion();
+
+    private final SerializedResponseCache serializedResponseCache = new SerializedResponseCache(100);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(serializedResponseCache, "jsonMapper", JsonMapper.builder().build());
+        ReflectionTestUtils.setField(controller, "serializedResponseCache", serializedResponseCache);
+        ReflectionTestUtils.setField(controller, "referenceDataVersion", version);
+        ReflectionTestUtils.setField(controller, "referenceDataMaxAge", Duration.ofHours(1));
+    }
+
+    @Test
+    void firstRequestReturnsDataWithCacheHeaders() {
+        when(themeService.findAll()).thenReturn(List.of(theme("Música")));
+
+        ResponseEntity<?> response = controller.getAllThemes(request(null));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(body(response)).contains("\"success\":true").contains("\"name\":\"Música\"");
+        assertThat(response.getHeaders().getETag()).isEqualTo(version.current().etag());
+        assertThat(response.getHeaders().getLastModified()).isEqualTo(version.current().lastModified().toEpochMilli());
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+    }
+
+    @Test
+    void currentEtagReturnsNotModifiedWithoutQuerying() {
+        ResponseEntity<?> response = controller.getAllThemes(request(version.current().etag()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(themeService, never()).findAll();
+    }
+
+    @Test
+    void repeatedRequestIsServedFromSerializedCache() {
+        when(themeService.findAll()).thenReturn(List.of(theme("Música")));
+
+        String first = body(controller.getAllThemes(request(null)));
+        String second = body(controller.getAllThemes(request(null)));
+
+        assertThat(second).isEqualTo(first);
+        verify(themeService, times(1)).findAll();
+    }
+
+    @Test
+    void writeThroughGenericCrudChangesEtag() {
+        String oldEtag = version.current().etag();
+        version.onReferenceDataChanged(new ReferenceDataChangedEvent(Theme.class));
+        when(themeService.findAll()).thenReturn(List.of());
+
+        ResponseEntity<?> response = controller.getAllThemes(request(oldEtag));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(oldEtag).isEqualTo(version.current().etag());
+        assertThat(body(response)).contains("\"data\":[]");
+    }
+
+    @Test
+    void cacheKeyIgnoresUnusedParametersAndNameVariants() {
+        ThemeResponseDto music = theme("Música");
+        when(themeService.findByName("Música")).thenReturn(music);
+
+        String first = body(controller.getThemeByName(" Música ", request(null, "name=+M%C3%BAsica+")));
+        String second = body(controller.getThemeByName("MUSICA", request(null, "name=MUSICA&nocache=123")));
+
+        assertThat(second).isEqualTo(first);
+        verify(themeService, times(1)).findByName("Música");
+        verify(themeService, never()).findByName("MUSICA");
+    }
+
+    @Test
+    void emptyResultsAreNotCached() {
+        when(themeService.findAll()).thenReturn(List.of());
+
+        controller.getAllThemes(request(null));
+        controller.getAllThemes(request(null));
+
+        verify(themeService, times(2)).findAll();
+    }
+
+    private static ThemeResponseDto theme(String name) {
+        ThemeResponseDto theme = new ThemeResponseDto();
+        theme.setName(name);
+        return theme;
+    }
+
+    private static String body(ResponseEntity<?> response) {
+        return new String(((SerializedJson) response.getBody()).bytes(), StandardCharsets.UTF_8);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        return request(ifNoneMatch, null);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, String queryString) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/themes");
+        request.setQueryString(queryString);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.dainadb.improplan.domain.user.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import io.github.dainadb.improplan.config.ModelMapperConfig;
+import io.github.dainadb.improplan.domain.auth.dto.LoginResponseDto;
+import io.github.dainadb.improplan.domain.role.entity.Role;
+import io.github.dainadb.improplan.domain.role.entity.Role.RoleType;
+import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
+import io.github.dainadb.improplan.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Comprueba que UserMapper produce los mismos DTOs que la configuración de ModelMapper.
+ */
+class UserMapperTest {
+
+    private final ModelMapper modelMapper = new ModelMapperConfig().modelMapper(new SimpleMeterRegistry());
+    private final UserMapper userMapper = new UserMapper();
+
+    @Test
+    void userResponseMatchesModelMapper() {
+        User user = buildUser(Set.of(RoleType.ROLE_USER, RoleType.ROLE_ADMIN));
+
+        assertThat(userMapper.toResponseDto(user)).isEqualTo(modelMapper.map(user, UserResponseDto.class));
+    }
+
+    @Test
+    void userWithoutRolesMatchesModelMapper() {
+        User user = buildUser(Set.of());
+
+        assertThat(userMapper.toResponseDto(user)).isEqualTo(modelMapper.map(user, UserResponseDto.class));
+    }
+
+    @Test
+    void disabledUserMatchesModelMapper() {
+        User user = buildUser(Set.of(RoleType.ROLE_USER));
+        user.setEnabled(false);
+
+        assertThat(userMapper.toResponseDto(user)).isEqualTo(modelMapper.map(user, UserResponseDto.class));
+    }
+
+    @Test
+    void loginResponseMatchesModelMapper() {
+        User user = buildUser(Set.of(RoleType.ROLE_ADMIN));
+
+        assertThat(userMapper.toLoginResponseDto(user)).isEqualTo(modelMapper.map(user, LoginResponseDto.class));
+    }
+
+    private User buildUser(Set<RoleType> roleTypes) {
+        Set<Role> roles = new HashSet<>();
+        int id = 1;
+        for (RoleType roleType : roleTypes) {
+            roles.add(Role.builder().id(id++).name(roleType).description("desc").build());
+        }
+        return User.builder()
+                .id(21L)
+                .email("luis@example.com")
+                .name("Luis")
+                .surnames("García López")
+                .password("$2a$10$hash")
+                .registrationDate(LocalDateTime.of(2024, 3, 4, 5, 6))
+                .enabled(true)
+                .roles(roles)
+                .build();
+    }
+}
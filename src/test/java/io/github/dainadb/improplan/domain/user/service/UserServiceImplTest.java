@@ -0,0 +1,116 @@
+package io.github.dainadb.improplan.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.dainadb.improplan.common.response.SliceResponse;
+import io.github.dainadb.improplan.domain.auth.token.IAuthTokenService;
+import io.github.dainadb.improplan.domain.user.dto.UserChangePasswordDto;
+import io.github.dainadb.improplan.domain.user.dto.UserResponseDto;
+import io.github.dainadb.improplan.domain.user.entity.User;
+import io.github.dainadb.improplan.domain.user.repository.IUserRepository;
+import io.github.dainadb.improplan.exception.BadRequestException;
+
+/**
+ * Comprueba que los tokens de un usuario solo se revocan si el cambio que lo motiva se confirma
+ * y que el hash de la contraseña nueva se calcula fuera de una transacción. También comprueba el listado
+ * paginado por rol.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceImplTest {
+
+    //Usuarios de los datos de prueba que no usan otras pruebas; uno por prueba para que la revocación
+    //confirmada en una no afecte a los tokens de la otra
+    private static final long ROLLED_BACK_USER = 4998;
+    private static final long COMMITTED_USER = 4999;
+    private static final long PASSWORD_USER = 4997;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private IAuthTokenService authTokenService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void rolledBackDisableKeepsTokensValid() {
+        String token = issueToken(ROLLED_BACK_USER);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.disableUser(ROLLED_BACK_USER);
+            status.setRollbackOnly();
+        });
+
+        assertThat(userRepository.findById(ROLLED_BACK_USER)).get().extracting(User::getEnabled).isEqualTo(true);
+        assertThat(authTokenService.verify(token)).isPresent();
+    }
+
+    @Test
+    void committedDisableRevokesTokens() {
+        String token = issueToken(COMMITTED_USER);
+
+        userService.disableUser(COMMITTED_USER);
+        try {
+            assertThat(authTokenService.verify(token)).isEmpty();
+        } finally {
+            userService.enableUser(COMMITTED_USER);
+        }
+    }
+
+    @Test
+    void changePasswordHashesOutsideTheTransaction() {
+        AtomicBoolean hashedInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            hashedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+        String token = issueToken(PASSWORD_USER);
+
+        userService.changePassword(PASSWORD_USER, new UserChangePasswordDto("nueva-clave", "nueva-clave"));
+
+        assertThat(hashedInTransaction).isFalse();
+        User user = userRepository.findById(PASSWORD_USER).orElseThrow();
+        assertThat(passwordEncoder.matches("nueva-clave", user.getPassword())).isTrue();
+        assertThat(authTokenService.verify(token)).isEmpty();
+    }
+
+    @Test
+    void listsUsersByRoleInSlices() {
+        //Los datos de prueba tienen cinco administradores (IDs 1 a 5)
+        SliceResponse<UserResponseDto> first = userService.findByRole("role_admin", 0, 2);
+        SliceResponse<UserResponseDto> last = userService.findByRole("ROLE_ADMIN", 2, 2);
+
+        assertThat(first.getItems()).extracting(UserResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(last.getItems()).extracting(UserResponseDto::getId).containsExactly(5L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThatThrownBy(() -> userService.findByRole("ROLE_INVENTADO", 0, 2)).isInstanceOf(BadRequestException.class);
+    }
+
+    private String issueToken(long userId) {
+        User user = transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow());
+        return authTokenService.issueToken(user).value();
+    }
+}
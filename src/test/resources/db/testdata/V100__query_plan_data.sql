@@ -0,0 +1,46 @@
+-- Datos de prueba (solo perfil test, H2) para que el optimizador elija los planes con tablas de un tamaño realista:
+-- pocas filas en las tablas de referencia y muchas en las de eventos, fechas, favoritos y usuarios.
+-- Los usa RepositoryQueryPlanTest.
+
+INSERT INTO autonomous_communities (id_autonomous, name) VALUES (1, 'Andalucía');
+
+INSERT INTO provinces (id_province, name, id_autonomous_community)
+SELECT "X", 'Provincia ' || "X", 1 FROM SYSTEM_RANGE(1, 8);
+
+INSERT INTO municipalities (id_municipality, name, id_province)
+SELECT "X", 'Municipio ' || "X", MOD("X", 8) + 1 FROM SYSTEM_RANGE(1, 200);
+
+INSERT INTO themes (id_theme, name) SELECT "X", 'Temática ' || "X" FROM SYSTEM_RANGE(1, 12);
+
+INSERT INTO users (id_user, email, name, surnames, password, registration_date, enabled)
+SELECT "X", 'usuario' || "X" || '@improplan.es', 'Nombre', 'Apellidos', 'x', CURRENT_TIMESTAMP, MOD("X", 50) <> 0
+FROM SYSTEM_RANGE(1, 5000);
+
+INSERT INTO users_roles (id_user, id_role) SELECT "X", CASE WHEN "X" <= 5 THEN 1 ELSE 2 END FROM SYSTEM_RANGE(1, 5000);
+
+-- Eventos: la mayoría pasados; una parte pequeña pendiente o publicada y vigente
+INSERT INTO app_events (id_event, name, summary, description, is_free, price, in_time, status,
+                        id_municipality, id_user, id_theme)
+SELECT "X", 'Evento ' || "X", 'Resumen', 'Descripción', MOD("X", 4) = 0, MOD("X", 4) * 10 + MOD("X", 97),
+       MOD("X", 10) < 2,
+       CASE WHEN MOD("X", 10) = 0 THEN 'PENDING' WHEN MOD("X", 10) = 9 THEN 'DISCARDED' ELSE 'PUBLISHED' END,
+       MOD("X", 200) + 1, MOD("X", 5000) + 1, MOD("X", 12) + 1
+FROM SYSTEM_RANGE(1, 20000);
+
+-- Fechas alrededor de hoy (un año antes y otro después) para que las pruebas puedan usar días relativos a la fecha actual
+INSERT INTO event_dates (id_date, full_date) SELECT "X", DATEADD(DAY, "X" - 365, CURRENT_DATE) FROM SYSTEM_RANGE(1, 730);
+
+INSERT INTO events_dates (id_event, id_date)
+SELECT "X", MOD("X", 730) + 1 FROM SYSTEM_RANGE(1, 20000)
+UNION ALL
+SELECT "X", MOD("X" + 7, 730) + 1 FROM SYSTEM_RANGE(1, 20000);
+
+INSERT INTO favorites (id_favorite, favorite_date, user_id, event_id)
+SELECT "X", CURRENT_TIMESTAMP, MOD("X" * 7, 5000) + 1, "X" FROM SYSTEM_RANGE(1, 20000);
+
+-- Los IDs anteriores se han puesto a mano: los generadores siguen a partir de ellos
+UPDATE id_generators SET last_id = 20000 WHERE entity_name IN ('app_events', 'favorites');
+UPDATE id_generators SET last_id = 5000 WHERE entity_name = 'users';
+ALTER TABLE event_dates ALTER COLUMN id_date RESTART WITH 731;
+
+ANALYZE;